@@ -0,0 +1,100 @@
+package benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulation.AttackOutcome;
+import simulation.BattleManager;
+import simulation.BattleMode;
+import simulation.SimulationRandom;
+import simulation.Startup;
+import simulation.TechGiant;
+
+/**
+ * Benchmarks battle resolution and single attacks.
+ * Combatants are picked round-robin from a seeded population, and their revenue is reset
+ * before each use so every battle starts from the same state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BattleBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int population;
+
+    @Param({Populations.DEFAULT_SEED})
+    private long seed;
+
+    private Startup[] startups;
+    private double[] initialRevenue;
+    private TechGiant techGiant;
+    private SimulationRandom random;
+    private final AttackOutcome outcome = new AttackOutcome();
+    private int next;
+
+    /**
+     * Builds the combatant pool.
+     */
+    @Setup
+    public void setUp() {
+        Populations.silenceConsole();
+        List<Startup> population = Populations.startups(Math.max(2, this.population), seed, false);
+        startups = population.toArray(new Startup[0]);
+        initialRevenue = new double[startups.length];
+        for (int i = 0; i < startups.length; i++) {
+            initialRevenue[i] = startups[i].getRevenue();
+        }
+        techGiant = new TechGiant("Benchmark Giant", 5000);
+        random = SimulationRandom.seeded(seed);
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = (next + 1) % startups.length;
+        startups[index].setRevenue(initialRevenue[index]);
+        return index;
+    }
+
+    @Benchmark
+    public Startup startBattle() {
+        Startup first = startups[nextIndex()];
+        Startup second = startups[nextIndex()];
+        return BattleManager.startBattle(first, second, techGiant, random);
+    }
+
+    @Benchmark
+    public Startup startBattleFast() {
+        Startup first = startups[nextIndex()];
+        Startup second = startups[nextIndex()];
+        return BattleManager.startBattle(first, second, techGiant, random, BattleMode.FAST);
+    }
+
+    @Benchmark
+    public String attack() {
+        Startup attacker = startups[nextIndex()];
+        Startup defender = startups[nextIndex()];
+        return attacker.attack(defender, random);
+    }
+
+    @Benchmark
+    public AttackOutcome attackOutcome() {
+        Startup attacker = startups[nextIndex()];
+        Startup defender = startups[nextIndex()];
+        attacker.attack(defender, random, outcome);
+        return outcome;
+    }
+}
@@ -0,0 +1,90 @@
+package benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulation.SimulationRandom;
+import simulation.Startup;
+import simulation.StartupStore;
+import simulation.events.Event;
+
+/**
+ * Benchmarks applying one event to the whole population.
+ * Revenue and market share are restored after each application so repeated downturns
+ * do not drift the population towards zero or infinity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int population;
+
+    @Param({Populations.DEFAULT_SEED})
+    private long seed;
+
+    @Param({"Economic Downturn", "Regulatory Scrutiny", "Corporate Tax Cuts"})
+    private String eventName;
+
+    private List<Startup> startups;
+    private double[] revenue;
+    private double[] marketShare;
+    private StartupStore store;
+    private Event event;
+
+    /**
+     * Builds the population and records its starting values.
+     */
+    @Setup
+    public void setUp() {
+        Populations.silenceConsole();
+        startups = Populations.startups(population, seed, false);
+        revenue = new double[population];
+        marketShare = new double[population];
+        for (int i = 0; i < population; i++) {
+            revenue[i] = startups.get(i).getRevenue();
+            marketShare[i] = startups.get(i).getMarketShare();
+        }
+        store = new StartupStore(population, SimulationRandom.seeded(seed));
+        for (Startup startup : startups) {
+            store.add(startup.getName(), startup.getType(), startup.getRevenue(),
+                    startup.getMarketShare(), startup.getNetIncome(), startup.isWild());
+        }
+        event = new Event(eventName, "Benchmark event", "Q1");
+    }
+
+    @Benchmark
+    public List<Startup> applyEffects() {
+        event.applyEffects(startups);
+        for (int i = 0; i < population; i++) {
+            Startup startup = startups.get(i);
+            startup.setRevenue(revenue[i]);
+            startup.setMarketShare(marketShare[i]);
+        }
+        return startups;
+    }
+
+    @Benchmark
+    public StartupStore applyEffectsColumnar() {
+        event.applyEffects(store);
+        for (int i = 0; i < population; i++) {
+            store.setRevenue(i, revenue[i]);
+            store.setMarketShare(i, marketShare[i]);
+        }
+        return store;
+    }
+}
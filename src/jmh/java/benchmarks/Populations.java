@@ -0,0 +1,65 @@
+package benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import simulation.Startup;
+import simulation.TechGiant;
+
+/**
+ * Builds seeded startup populations for the benchmarks.
+ * The same seed always produces the same population, so runs are comparable across releases.
+ */
+final class Populations {
+
+    static final String DEFAULT_SEED = "42"; // Default @Param seed of every benchmark
+
+    private static final String[] TYPES =
+        {"Operating Systems", "Social Media", "FinTech", "Real Estate", "Healthcare", "General"};
+
+    private Populations() {
+    }
+
+    /**
+     * Creates a list of startups with attributes drawn from a seeded generator.
+     * @param count number of startups to create
+     * @param seed  seed for the attribute generator
+     * @param wild  whether the startups are wild
+     * @return the population
+     */
+    static List<Startup> startups(int count, long seed, boolean wild) {
+        Random random = new Random(seed);
+        List<Startup> startups = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            startups.add(new Startup("Startup " + i,
+                    TYPES[random.nextInt(TYPES.length)],
+                    500 + random.nextInt(1500),
+                    random.nextInt(40),
+                    random.nextInt(100),
+                    wild, random));
+        }
+        return startups;
+    }
+
+    /**
+     * Creates a Tech Giant that owns the given startups.
+     * @param name     name of the Tech Giant
+     * @param funds    initial funds
+     * @param startups startups to hand over to the giant
+     * @return the Tech Giant
+     */
+    static TechGiant giant(String name, double funds, List<Startup> startups) {
+        TechGiant techGiant = new TechGiant(name, funds);
+        techGiant.setStartups(startups);
+        return techGiant;
+    }
+
+    /**
+     * Silences console output so the benchmarks measure simulation work rather than I/O.
+     */
+    static void silenceConsole() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+}
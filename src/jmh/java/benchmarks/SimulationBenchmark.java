@@ -0,0 +1,72 @@
+package benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulation.SimulationManager;
+import simulation.Startup;
+import simulation.events.Event;
+
+/**
+ * Benchmarks one simulated year of the quarter loop.
+ * The simulation mutates its state, so every invocation starts from a freshly built market.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SimulationBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int population;
+
+    @Param({Populations.DEFAULT_SEED})
+    private long seed;
+
+    private SimulationManager manager;
+
+    @Setup(Level.Trial)
+    public void silence() {
+        Populations.silenceConsole();
+    }
+
+    /**
+     * Builds two Tech Giants sharing the owned population, a set of wild startups and
+     * one event per quarter.
+     */
+    @Setup(Level.Invocation)
+    public void buildMarket() {
+        int owned = Math.max(2, population - population / 10);
+        List<Startup> startups = Populations.startups(owned, seed, false);
+        manager = new SimulationManager(seed);
+        manager.addTechGiant(Populations.giant("Techy Co.", 5000,
+                startups.subList(0, owned / 2)));
+        manager.addTechGiant(Populations.giant("Innovators Inc.", 5000,
+                startups.subList(owned / 2, owned)));
+        for (Startup wild : Populations.startups(population / 10, seed + 1, true)) {
+            manager.addWildStartup(wild);
+        }
+        manager.addEvent(new Event("Corporate Tax Cuts", "Market benefits from tax cuts", "Q1"));
+        manager.addEvent(new Event("Economic Downturn", "Market faces a recession", "Q2"));
+        manager.addEvent(new Event("Regulatory Scrutiny", "Strict regulations", "Q3"));
+    }
+
+    @Benchmark
+    public SimulationManager startSimulation() {
+        manager.startSimulation(1);
+        return manager;
+    }
+}
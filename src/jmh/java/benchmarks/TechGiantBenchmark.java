@@ -0,0 +1,51 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulation.Startup;
+import simulation.TechGiant;
+
+/**
+ * Benchmarks battle-candidate selection for a Tech Giant owning the whole population.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TechGiantBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int population;
+
+    @Param({Populations.DEFAULT_SEED})
+    private long seed;
+
+    private TechGiant techGiant;
+
+    /**
+     * Hands the seeded population to a single Tech Giant.
+     */
+    @Setup
+    public void setUp() {
+        Populations.silenceConsole();
+        techGiant = Populations.giant("Benchmark Giant", 5000,
+                Populations.startups(population, seed, false));
+    }
+
+    @Benchmark
+    public Startup selectStartupForBattle() {
+        return techGiant.selectStartupForBattle();
+    }
+}
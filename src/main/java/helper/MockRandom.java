@@ -1,11 +1,13 @@
 package helper;
 
 import java.util.Random;
+import simulation.SimulationRandom;
 
 /**
  * A mock implementation of Random to control randomness for testing.
+ * It also implements SimulationRandom, so it can drive battles directly.
  */
-public class MockRandom extends Random {
+public class MockRandom extends Random implements SimulationRandom {
     private final double fixedDouble;
     private final int fixedInt;
 
@@ -29,4 +31,9 @@ public class MockRandom extends Random {
     public int nextInt(int bound) {
         return fixedInt % bound; // Ensure the value is within the bound
     }
+
+    @Override
+    public SimulationRandom split() {
+        return this; // Fixed outputs are the same for every split
+    }
 }
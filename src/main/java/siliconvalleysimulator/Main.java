@@ -6,10 +6,16 @@ import patterns.singleton.SimulationController;
 import patterns.strategy.AggressiveStrategy;
 import patterns.strategy.Context;
 import patterns.strategy.DefensiveStrategy;
+import java.io.IOException;
+import java.nio.file.Path;
+import simulation.ConsoleSimulationListener;
+import simulation.SimulationEventBus;
 import simulation.SimulationManager;
 import simulation.Startup;
 import simulation.TechGiant;
 import simulation.events.Event;
+import simulation.scenario.LoadReport;
+import simulation.scenario.ScenarioLoader;
 
 /**
  * Main class that initiates the Silicon Valley Simulator.
@@ -31,8 +37,11 @@ public class Main {
      * The method initializes the simulation, creates buildings, applies strategies,
      * sets up tech giants and events, and starts the simulation for one year.
      * It also adds wild startups to the simulation and displays final results.
+     * When a scenario file is given, its Tech Giants, startups, events and enhancements
+     * replace the built-in ones.
      *
-     * @param args command-line arguments (not used in this method)
+     * @param args command-line arguments: an optional scenario file
+     *             (see {@link ScenarioLoader})
      */
     public static void main(String[] args) {
         System.out.println("\n==================== Silicon Valley Simulation "
@@ -88,7 +97,42 @@ public class Main {
         // Step 4: Setup simulation package
         System.out.println("\nSetting up Simulation...");
         SimulationManager manager = new SimulationManager();
+        if (args.length > 0) {
+            // Load before narrating, so a large scenario is not echoed line by line
+            try {
+                LoadReport report = ScenarioLoader.load(Path.of(args[0]), manager);
+                System.out.println(report + " from " + args[0]);
+            } catch (IOException e) {
+                System.err.println("Error loading scenario: " + e.getMessage());
+                return;
+            }
+            SimulationEventBus.setListener(new ConsoleSimulationListener());
+        } else {
+            SimulationEventBus.setListener(new ConsoleSimulationListener()); // Narrate setup
+            setUpBuiltInScenario(manager);
+        }
+
+        // Start simulation for 1 year
+        System.out.println("\n==================== Simulation Start ====================\n");
+        manager.startSimulation(1);
+
+        // Display startups managed by the Singleton Controller
+        System.out.println("\n==================== Final Results ====================\n");
+        System.out.println("\nFinal startups in the Simulation Controller:");
+        for (Building startup : controller.getStartups()) {
+            System.out.println("- " + startup.getClass().getSimpleName());
+        }
 
+        System.out.println("\n==================== Simulation Completed ====================\n");
+    }
+
+    /**
+     * Adds the built-in scenario: two Tech Giants with one startup each, three events
+     * and two wild startups.
+     *
+     * @param manager the simulation to set up
+     */
+    private static void setUpBuiltInScenario(SimulationManager manager) {
         // Add tech giants to the simulation
         TechGiant techGiant1 = new TechGiant("Techy Co.", 500);
         TechGiant techGiant2 = new TechGiant("Innovators Inc.", 300);
@@ -124,18 +168,5 @@ public class Main {
         manager.addWildStartup(new Startup("SocialWild Inc.", "Social Media", 50, 15, 10, true));
         manager.addWildStartup(new Startup("RealWild Co.", "Real Estate", 70, 10, 5, true));
         System.out.println("Wild Startups added to simulation.");
-
-        // Start simulation for 1 year
-        System.out.println("\n==================== Simulation Start ====================\n");
-        manager.startSimulation(1);
-
-        // Display startups managed by the Singleton Controller
-        System.out.println("\n==================== Final Results ====================\n");
-        System.out.println("\nFinal startups in the Simulation Controller:");
-        for (Building startup : controller.getStartups()) {
-            System.out.println("- " + startup.getClass().getSimpleName());
-        }
-
-        System.out.println("\n==================== Simulation Completed ====================\n");
     }
 }
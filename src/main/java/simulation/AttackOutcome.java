@@ -0,0 +1,123 @@
+package simulation;
+
+/**
+ * Mutable result of a single attack. A battle fills the same instance for every round, so
+ * resolving an attack allocates nothing; the text report is only built when
+ * {@link #describe()} is called. Values are overwritten by the next attack and must be
+ * copied if they are needed afterwards.
+ */
+public final class AttackOutcome {
+
+    private Startup attacker;
+    private Startup defender;
+    private AttackType attackType;
+    private double damage;
+    private boolean missed;         // The battle engine's miss roll: no attack was made
+    private boolean criticalHit;    // The attack's own critical hit: double revenue damage
+    private boolean announcedCritical; // The battle engine's critical roll, reported in text
+    private double remainingRevenue;
+
+    /**
+     * Constructs an empty outcome to be filled by an attack.
+     */
+    public AttackOutcome() {
+    }
+
+    void begin(Startup attacker, Startup defender) {
+        this.attacker = attacker;
+        this.defender = defender;
+        this.attackType = null;
+        this.damage = 0;
+        this.missed = false;
+        this.criticalHit = false;
+        this.announcedCritical = false;
+        this.remainingRevenue = defender.getRevenue();
+    }
+
+    void recordMiss() {
+        this.missed = true;
+    }
+
+    void recordAnnouncedCritical() {
+        this.announcedCritical = true;
+    }
+
+    void recordHit(AttackType attackType, double damage, boolean criticalHit) {
+        this.attackType = attackType;
+        this.damage = damage;
+        this.criticalHit = criticalHit;
+        this.remainingRevenue = defender.getRevenue();
+    }
+
+    public Startup getAttacker() {
+        return attacker;
+    }
+
+    public Startup getDefender() {
+        return defender;
+    }
+
+    /**
+     * Retrieves the attack type used.
+     * @return the attack type, or null if the attack missed
+     */
+    public AttackType getAttackType() {
+        return attackType;
+    }
+
+    /**
+     * Retrieves the ordinal of the attack type used.
+     * @return the attack type ordinal, or -1 if the attack missed
+     */
+    public int getAttackTypeOrdinal() {
+        return attackType == null ? -1 : attackType.ordinal();
+    }
+
+    public double getDamage() {
+        return damage;
+    }
+
+    public boolean isMissed() {
+        return missed;
+    }
+
+    public boolean isCriticalHit() {
+        return criticalHit;
+    }
+
+    public boolean isAnnouncedCritical() {
+        return announcedCritical;
+    }
+
+    /**
+     * Retrieves the defender's revenue right after the attack.
+     * @return the remaining revenue
+     */
+    public double getRemainingRevenue() {
+        return remainingRevenue;
+    }
+
+    /**
+     * Formats the attack summary shown to players.
+     * @return a summary of the attack, including the damage dealt
+     */
+    public String describe() {
+        if (missed) {
+            return attacker.getName() + " missed the attack!";
+        }
+        String report = String.format("%s used %s on %s. Damage: %.2f" + "\n"
+                        + "%s has %.2f remaining."
+                        + "\n--------------------------------------------",
+                attacker.getName(), attackType.getLabel(), defender.getName(),
+                damage, defender.getName(), remainingRevenue);
+        if (announcedCritical) {
+            return attacker.getName() + " landed a critical hit! " + report;
+        }
+        return report;
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+}
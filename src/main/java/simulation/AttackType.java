@@ -0,0 +1,52 @@
+package simulation;
+
+/**
+ * The kinds of attack a startup can make, and the attribute each one damages.
+ */
+public enum AttackType {
+    /** Poaches employees: reduces market share. */
+    TALENT_DRAIN("Talent Drain"),
+    /** Steals know-how: reduces net income. */
+    TRADE_SECRET_THEFT("Trade Secret Theft"),
+    /** Undercuts prices: reduces revenue. */
+    PRICE_UNDERCUTTING("Price Undercutting");
+
+    private static final AttackType[] VALUES = values();
+
+    private final String label;
+
+    AttackType(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Retrieves the display name, e.g. "Talent Drain".
+     * @return the label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Retrieves the attack type with the given ordinal.
+     * @param ordinal the ordinal
+     * @return the attack type
+     */
+    public static AttackType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Finds the attack type with the given display name.
+     * @param label the label, e.g. "Trade Secret Theft"
+     * @return the attack type, or null if no attack type has the label
+     */
+    public static AttackType fromLabel(String label) {
+        for (AttackType type : VALUES) {
+            if (type.label.equals(label)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -1,8 +1,7 @@
 package simulation;
 
-import java.util.Random;
-
-
+import simulation.jfr.BattleResolved;
+import simulation.metrics.SimulationMetrics;
 
 /**
  * Manages battles between startups.
@@ -10,41 +9,105 @@ import java.util.Random;
  */
 public class BattleManager {
 
-    private static final Random random = new Random(); // Reuse Random instance for efficiency
+    static final double MISS_CHANCE = 0.1;          // 10% chance to miss
+    static final double CRITICAL_HIT_CHANCE = 0.2;  // 20% chance for critical hit
 
     /**
-     * Initiates a battle between two startups.
+     * Initiates a battle between two startups using the shared, non-reproducible generator.
      * @param startup1 the first startup
      * @param startup2 the second startup
+     * @param winnerTechGiant the tech giant that may acquire a defeated wild startup
      * @return the winning startup
      */
     public static Startup startBattle(Startup startup1,
                                       Startup startup2, TechGiant winnerTechGiant) {
-        System.out.println("\n==================== Battle Mechanics ====================\n");
-        System.out.println("Battle Start: " + startup1.getName() + " vs. " + startup2.getName());
-        System.out.println("-----------------------------------------------------------");
-
-        // Handle the case where one of the startups has zero revenue initially
-        if (startup1.getRevenue() <= 0) {
-            System.out.println(startup1.getName() + " has zero revenue and cannot fight.");
-            return startup2;
-        }
-        if (startup2.getRevenue() <= 0) {
-            System.out.println(startup2.getName() + " has zero revenue and cannot fight.");
-            return startup1;
-        }
+        return startBattle(startup1, startup2, winnerTechGiant, SimulationRandom.unseeded());
+    }
+
+    /**
+     * Initiates a battle between two startups.
+     * @param startup1 the first startup
+     * @param startup2 the second startup
+     * @param winnerTechGiant the tech giant that may acquire a defeated wild startup
+     * @param random the generator for every roll made during the battle
+     * @return the winning startup
+     */
+    public static Startup startBattle(Startup startup1, Startup startup2,
+                                      TechGiant winnerTechGiant, SimulationRandom random) {
+        return startBattle(startup1, startup2, winnerTechGiant, random, BattleMode.EXACT);
+    }
 
-        while (startup1.getRevenue() > 0 && startup2.getRevenue() > 0) {
-            if (performRound(startup1, startup2, winnerTechGiant)) {
-                return startup1;
+    /**
+     * Initiates a battle between two startups, resolved according to the given mode.
+     * In {@link BattleMode#FAST} listeners are not told about rounds; the outcome, the final
+     * attributes and the counts of attacks, misses and critical hits reported to the
+     * metrics follow the same distribution as an exact battle.
+     * @param startup1 the first startup
+     * @param startup2 the second startup
+     * @param winnerTechGiant the tech giant that may acquire a defeated wild startup
+     * @param random the generator for every roll made during the battle
+     * @param mode how the battle is resolved
+     * @return the winning startup
+     */
+    public static Startup startBattle(Startup startup1, Startup startup2,
+                                      TechGiant winnerTechGiant, SimulationRandom random,
+                                      BattleMode mode) {
+        BattleResolved event = new BattleResolved();
+        event.begin();
+        SimulationListener listener = SimulationEventBus.listener();
+        listener.battleStarted(startup1, startup2);
+
+        Startup winner = null;
+        Startup loser = null;
+        long rounds = 0;
+        long misses = 0;
+        long criticals = 0;
+        if (startup1.getRevenue() <= 0 || startup2.getRevenue() <= 0) {
+            // Handle the case where one of the startups has zero revenue initially
+            winner = startup1.getRevenue() <= 0 ? startup2 : startup1;
+            loser = winner == startup1 ? startup2 : startup1;
+            listener.battleForfeited(winner, loser);
+        } else if (mode == BattleMode.FAST) {
+            FastBattleResolver.Counts counts = new FastBattleResolver.Counts();
+            winner = FastBattleResolver.resolve(startup1, startup2, random, counts);
+            loser = winner == startup1 ? startup2 : startup1;
+            rounds = counts.rounds;
+            misses = counts.misses;
+            criticals = counts.criticals;
+            concludeBattle(winner, loser, winnerTechGiant, listener);
+        } else {
+            AttackOutcome outcome = new AttackOutcome(); // Reused by every round of the battle
+            while (winner == null && startup1.getRevenue() > 0 && startup2.getRevenue() > 0) {
+                for (int turn = 0; turn < 2 && winner == null; turn++) {
+                    Startup attacker = turn == 0 ? startup1 : startup2;
+                    Startup defender = turn == 0 ? startup2 : startup1;
+                    if (performRound(attacker, defender, winnerTechGiant, listener, random,
+                            outcome)) {
+                        winner = attacker;
+                        loser = defender;
+                    }
+                    rounds++;
+                    misses += outcome.isMissed() ? 1 : 0;
+                    criticals += outcome.isCriticalHit() ? 1 : 0;
+                }
             }
-            if (performRound(startup2, startup1, winnerTechGiant)) {
-                return startup2;
+            if (winner == null) {
+                listener.battleDrawn(startup1, startup2);
             }
         }
-        System.out.println("\n==================== Battle Result ====================\n");
-        System.out.println("The battle ended with no winner.");
-        return null; // Should not reach here
+
+        SimulationMetrics metrics = SimulationMetrics.active();
+        if (metrics != null) {
+            metrics.battleResolved(rounds, misses, criticals);
+        }
+        if (event.shouldCommit()) {
+            event.setWinner(winner != null ? winner.getName() : null);
+            event.setLoser(loser != null ? loser.getName() : null);
+            event.setRounds(rounds);
+            event.setMode(mode.name());
+            event.commit();
+        }
+        return winner; // Null only if no round decided the battle
     }
 
     /**
@@ -52,56 +115,100 @@ public class BattleManager {
      * @param attacker the startup performing the attack
      * @param defender the startup being attacked
      * @param winnerTechGiant the tech giant that may acquire the defeated wild startup
+     * @param listener the listener notified about the round
+     * @param random the generator for the round's rolls
+     * @param outcome receives the result of the round's attack
      * @return true if attacker wins, false otherwise
      */
-    private static boolean performRound(Startup attacker,
-                                        Startup defender, TechGiant winnerTechGiant) {
-        System.out.println(performAttack(attacker, defender, winnerTechGiant)); // Attack phase
+    private static boolean performRound(Startup attacker, Startup defender,
+                                        TechGiant winnerTechGiant, SimulationListener listener,
+                                        SimulationRandom random, AttackOutcome outcome) {
+        performAttack(attacker, defender, random, outcome); // Attack phase
+        listener.roundResolved(outcome);
         if (defender.getRevenue() <= 0) {
-            System.out.println("\n==================== Battle Result ====================\n");
-            System.out.println(attacker.getName() + " wins the battle!");
-            attacker.gainExperience(5); // Gain XP for the winner
-            if (winnerTechGiant != null && defender.isWild()) {
-                System.out.println(defender.getName() + " is a wild startup and will be acquired.");
-                winnerTechGiant.addStartup(defender); // Acquire the wild startup
-            }
+            concludeBattle(attacker, defender, winnerTechGiant, listener);
             return true; // Attacker wins
         }
         return false; // Battle continues
     }
 
+    /**
+     * Rewards the winner of a battle and hands a defeated wild startup to the tech giant.
+     * @param winner the winning startup
+     * @param loser the defeated startup
+     * @param winnerTechGiant the tech giant that may acquire the defeated wild startup
+     * @param listener the listener notified about the result
+     */
+    private static void concludeBattle(Startup winner, Startup loser,
+                                       TechGiant winnerTechGiant, SimulationListener listener) {
+        listener.battleResolved(winner, loser);
+        winner.gainExperience(5); // Gain XP for the winner
+        if (winnerTechGiant != null && loser.isWild()) {
+            listener.wildStartupDefeated(winnerTechGiant, loser);
+            winnerTechGiant.acquire(loser); // Acquire the wild startup
+        }
+    }
+
     /**
      * Performs an attack from one startup to another with mechanics like type advantage,
-     * critical hits, and misses.
+     * critical hits, and misses, using the shared, non-reproducible generator.
      * @param attacker the startup performing the attack
      * @param defender the startup being attacked
      * @return a summary of the attack
      */
     public static String performAttack(Startup attacker,
                                        Startup defender, TechGiant winnerTechGiant) {
+        return performAttack(attacker, defender, winnerTechGiant, SimulationRandom.unseeded());
+    }
+
+    /**
+     * Performs an attack from one startup to another with mechanics like type advantage,
+     * critical hits, and misses.
+     * @param attacker the startup performing the attack
+     * @param defender the startup being attacked
+     * @param random the generator for the attack's rolls
+     * @return a summary of the attack
+     */
+    public static String performAttack(Startup attacker, Startup defender,
+                                       TechGiant winnerTechGiant, SimulationRandom random) {
+        AttackOutcome outcome = new AttackOutcome();
+        performAttack(attacker, defender, random, outcome);
+        return outcome.describe();
+    }
+
+    /**
+     * Performs an attack from one startup to another and records the result in a reusable
+     * outcome instead of building a report, so a round allocates nothing.
+     * @param attacker the startup performing the attack
+     * @param defender the startup being attacked
+     * @param random the generator for the attack's rolls
+     * @param outcome receives the result of the attack
+     */
+    public static void performAttack(Startup attacker, Startup defender,
+                                     SimulationRandom random, AttackOutcome outcome) {
 
         // Check for miss chance
-        if (checkMiss()) {
-            return attacker.getName() + " missed the attack!";
+        if (checkMiss(random)) {
+            outcome.begin(attacker, defender);
+            outcome.recordMiss();
+            return;
         }
 
         // Check for critical hit
-        if (checkCriticalHit()) {
-            return attacker.getName() + " landed a critical hit! " + attacker.attack(defender);
+        boolean announcedCritical = checkCriticalHit(random);
+        attacker.attack(defender, random, outcome);
+        if (announcedCritical) {
+            outcome.recordAnnouncedCritical();
         }
-
-
-
-        return attacker.attack(defender);
     }
 
 
     // Helper methods for checks
-    private static boolean checkMiss() {
-        return random.nextDouble() < 0.1; // 10% chance to miss
+    private static boolean checkMiss(SimulationRandom random) {
+        return random.nextDouble() < MISS_CHANCE;
     }
 
-    private static boolean checkCriticalHit() {
-        return random.nextDouble() < 0.2; // 20% chance for critical hit
+    private static boolean checkCriticalHit(SimulationRandom random) {
+        return random.nextDouble() < CRITICAL_HIT_CHANCE;
     }
 }
@@ -0,0 +1,14 @@
+package simulation;
+
+/**
+ * How a battle between two startups is resolved.
+ */
+public enum BattleMode {
+    /** Plays the battle out attack by attack and reports every round. */
+    EXACT,
+    /**
+     * Samples the outcome and the final attributes directly from the per-attack damage
+     * distribution. Rounds are not reported, so listeners only see the start and the result.
+     */
+    FAST
+}
@@ -0,0 +1,168 @@
+package simulation;
+
+import simulation.events.Event;
+import simulation.events.Quarter;
+
+/**
+ * Listener that narrates the simulation on the console, in the wording the simulation
+ * printed before narration went through listeners.
+ */
+public class ConsoleSimulationListener implements SimulationListener {
+
+    private static final String SEPARATOR =
+            "-----------------------------------------------------------";
+
+    @Override
+    public void battleStarted(Startup first, Startup second) {
+        System.out.println("\n==================== Battle Mechanics ====================\n");
+        System.out.println("Battle Start: " + first.getName() + " vs. " + second.getName());
+        System.out.println(SEPARATOR);
+    }
+
+    @Override
+    public void roundResolved(AttackOutcome outcome) {
+        if (!outcome.isMissed()) {
+            System.out.println(outcome.getAttacker().getName()
+                    + " is attacking " + outcome.getDefender().getName() + "!");
+        }
+        System.out.println(outcome.describe());
+    }
+
+    @Override
+    public void battleResolved(Startup winner, Startup loser) {
+        System.out.println("\n==================== Battle Result ====================\n");
+        System.out.println(winner.getName() + " wins the battle!");
+    }
+
+    @Override
+    public void battleForfeited(Startup winner, Startup forfeiter) {
+        System.out.println(forfeiter.getName() + " has zero revenue and cannot fight.");
+    }
+
+    @Override
+    public void battleDrawn(Startup first, Startup second) {
+        System.out.println("\n==================== Battle Result ====================\n");
+        System.out.println("The battle ended with no winner.");
+    }
+
+    @Override
+    public void wildStartupDefeated(TechGiant acquirer, Startup startup) {
+        System.out.println(startup.getName() + " is a wild startup and will be acquired.");
+    }
+
+    @Override
+    public void giantBattleStarted(TechGiant challenger, TechGiant opponent) {
+        System.out.println(challenger.getName() + " is battling " + opponent.getName() + "!");
+    }
+
+    @Override
+    public void giantBattleSkipped(TechGiant challenger, TechGiant opponent) {
+        if (challenger.getStartups().isEmpty() || opponent.getStartups().isEmpty()) {
+            System.out.println(challenger.getName()
+                    + " or " + opponent.getName() + " has no startups left to battle!");
+        } else {
+            System.out.println("No valid startups for battle.");
+        }
+    }
+
+    @Override
+    public void giantBattleSettled(TechGiant winner, Startup startup, TechGiant loser) {
+        System.out.println(winner.getName()
+                + " acquired " + startup.getName() + " from " + loser.getName() + "!");
+    }
+
+    @Override
+    public void acquisition(TechGiant acquirer, Startup startup) {
+        System.out.println(acquirer.getName() + " acquired " + startup.getName() + "!");
+    }
+
+    @Override
+    public void merger(TechGiant acquirer, TechGiant target, int startupCount) {
+        System.out.println(acquirer.getName() + " took over all " + startupCount
+                + " startups of " + target.getName() + "!");
+    }
+
+    @Override
+    public void startupLost(TechGiant owner, Startup startup) {
+        System.out.println(owner.getName() + " lost " + startup.getName() + "!");
+    }
+
+    @Override
+    public void investment(TechGiant investor, Startup startup, double amount, boolean funded) {
+        if (funded) {
+            System.out.println(investor.getName()
+                    + " invested $" + amount + " in " + startup.getName() + ".");
+        } else {
+            System.out.println(investor.getName() + " does not have enough funds to invest!");
+        }
+    }
+
+    @Override
+    public void enhancementPurchased(TechGiant buyer, Enhancement enhancement, boolean funded) {
+        if (funded) {
+            System.out.println(buyer.getName() + " purchased " + enhancement.getName() + ".");
+        } else {
+            System.out.println(buyer.getName()
+                    + " does not have enough funds to purchase " + enhancement.getName() + "!");
+        }
+    }
+
+    @Override
+    public void enhancementApplied(TechGiant owner, Enhancement enhancement) {
+        switch (enhancement.getEffect()) {
+            case LOAN:
+                System.out.println(owner.getName()
+                        + " received a loan of $" + enhancement.getEffectValue() + ".");
+                break;
+            case NONE:
+                System.out.println("Unknown enhancement type: " + enhancement.getType());
+                break;
+            default:
+                break; // Revenue boosts are reported per startup
+        }
+    }
+
+    @Override
+    public void revenueBoosted(Startup startup, Enhancement enhancement, double revenueBefore) {
+        System.out.println(startup.getName()
+                + " revenue boosted by " + (enhancement.getEffectValue() * 100) + "%: "
+                + "From $" + revenueBefore + " to $" + startup.getRevenue() + ".");
+    }
+
+    @Override
+    public void eventPhaseStarted(Quarter quarter) {
+        System.out.println("\n==================== Event Handling ====================\n");
+    }
+
+    @Override
+    public void eventTriggered(Event event, int startupCount) {
+        System.out.println(SEPARATOR);
+        System.out.println("Applying event: " + event.getName() + " (" + event.getQuarter() + ")");
+    }
+
+    @Override
+    public void eventApplied(Event event, Startup startup,
+                             double revenueBefore, double marketShareBefore) {
+        System.out.println("Before Event: " + startup.getName()
+                + " | Revenue: " + revenueBefore
+                + " | Market Share: " + marketShareBefore);
+        String effect = event.getEffect().describe(startup, revenueBefore, marketShareBefore);
+        if (effect != null) {
+            System.out.println(effect);
+        }
+        System.out.println("After Event: " + startup.getName()
+                + " | Revenue: " + startup.getRevenue()
+                + " | Market Share: " + startup.getMarketShare());
+        System.out.println(SEPARATOR + "\n");
+    }
+
+    @Override
+    public void experienceGained(Startup startup, int points) {
+        System.out.println(startup.getName() + " gained " + points + " XP!");
+    }
+
+    @Override
+    public void evolved(Startup startup, String stage) {
+        System.out.println(startup.getName() + " has evolved into a " + stage + "!");
+    }
+}
@@ -12,6 +12,7 @@ public class Enhancement {
     private double cost;        // Cost of the enhancement
     private int duration;       // Duration in quarters (0 for one-time effects)
     private double effectValue; // Value of the effect (e.g., funds added, revenue boost)
+    private final EnhancementEffect effect; // What the type does each quarter
 
     /**
      * Constructor to create a new enhancement.
@@ -28,6 +29,7 @@ public class Enhancement {
         this.cost = cost;
         this.duration = duration;
         this.effectValue = effectValue;
+        this.effect = EnhancementEffect.forType(type);
     }
 
     // Getters
@@ -51,6 +53,24 @@ public class Enhancement {
         return effectValue;
     }
 
+    /**
+     * Retrieves what the enhancement does each quarter it is in effect.
+     * @return The effect of the enhancement's type.
+     */
+    public EnhancementEffect getEffect() {
+        return effect;
+    }
 
-
+    /**
+     * Retrieves how many quarters the enhancement stays active once purchased.
+     * Enhancements with an effect are applied at least once; those without one and no
+     * duration stay active indefinitely.
+     * @return The number of quarters, or -1 for no limit.
+     */
+    int getActiveQuarters() {
+        if (duration > 0) {
+            return duration;
+        }
+        return effect == EnhancementEffect.NONE ? -1 : 1;
+    }
 }
@@ -0,0 +1,60 @@
+package simulation;
+
+/**
+ * What an enhancement does each quarter it is in effect, decided once from its type.
+ */
+public enum EnhancementEffect {
+    /** Adds the effect value to the owner's funds. */
+    LOAN("Loan") {
+        @Override
+        void apply(TechGiant owner, Enhancement enhancement) {
+            owner.getLedger().credit(enhancement.getEffectValue(), FundsLedger.Transaction.LOAN);
+        }
+    },
+    /** Raises the revenue of every owned startup by the effect value, as a fraction. */
+    REVENUE("Revenue") {
+        @Override
+        void apply(TechGiant owner, Enhancement enhancement) {
+            SimulationListener listener = SimulationEventBus.listener();
+            for (Startup startup : owner.getStartups()) {
+                double initialRevenue = startup.getRevenue();
+                double revenueBoost = initialRevenue * enhancement.getEffectValue();
+                startup.setRevenue(initialRevenue + revenueBoost);
+                listener.revenueBoosted(startup, enhancement, initialRevenue);
+            }
+        }
+    },
+    /** Unknown types: the enhancement stays active but does nothing. */
+    NONE(null) {
+        @Override
+        void apply(TechGiant owner, Enhancement enhancement) {
+        }
+    };
+
+    private final String type;
+
+    EnhancementEffect(String type) {
+        this.type = type;
+    }
+
+    /**
+     * Finds the effect of an enhancement type.
+     * @param type The enhancement type (e.g., "Loan"), matched exactly.
+     * @return The effect, or {@link #NONE} for an unknown or null type.
+     */
+    public static EnhancementEffect forType(String type) {
+        for (EnhancementEffect effect : values()) {
+            if (effect.type != null && effect.type.equals(type)) {
+                return effect;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Applies one quarter of the effect.
+     * @param owner       The Tech Giant owning the enhancement.
+     * @param enhancement The enhancement.
+     */
+    abstract void apply(TechGiant owner, Enhancement enhancement);
+}
@@ -0,0 +1,169 @@
+package simulation;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps a Tech Giant's active enhancements and retires them when their duration is over.
+ *
+ * <p>Time is counted in quarters: every {@link #advance(TechGiant)} is one tick. An
+ * enhancement bought before a tick is in effect from that tick on, for as many ticks as
+ * it lasts. Expiry dates sit on a hierarchical timing wheel of 64-slot levels, where level
+ * k holds the enhancements expiring within 64^(k+1) ticks, and a slot is only cascaded to
+ * the level below when its range starts. A tick therefore touches the enhancements in
+ * effect and the ones expiring, never the rest, and adding one costs constant time.
+ *
+ * <p>Active enhancements are applied in the order they were added, whatever order they
+ * expire in. A schedule rebuilt from {@link #view()} and {@link #quartersLeft(int)} thus
+ * applies its revenue boosts in the same floating-point order as the original.
+ */
+final class EnhancementScheduler {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    private final ArrayList<Timer> active = new ArrayList<>(); // In effect, in added order
+    private final Timer[][] wheel = new Timer[LEVELS][]; // Levels allocated on first use
+    private final List<Enhancement> view = new AbstractList<Enhancement>() {
+        @Override
+        public Enhancement get(int index) {
+            return active.get(index).enhancement;
+        }
+
+        @Override
+        public int size() {
+            return active.size();
+        }
+    };
+    private long tick;
+
+    /**
+     * An active enhancement and when it expires.
+     */
+    private static final class Timer {
+        private final Enhancement enhancement;
+        private final long expiry; // Last tick in effect, or -1 for never
+        private Timer next;        // Next timer in the same wheel slot
+
+        private Timer(Enhancement enhancement, long expiry) {
+            this.enhancement = enhancement;
+            this.expiry = expiry;
+        }
+    }
+
+    /**
+     * Activates an enhancement for its full duration.
+     * @param enhancement The purchased enhancement.
+     */
+    void add(Enhancement enhancement) {
+        add(enhancement, enhancement.getActiveQuarters());
+    }
+
+    /**
+     * Activates an enhancement for the given number of ticks.
+     * @param enhancement  The enhancement.
+     * @param quartersLeft Ticks it stays in effect, or -1 for no limit.
+     */
+    void add(Enhancement enhancement, int quartersLeft) {
+        if (quartersLeft == 0 || quartersLeft < -1) {
+            throw new IllegalArgumentException("Quarters left must be positive or -1.");
+        }
+        Timer timer = new Timer(enhancement, quartersLeft < 0 ? -1 : tick + quartersLeft);
+        active.add(timer);
+        if (timer.expiry >= 0) {
+            schedule(timer);
+        }
+    }
+
+    /**
+     * Plays one quarter: applies every enhancement in effect, then retires those whose
+     * last quarter this was.
+     * @param owner The Tech Giant owning the enhancements.
+     */
+    void advance(TechGiant owner) {
+        tick++;
+        cascade();
+        for (int i = 0; i < active.size(); i++) {
+            Enhancement enhancement = active.get(i).enhancement;
+            enhancement.getEffect().apply(owner, enhancement);
+            SimulationEventBus.listener().enhancementApplied(owner, enhancement);
+        }
+        Timer[] level = wheel[0];
+        if (level == null) {
+            return;
+        }
+        int slot = (int) (tick & (SLOTS - 1));
+        Timer expired = level[slot];
+        if (expired == null) {
+            return;
+        }
+        level[slot] = null;
+        while (expired != null) {
+            Timer next = expired.next;
+            expired.next = null;
+            expired = next;
+        }
+        // Every timer in the slot expires at this tick; keep the others in added order
+        active.removeIf(timer -> timer.expiry == tick);
+    }
+
+    /**
+     * Retrieves the active enhancements, in the order they are applied.
+     * @return A read-only live view.
+     */
+    List<Enhancement> view() {
+        return view;
+    }
+
+    /**
+     * Retrieves how many more quarters an active enhancement stays in effect.
+     * @param index Position in {@link #view()}.
+     * @return The number of quarters, or -1 for no limit.
+     */
+    int quartersLeft(int index) {
+        long expiry = active.get(index).expiry;
+        return expiry < 0 ? -1 : (int) (expiry - tick);
+    }
+
+    int size() {
+        return active.size();
+    }
+
+    /**
+     * Moves the timers of every level whose current slot starts at this tick down to the
+     * level below, highest level first, so they reach level 0 in time.
+     */
+    private void cascade() {
+        for (int k = LEVELS - 1; k > 0; k--) {
+            Timer[] level = wheel[k];
+            if (level == null || (tick & ((1L << (SLOT_BITS * k)) - 1)) != 0) {
+                continue;
+            }
+            int slot = (int) ((tick >>> (SLOT_BITS * k)) & (SLOTS - 1));
+            Timer timer = level[slot];
+            level[slot] = null;
+            while (timer != null) {
+                Timer next = timer.next;
+                schedule(timer);
+                timer = next;
+            }
+        }
+    }
+
+    /**
+     * Files a timer on the lowest level where its expiry and the current tick agree on
+     * every higher digit.
+     */
+    private void schedule(Timer timer) {
+        long differing = timer.expiry ^ tick;
+        int k = differing == 0 ? 0 : (63 - Long.numberOfLeadingZeros(differing)) / SLOT_BITS;
+        if (wheel[k] == null) {
+            wheel[k] = new Timer[SLOTS];
+        }
+        int slot = (int) ((timer.expiry >>> (SLOT_BITS * k)) & (SLOTS - 1));
+        timer.next = wheel[k][slot];
+        wheel[k][slot] = timer;
+    }
+}
@@ -0,0 +1,260 @@
+package simulation;
+
+/**
+ * Resolves a battle without playing it out round by round.
+ *
+ * <p>Every attack in {@link BattleManager} independently either removes one or two units of
+ * base damage from the defender's revenue, or hits its market share or net income, or does
+ * nothing. A startup therefore falls after the first attack that takes its cumulative revenue
+ * damage to {@code ceil(revenue / baseDamage)} units. The resolver samples that first-passage
+ * count for both sides. The first attacker wins if it needs no more attacks than its opponent.
+ * The winner's attributes are then read off its own sampled damage path at the number of
+ * attacks it absorbed.
+ *
+ * <p>Small battles are sampled exactly. For long battles the counts are drawn from their
+ * normal approximations, so the cost is constant regardless of revenue.
+ *
+ * <p>The attacks, misses and critical hits of the sampled paths are reported through
+ * {@link Counts}, so a fast battle shows up in the metrics like an exact one.
+ */
+final class FastBattleResolver {
+
+    /** Counts up to this size are sampled draw by draw instead of approximated. */
+    private static final int EXACT_LIMIT = 64;
+
+    private static final double LANDS =
+            (1 - BattleManager.MISS_CHANCE) * (1 - Startup.MISS_CHANCE);
+    /** An attack that lands on revenue with a critical hit: two units. */
+    private static final double DOUBLE_HIT = LANDS * Startup.CRITICAL_HIT_CHANCE;
+    /** An attack that lands with each of the three attack types without a critical hit. */
+    private static final double TYPED_HIT =
+            LANDS * (1 - Startup.CRITICAL_HIT_CHANCE) / Startup.ATTACK_TYPE_COUNT;
+    private static final double REVENUE_HIT = DOUBLE_HIT + TYPED_HIT;
+    /** Share of revenue hits that are critical. */
+    private static final double DOUBLE_SHARE = DOUBLE_HIT / REVENUE_HIT;
+    /** Share of the other attacks that drain talent, then share of the rest that steal secrets. */
+    private static final double TALENT_SHARE = TYPED_HIT / (1 - REVENUE_HIT);
+    private static final double THEFT_SHARE = TYPED_HIT / (1 - REVENUE_HIT - TYPED_HIT);
+    /** Share of the attacks that did no damage that the battle engine's miss roll stopped. */
+    private static final double ENGINE_MISS_SHARE = BattleManager.MISS_CHANCE / (1 - LANDS);
+
+    /**
+     * Mutable tally of a fast battle, matching what an exact battle counts round by round.
+     * Each resolution overwrites it.
+     */
+    static final class Counts {
+        long rounds;    // Attacks made by both sides
+        long misses;    // Attacks stopped by the battle engine's miss roll
+        long criticals; // Attacks that rolled a critical hit, landed or not
+    }
+
+    private FastBattleResolver() {
+    }
+
+    /**
+     * Resolves a battle in which startup1 attacks first. Both startups must have positive
+     * revenue. Attributes are updated as if the battle had been played out.
+     *
+     * @param startup1 the startup that attacks first
+     * @param startup2 the other startup
+     * @param random   the generator for the battle
+     * @param counts   receives the battle's attacks, misses and critical hits
+     * @return the winning startup
+     */
+    static Startup resolve(Startup startup1, Startup startup2, SimulationRandom random,
+                           Counts counts) {
+        double damageTo2 = startup1.baseDamageAgainst(startup2);
+        double damageTo1 = startup2.baseDamageAgainst(startup1);
+        DamagePath path2 = DamagePath.sample(units(startup2.getRevenue(), damageTo2), random);
+        DamagePath path1 = DamagePath.sample(units(startup1.getRevenue(), damageTo1), random);
+
+        Startup winner;
+        DamagePath absorbedByWinner;
+        DamagePath absorbedByLoser;
+        long idle;
+        if (path2.attacks <= path1.attacks) {
+            // startup2 fell to startup1's attack number path2.attacks, after absorbing one fewer
+            winner = startup1;
+            absorbedByWinner = path1.truncate(path2.attacks - 1, random);
+            absorbedByLoser = path2;
+            idle = absorbedByWinner.applyTo(startup1, damageTo1, random);
+            idle += path2.applyTo(startup2, damageTo2, random);
+        } else {
+            winner = startup2;
+            absorbedByWinner = path2.truncate(path1.attacks, random);
+            absorbedByLoser = path1;
+            idle = absorbedByWinner.applyTo(startup2, damageTo2, random);
+            idle += path1.applyTo(startup1, damageTo1, random);
+        }
+        // Drawn last, so the battle's outcome does not depend on the tally
+        counts.rounds = absorbedByWinner.attacks + absorbedByLoser.attacks;
+        counts.misses = binomial(idle, ENGINE_MISS_SHARE, random);
+        // The exact engine also rolls critical hits for attacks that then miss the defender
+        counts.criticals = absorbedByWinner.doubles + absorbedByLoser.doubles
+                + binomial(idle - counts.misses, Startup.CRITICAL_HIT_CHANCE, random);
+        return winner;
+    }
+
+    /**
+     * Computes how many units of damage bring revenue to zero.
+     */
+    private static long units(double revenue, double baseDamage) {
+        long units = Math.max(1, (long) Math.ceil(revenue / baseDamage));
+        while (revenue - units * baseDamage > 0) {
+            units++;
+        }
+        while (units > 1 && revenue - (units - 1) * baseDamage <= 0) {
+            units--;
+        }
+        return units;
+    }
+
+    /**
+     * The attacks absorbed by one startup: how many there were, how many hit revenue and how
+     * many of those were critical. The last attack of a complete path is a revenue hit.
+     */
+    private static final class DamagePath {
+        final long attacks;
+        final long revenueHits;
+        final long doubles;
+        final boolean lastIsDouble;
+        final boolean complete;
+
+        DamagePath(long attacks, long revenueHits, long doubles,
+                   boolean lastIsDouble, boolean complete) {
+            this.attacks = attacks;
+            this.revenueHits = revenueHits;
+            this.doubles = doubles;
+            this.lastIsDouble = lastIsDouble;
+            this.complete = complete;
+        }
+
+        /**
+         * Samples the path up to the attack that reaches the given number of units.
+         */
+        static DamagePath sample(long units, SimulationRandom random) {
+            long hits;
+            long doubles;
+            boolean lastIsDouble;
+            if (units <= EXACT_LIMIT) {
+                long reached = 0;
+                hits = 0;
+                doubles = 0;
+                lastIsDouble = false;
+                while (reached < units) {
+                    lastIsDouble = random.nextDouble() < DOUBLE_SHARE;
+                    reached += lastIsDouble ? 2 : 1;
+                    hits++;
+                    doubles += lastIsDouble ? 1 : 0;
+                }
+            } else {
+                // A walk of one- and two-unit steps lands exactly on a level with this probability
+                double q = DOUBLE_SHARE;
+                double landsExactly = (1 - Math.pow(-q, units + 1)) / (1 + q);
+                boolean overshoots = random.nextDouble() >= landsExactly;
+                long level = overshoots ? units + 1 : units;
+                // Renewal approximation for the number of two-unit steps up to the level
+                double mean = level * q / (1 + q);
+                double sd = Math.sqrt(level * q * (1 - q) / Math.pow(1 + q, 3));
+                doubles = clamp(Math.round(mean + sd * gaussian(random)),
+                        overshoots ? 1 : 0, level / 2);
+                hits = level - doubles;
+                lastIsDouble = overshoots || doubles == hits
+                        || (doubles > 0 && random.nextDouble() < q);
+            }
+            long misses = negativeBinomial(hits, REVENUE_HIT, random);
+            return new DamagePath(hits + misses, hits, doubles, lastIsDouble, true);
+        }
+
+        /**
+         * Takes the prefix of a complete path made of its first attacks. The prefix never
+         * contains the final revenue hit, so its revenue damage stays below the threshold.
+         */
+        DamagePath truncate(long prefix, SimulationRandom random) {
+            long earlierHits = revenueHits - 1;
+            long earlierDoubles = doubles - (lastIsDouble ? 1 : 0);
+            long hits = hypergeometric(attacks - 1, earlierHits, prefix, random);
+            long prefixDoubles = hypergeometric(earlierHits, earlierDoubles, hits, random);
+            return new DamagePath(prefix, hits, prefixDoubles, false, false);
+        }
+
+        /**
+         * Applies the path's damage to the defender. The attacks that missed revenue are split
+         * between talent drain, trade secret theft and outright misses.
+         * @return the number of attacks that did no damage at all
+         */
+        long applyTo(Startup defender, double baseDamage, SimulationRandom random) {
+            long others = attacks - revenueHits;
+            long talent = binomial(others, TALENT_SHARE, random);
+            long theft = binomial(others - talent, THEFT_SHARE, random);
+            double revenueDamage = (revenueHits + doubles) * baseDamage;
+            defender.takeDamage(complete ? Math.max(revenueDamage, defender.getRevenue())
+                    : revenueDamage, AttackType.PRICE_UNDERCUTTING);
+            defender.takeDamage(talent * baseDamage, AttackType.TALENT_DRAIN);
+            defender.takeDamage(theft * baseDamage, AttackType.TRADE_SECRET_THEFT);
+            return others - talent - theft;
+        }
+    }
+
+    private static long binomial(long n, double p, SimulationRandom random) {
+        if (n <= EXACT_LIMIT) {
+            long successes = 0;
+            for (long i = 0; i < n; i++) {
+                if (random.nextDouble() < p) {
+                    successes++;
+                }
+            }
+            return successes;
+        }
+        double sd = Math.sqrt(n * p * (1 - p));
+        return clamp(Math.round(n * p + sd * gaussian(random)), 0, n);
+    }
+
+    /**
+     * Samples the number of failures before the given number of successes.
+     */
+    private static long negativeBinomial(long successes, double p, SimulationRandom random) {
+        if (successes <= EXACT_LIMIT) {
+            double logFailure = Math.log(1 - p);
+            long failures = 0;
+            for (long i = 0; i < successes; i++) {
+                failures += (long) Math.floor(Math.log(1 - random.nextDouble()) / logFailure);
+            }
+            return failures;
+        }
+        double mean = successes * (1 - p) / p;
+        double sd = Math.sqrt(successes * (1 - p)) / p;
+        return Math.max(0, Math.round(mean + sd * gaussian(random)));
+    }
+
+    /**
+     * Samples how many marked items are among draws taken without replacement.
+     */
+    private static long hypergeometric(long population, long marked, long draws,
+                                       SimulationRandom random) {
+        if (draws <= EXACT_LIMIT) {
+            long found = 0;
+            for (long i = 0; i < draws; i++) {
+                if (random.nextDouble() * (population - i) < marked - found) {
+                    found++;
+                }
+            }
+            return found;
+        }
+        double share = (double) marked / population;
+        double variance = population <= 1 ? 0
+                : draws * share * (1 - share) * (population - draws) / (population - 1);
+        long low = Math.max(0, draws - (population - marked));
+        return clamp(Math.round(draws * share + Math.sqrt(variance) * gaussian(random)),
+                low, Math.min(marked, draws));
+    }
+
+    private static double gaussian(SimulationRandom random) {
+        double radius = Math.sqrt(-2 * Math.log(1 - random.nextDouble()));
+        return radius * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static long clamp(long value, long low, long high) {
+        return Math.max(low, Math.min(high, value));
+    }
+}
@@ -0,0 +1,374 @@
+package simulation;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds a Tech Giant's funds and a journal of every change to them.
+ *
+ * <p>The balance is a double kept as its raw bits in an AtomicLong and changed by
+ * compare-and-set, so a debit checks and deducts in one atomic step and two threads
+ * can never both spend the same money. No lock is taken to change the balance.
+ *
+ * <p>The journal is append-only and stores primitives only: each entry is a transaction
+ * kind, the signed amount and the balance right after it, in chunks that double in size,
+ * so appending never copies earlier entries. A thread reserves a slot with one atomic
+ * increment and fills it in. Under contention neighbouring entries may be journalled in a
+ * slightly different order than they hit the balance; the balance recorded with each
+ * entry still places it exactly. Read the journal once the threads that append to it are
+ * done, for instance between two quarters.
+ *
+ * <p>A long simulation journals without end, so the journal can be compacted: the oldest
+ * entries are dropped and folded into a carried-forward opening balance and per-kind
+ * totals. Entries keep their positions, so a compacted journal starts at
+ * {@link #getFirstIndex()} rather than 0. Like reading, compact between quarters.
+ */
+public final class FundsLedger {
+
+    /**
+     * What a journal entry was for.
+     */
+    public enum Transaction {
+        /** Money put into a startup. */
+        INVESTMENT,
+        /** Purchase of an enhancement. */
+        ENHANCEMENT,
+        /** Money received from a loan enhancement. */
+        LOAN,
+        /** Acquisition of a wild startup. */
+        ACQUISITION,
+        /** Building a new startup. */
+        CONSTRUCTION,
+        /** Balance set directly. */
+        ADJUSTMENT
+    }
+
+    /**
+     * Receives journal entries, in journal order.
+     */
+    @FunctionalInterface
+    public interface JournalVisitor {
+        /**
+         * Called once per entry.
+         * @param index   Position of the entry in the journal.
+         * @param kind    What the entry was for.
+         * @param amount  Change to the balance; negative for money spent.
+         * @param balance Balance right after the change.
+         */
+        void entry(long index, Transaction kind, double amount, double balance);
+    }
+
+    static final int FIRST_CHUNK = 16; // Entries in the first chunk; each next one is twice as big
+
+    private static final Transaction[] KINDS = Transaction.values();
+
+    private double openingBalance; // Balance before the oldest entry kept
+    private final AtomicLong balanceBits;
+    private final AtomicLong reserved = new AtomicLong(); // Journal slots handed out
+    private long firstIndex; // Entries before this one were compacted away
+    private final double[] carriedTotals = new double[KINDS.length]; // Of dropped entries
+    // Chunk c holds FIRST_CHUNK << c entries; amounts and balances are interleaved
+    private volatile double[][] values = new double[0][];
+    private volatile byte[][] kinds = new byte[0][];
+
+    /**
+     * Creates a ledger with an empty journal.
+     * @param openingBalance The starting balance.
+     */
+    public FundsLedger(double openingBalance) {
+        this.openingBalance = openingBalance;
+        this.balanceBits = new AtomicLong(Double.doubleToRawLongBits(openingBalance));
+    }
+
+    /**
+     * Retrieves the current balance.
+     * @return The balance.
+     */
+    public double getBalance() {
+        return Double.longBitsToDouble(balanceBits.get());
+    }
+
+    /**
+     * Retrieves the balance right before the oldest entry in the journal. Until the
+     * journal is compacted, this is the balance the ledger started with.
+     * @return The opening balance.
+     */
+    public double getOpeningBalance() {
+        return openingBalance;
+    }
+
+    /**
+     * Deducts an amount if the balance covers it. The check and the deduction are one
+     * atomic step.
+     * @param amount The amount to deduct.
+     * @param kind   What the money is for.
+     * @return true if the amount was deducted, false if the balance was too low.
+     */
+    public boolean tryDebit(double amount, Transaction kind) {
+        while (true) {
+            long current = balanceBits.get();
+            double balance = Double.longBitsToDouble(current);
+            if (!(balance >= amount)) {
+                return false;
+            }
+            double after = balance - amount;
+            if (balanceBits.compareAndSet(current, Double.doubleToRawLongBits(after))) {
+                record(kind, -amount, after);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Adds an amount to the balance.
+     * @param amount The amount to add.
+     * @param kind   Where the money comes from.
+     */
+    public void credit(double amount, Transaction kind) {
+        while (true) {
+            long current = balanceBits.get();
+            double after = Double.longBitsToDouble(current) + amount;
+            if (balanceBits.compareAndSet(current, Double.doubleToRawLongBits(after))) {
+                record(kind, amount, after);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Replaces the balance, journalling the difference as an adjustment.
+     * @param balance The new balance.
+     */
+    public void setBalance(double balance) {
+        long before = balanceBits.getAndSet(Double.doubleToRawLongBits(balance));
+        record(Transaction.ADJUSTMENT, balance - Double.longBitsToDouble(before), balance);
+    }
+
+    /**
+     * Appends a saved journal entry as it was, without recomputing it, and moves the
+     * balance to the balance after it. Used when resuming from a checkpoint.
+     * @param kind    What the entry was for.
+     * @param amount  Change to the balance.
+     * @param balance Balance right after the change.
+     */
+    void restoreEntry(Transaction kind, double amount, double balance) {
+        balanceBits.set(Double.doubleToRawLongBits(balance));
+        record(kind, amount, balance);
+    }
+
+    /**
+     * Replaces the balance without journalling it. Used when resuming from a checkpoint,
+     * after the saved entries have been restored.
+     * @param balance The saved balance.
+     */
+    void restoreBalance(double balance) {
+        balanceBits.set(Double.doubleToRawLongBits(balance));
+    }
+
+    /**
+     * Retrieves the number of entries ever journalled, including any compacted away.
+     * @return The journal size.
+     */
+    public long getJournalSize() {
+        return reserved.get();
+    }
+
+    /**
+     * Retrieves the position of the oldest entry in the journal.
+     * @return 0, or the number of entries compacted away.
+     */
+    public long getFirstIndex() {
+        return firstIndex;
+    }
+
+    /**
+     * Drops the oldest entries so that at most the given number remain, folding them into
+     * the opening balance and the totals. Entries kept are copied into fresh chunks, so
+     * the memory held is in proportion to the entries kept.
+     * @param retained The number of most recent entries to keep.
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    public void compact(long retained) {
+        if (retained < 0) {
+            throw new IllegalArgumentException("Retained entries cannot be negative.");
+        }
+        long size = reserved.get();
+        long newFirst = size - retained;
+        if (newFirst <= firstIndex) {
+            return;
+        }
+        int kept = (int) retained;
+        byte[] keptKinds = new byte[kept];
+        double[] keptValues = new double[2 * kept];
+        replay((index, kind, amount, balance) -> {
+            if (index < newFirst) {
+                carriedTotals[kind.ordinal()] += amount;
+                openingBalance = balance;
+            } else {
+                int i = (int) (index - newFirst);
+                keptKinds[i] = (byte) kind.ordinal();
+                keptValues[2 * i] = amount;
+                keptValues[2 * i + 1] = balance;
+            }
+        });
+        firstIndex = newFirst;
+        values = new double[0][];
+        kinds = new byte[0][];
+        for (int i = 0; i < kept; i++) {
+            store(i, KINDS[keptKinds[i]], keptValues[2 * i], keptValues[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Starts a restored journal at the given position, with the totals of the entries
+     * compacted away before it. Used when resuming from a checkpoint, before the saved
+     * entries are restored.
+     * @param first  Position of the oldest saved entry.
+     * @param totals Carried-forward total of each transaction kind, in ordinal order.
+     */
+    void restoreStart(long first, double[] totals) {
+        firstIndex = first;
+        reserved.set(first);
+        System.arraycopy(totals, 0, carriedTotals, 0, carriedTotals.length);
+    }
+
+    /**
+     * Retrieves the total of one kind of the entries compacted away.
+     * @param kind The transaction kind.
+     * @return The carried-forward total.
+     */
+    double getCarriedTotal(Transaction kind) {
+        return carriedTotals[kind.ordinal()];
+    }
+
+    /**
+     * Retrieves what a journal entry was for.
+     * @param index Position of the entry.
+     * @return The transaction kind.
+     * @throws IndexOutOfBoundsException if there is no such entry or it was compacted away.
+     */
+    public Transaction getKind(long index) {
+        long position = checkIndex(index);
+        int chunk = chunkOf(position);
+        return KINDS[kinds[chunk][offsetIn(chunk, position)]];
+    }
+
+    /**
+     * Retrieves the signed amount of a journal entry; negative for money spent.
+     * @param index Position of the entry.
+     * @return The change to the balance.
+     * @throws IndexOutOfBoundsException if there is no such entry or it was compacted away.
+     */
+    public double getAmount(long index) {
+        long position = checkIndex(index);
+        int chunk = chunkOf(position);
+        return values[chunk][2 * offsetIn(chunk, position)];
+    }
+
+    /**
+     * Retrieves the balance right after a journal entry.
+     * @param index Position of the entry.
+     * @return The balance after the change.
+     * @throws IndexOutOfBoundsException if there is no such entry or it was compacted away.
+     */
+    public double getBalanceAfter(long index) {
+        long position = checkIndex(index);
+        int chunk = chunkOf(position);
+        return values[chunk][2 * offsetIn(chunk, position) + 1];
+    }
+
+    /**
+     * Walks the journal in order without creating an object per entry, from the oldest
+     * entry kept.
+     * @param visitor Receives each entry.
+     */
+    public void replay(JournalVisitor visitor) {
+        long size = reserved.get();
+        double[][] valueChunks = values;
+        byte[][] kindChunks = kinds;
+        long index = firstIndex;
+        for (int chunk = 0; index < size; chunk++) {
+            double[] chunkValues = valueChunks[chunk];
+            byte[] chunkKinds = kindChunks[chunk];
+            for (int i = 0; i < chunkKinds.length && index < size; i++, index++) {
+                visitor.entry(index, KINDS[chunkKinds[i]], chunkValues[2 * i],
+                        chunkValues[2 * i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Adds up the journalled amounts of one kind, including those compacted away.
+     * @param kind The transaction kind.
+     * @return The net change to the balance from that kind of transaction.
+     */
+    public double total(Transaction kind) {
+        double[] sum = {carriedTotals[kind.ordinal()]};
+        replay((index, entryKind, amount, balance) -> {
+            if (entryKind == kind) {
+                sum[0] += amount;
+            }
+        });
+        return sum[0];
+    }
+
+    private void record(Transaction kind, double amount, double balance) {
+        store(reserved.getAndIncrement() - firstIndex, kind, amount, balance);
+    }
+
+    /**
+     * Fills a slot, by its position in the chunks rather than its index in the journal.
+     */
+    private void store(long position, Transaction kind, double amount, double balance) {
+        int chunk = chunkOf(position);
+        if (chunk >= kinds.length) {
+            grow(chunk);
+        }
+        int offset = offsetIn(chunk, position);
+        double[] chunkValues = values[chunk];
+        chunkValues[2 * offset] = amount;
+        chunkValues[2 * offset + 1] = balance;
+        kinds[chunk][offset] = (byte) kind.ordinal();
+    }
+
+    /**
+     * Adds chunks up to the given one. Only taken once per chunk, and chunks double in
+     * size, so this runs a logarithmic number of times.
+     */
+    private synchronized void grow(int chunk) {
+        int count = kinds.length;
+        if (chunk < count) {
+            return;
+        }
+        double[][] newValues = Arrays.copyOf(values, chunk + 1);
+        byte[][] newKinds = Arrays.copyOf(kinds, chunk + 1);
+        for (int c = count; c <= chunk; c++) {
+            newValues[c] = new double[2 * (FIRST_CHUNK << c)];
+            newKinds[c] = new byte[FIRST_CHUNK << c];
+        }
+        values = newValues;
+        kinds = newKinds;
+    }
+
+    /**
+     * Chunk c starts at position FIRST_CHUNK * (2^c - 1).
+     */
+    private static int chunkOf(long position) {
+        return 63 - Long.numberOfLeadingZeros(position / FIRST_CHUNK + 1);
+    }
+
+    private static int offsetIn(int chunk, long position) {
+        return (int) (position - (long) FIRST_CHUNK * ((1L << chunk) - 1));
+    }
+
+    /**
+     * Checks that an entry is still in the journal.
+     * @return Its position in the chunks.
+     */
+    private long checkIndex(long index) {
+        if (index < firstIndex || index >= reserved.get()) {
+            throw new IndexOutOfBoundsException("No journal entry " + index + ".");
+        }
+        return index - firstIndex;
+    }
+}
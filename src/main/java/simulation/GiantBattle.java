@@ -0,0 +1,57 @@
+package simulation;
+
+/**
+ * A battle between two Tech Giants that has been fought but not yet settled.
+ * Fighting only changes the two selected startups; settling moves the losing startup
+ * to the winning Tech Giant. Splitting the two lets battles between disjoint pairs of
+ * Tech Giants be fought concurrently and then settled one by one in a fixed order.
+ */
+final class GiantBattle {
+    private final TechGiant challenger;
+    private final TechGiant opponent;
+    private final Startup challengerStartup;
+    private final Startup opponentStartup;
+    private final Startup winner;
+
+    GiantBattle(TechGiant challenger, Startup challengerStartup,
+                TechGiant opponent, Startup opponentStartup, Startup winner) {
+        this.challenger = challenger;
+        this.opponent = opponent;
+        this.challengerStartup = challengerStartup;
+        this.opponentStartup = opponentStartup;
+        this.winner = winner;
+    }
+
+    /**
+     * @return Winning startup, or null in case of a draw
+     */
+    Startup getWinner() {
+        return winner;
+    }
+
+    /**
+     * @return Tech Giant whose startup won, or null in case of a draw
+     */
+    TechGiant getWinningGiant() {
+        if (winner == challengerStartup) {
+            return challenger;
+        }
+        return winner == opponentStartup ? opponent : null;
+    }
+
+    /**
+     * Applies the outcome: the loser's startup changes owner in O(1).
+     * @return Winning startup, or null in case of a draw
+     */
+    Startup settle() {
+        SimulationListener listener = SimulationEventBus.listener();
+        if (winner == challengerStartup) {
+            challenger.acquire(opponentStartup); // Taken over from the opponent
+            listener.giantBattleSettled(challenger, opponentStartup, opponent);
+        } else if (winner == opponentStartup) {
+            opponent.acquire(challengerStartup);
+            listener.giantBattleSettled(opponent, challengerStartup, challenger);
+        }
+        return winner;
+    }
+}
@@ -0,0 +1,69 @@
+package simulation;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.function.Consumer;
+
+/**
+ * Runs a phase of the quarter that touches each Tech Giant's own state only: every Tech
+ * Giant's actions get their own virtual thread, and a phaser holds the quarter until all
+ * of them have finished. Since no action reads another Tech Giant's state, the outcome
+ * does not depend on how the threads interleave.
+ */
+final class GiantPhase {
+
+    static final int PHASER_TIER = 10_000; // Parties per child phaser; one holds at most 65535
+
+    private GiantPhase() {
+    }
+
+    /**
+     * Runs the action for every Tech Giant concurrently and returns once all have finished.
+     * If actions fail, the failure of the first such Tech Giant in list order is rethrown;
+     * a checked exception is wrapped in an IllegalStateException.
+     * @param techGiants The Tech Giants, in simulation order.
+     * @param action     The per-Tech Giant action.
+     */
+    static void run(List<TechGiant> techGiants, Consumer<TechGiant> action) {
+        Throwable[] failures = new Throwable[techGiants.size()];
+        Phaser barrier = new Phaser(1); // The quarter's own party
+        Phaser tier = barrier;
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (int i = 0; i < techGiants.size(); i++) {
+                if (i % PHASER_TIER == 0) {
+                    tier = new Phaser(barrier);
+                }
+                Phaser party = tier;
+                party.register();
+                TechGiant techGiant = techGiants.get(i);
+                int index = i;
+                executor.execute(() -> {
+                    try {
+                        action.accept(techGiant);
+                    } catch (Throwable e) {
+                        failures[index] = e;
+                    } finally {
+                        party.arriveAndDeregister();
+                    }
+                });
+            }
+            barrier.arriveAndAwaitAdvance(); // Every Tech Giant is done with this phase
+        } finally {
+            executor.shutdown();
+        }
+        for (Throwable failure : failures) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Tech Giant action failed.", failure);
+            }
+        }
+    }
+}
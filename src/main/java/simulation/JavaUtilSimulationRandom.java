@@ -0,0 +1,35 @@
+package simulation;
+
+import java.util.Random;
+
+/**
+ * Adapts a {@link Random} to {@link SimulationRandom}.
+ */
+final class JavaUtilSimulationRandom implements SimulationRandom {
+
+    private final Random random;
+
+    JavaUtilSimulationRandom(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public SimulationRandom split() {
+        return SimulationRandom.seeded(random.nextLong());
+    }
+}
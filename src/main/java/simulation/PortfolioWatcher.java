@@ -0,0 +1,21 @@
+package simulation;
+
+/**
+ * Receives the portfolio changes that the end-of-quarter cleanup acts on, as they happen,
+ * so that the cleanup never has to scan every Tech Giant and startup.
+ */
+interface PortfolioWatcher {
+
+    /**
+     * Called when an owned startup's revenue drops to zero or below, or when a Tech Giant
+     * acquires a startup that is already at zero. May be called more than once.
+     * @param startup The defeated startup
+     */
+    void startupDefeated(Startup startup);
+
+    /**
+     * Called when a Tech Giant loses its last startup.
+     * @param techGiant The Tech Giant that now owns nothing
+     */
+    void portfolioDrained(TechGiant techGiant);
+}
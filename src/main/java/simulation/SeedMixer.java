@@ -0,0 +1,24 @@
+package simulation;
+
+/**
+ * Derives well-spread seeds from a parent seed and a key, using the SplitMix64 finalizer.
+ * Neighbouring keys (replica 5 and 6, battle 1 and 2) give unrelated seeds.
+ */
+public final class SeedMixer {
+
+    private SeedMixer() {
+    }
+
+    /**
+     * Mixes a key into a seed.
+     * @param seed the parent seed
+     * @param key  the key, e.g. a replica, year, quarter or battle number
+     * @return the derived seed
+     */
+    public static long mix(long seed, long key) {
+        long z = seed + (key + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,335 @@
+package simulation;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import simulation.events.Event;
+import simulation.events.Quarter;
+
+/**
+ * Saves the full state of a simulation between two quarters and resumes it later.
+ * A resumed run plays out bit-identically to one that was never interrupted: every
+ * battle's randomness is keyed by (seed, year, quarter, battle), so the seed and the
+ * quarter cursor are all the random state there is.
+ *
+ * <p>The file is a compact big-endian binary record: a magic number and a format version,
+ * the seed, cursor and battle mode, then the events, the Tech Giants with their funds
+ * ledgers (opening balance, balance, the totals carried forward by compaction and the
+ * journal entries kept), enhancements (and the quarters each has left) and portfolios,
+ * and the wild startups.
+ * Configuration that does not change between quarters is not saved; set the tournament
+ * scheduler, parallelism, enhancement limit, journal retention and verbosity again on
+ * the resumed manager.
+ */
+public final class SimulationCheckpoint {
+
+    static final int MAGIC = 0x5447434B; // "TGCK"
+    static final short VERSION = 4;
+    static final int JOURNAL_ENTRY_BYTES = 17; // Kind, amount and balance after
+
+    private SimulationCheckpoint() {
+    }
+
+    /**
+     * Writes a checkpoint. The file is written next to the target and moved into place,
+     * so a crash while saving never leaves a truncated checkpoint behind.
+     *
+     * @param manager The simulation, stopped between two quarters.
+     * @param file    Where to write the checkpoint.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void save(SimulationManager manager, Path file) throws IOException {
+        ByteBuffer buffer = encode(manager);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a checkpoint into a new simulation, ready to continue with the next quarter.
+     *
+     * @param file The checkpoint to read.
+     * @return The restored simulation.
+     * @throws IOException if the file cannot be read, is not a checkpoint, or has an
+     *                     unsupported version.
+     */
+    public static SimulationManager load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+            return decode(buffer, file);
+        }
+    }
+
+    static ByteBuffer encode(SimulationManager manager) {
+        Encoder out = new Encoder();
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putLong(manager.getSeed());
+        out.putInt(manager.getCurrentYear());
+        out.putByte(manager.getCurrentQuarter());
+        out.putByte(manager.getBattleMode().ordinal());
+
+        List<Event> events = manager.getEvents();
+        out.putInt(events.size());
+        for (Event event : events) {
+            out.putString(event.getName());
+            out.putString(event.getDescription());
+            out.putByte(event.getQuarterValue().ordinal());
+            out.putInt(event.getFirstYear());
+            out.putInt(event.getLastYear());
+        }
+
+        List<TechGiant> techGiants = manager.getTechGiants();
+        out.putInt(techGiants.size());
+        for (TechGiant techGiant : techGiants) {
+            out.putString(techGiant.getName());
+            putLedger(out, techGiant.getLedger());
+            List<Enhancement> enhancements = techGiant.getActiveEnhancements();
+            out.putInt(enhancements.size());
+            for (int e = 0; e < enhancements.size(); e++) {
+                Enhancement enhancement = enhancements.get(e);
+                out.putString(enhancement.getName());
+                out.putString(enhancement.getType());
+                out.putDouble(enhancement.getCost());
+                out.putInt(enhancement.getDuration());
+                out.putDouble(enhancement.getEffectValue());
+                out.putInt(techGiant.getQuartersLeft(e));
+            }
+            out.putLong(techGiant.nextAcquisition());
+            List<Startup> startups = techGiant.getStartups();
+            out.putInt(startups.size());
+            for (Startup startup : startups) {
+                putStartup(out, startup);
+            }
+        }
+
+        List<Startup> wildStartups = manager.getWildStartups();
+        out.putInt(wildStartups.size());
+        for (Startup startup : wildStartups) {
+            putStartup(out, startup);
+        }
+        return out.finish();
+    }
+
+    private static void putLedger(Encoder out, FundsLedger ledger) {
+        out.putDouble(ledger.getOpeningBalance());
+        out.putDouble(ledger.getBalance());
+        out.putLong(ledger.getFirstIndex());
+        for (FundsLedger.Transaction kind : FundsLedger.Transaction.values()) {
+            out.putDouble(ledger.getCarriedTotal(kind));
+        }
+        out.putLong(ledger.getJournalSize() - ledger.getFirstIndex());
+        ledger.replay((index, kind, amount, balance) -> {
+            out.putByte(kind.ordinal());
+            out.putDouble(amount);
+            out.putDouble(balance);
+        });
+    }
+
+    private static void putStartup(Encoder out, Startup startup) {
+        out.putString(startup.getName());
+        out.putString(startup.getType());
+        out.putDouble(startup.getRevenue());
+        out.putDouble(startup.getMarketShare());
+        out.putDouble(startup.getNetIncome());
+        out.putInt(startup.getExperiencePoints());
+        out.putByte(startup.getStageValue().ordinal());
+        out.putByte(startup.isWild() ? 1 : 0);
+        out.putLong(startup.acquisitionOrder);
+    }
+
+    static SimulationManager decode(ByteBuffer in, Path file) throws IOException {
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException("Not a simulation checkpoint: " + file);
+            }
+            short version = in.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint version " + version + ": " + file);
+            }
+            SimulationManager manager = new SimulationManager(in.getLong());
+            int year = in.getInt();
+            int quarter = in.get();
+            manager.restoreCursor(year, quarter);
+            manager.setBattleMode(BattleMode.values()[in.get()]);
+
+            int eventCount = getCount(in);
+            for (int i = 0; i < eventCount; i++) {
+                String name = getString(in);
+                String description = getString(in);
+                Quarter eventQuarter = Quarter.values()[in.get()];
+                int firstYear = in.getInt();
+                int lastYear = in.getInt();
+                manager.addEvent(new Event(name, description, eventQuarter, firstYear, lastYear));
+            }
+
+            int giantCount = getCount(in);
+            for (int i = 0; i < giantCount; i++) {
+                TechGiant techGiant = new TechGiant(getString(in), in.getDouble());
+                getJournal(in, techGiant.getLedger());
+                int enhancementCount = getCount(in);
+                List<Enhancement> enhancements = new ArrayList<>(enhancementCount);
+                int[] quartersLeft = new int[enhancementCount];
+                for (int e = 0; e < enhancementCount; e++) {
+                    enhancements.add(new Enhancement(getString(in), getString(in),
+                            in.getDouble(), in.getInt(), in.getDouble()));
+                    quartersLeft[e] = in.getInt();
+                }
+                long nextAcquisition = in.getLong();
+                int startupCount = getCount(in);
+                List<Startup> portfolio = new ArrayList<>(startupCount);
+                for (int s = 0; s < startupCount; s++) {
+                    portfolio.add(getStartup(in));
+                }
+                techGiant.restore(portfolio, nextAcquisition, enhancements, quartersLeft);
+                manager.addTechGiant(techGiant);
+            }
+
+            int wildCount = getCount(in);
+            for (int i = 0; i < wildCount; i++) {
+                manager.addWildStartup(getStartup(in));
+            }
+            if (in.hasRemaining()) {
+                throw new IOException("Unexpected data after checkpoint: " + file);
+            }
+            return manager;
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException
+                 | IllegalArgumentException e) {
+            throw new IOException("Corrupt checkpoint: " + file, e);
+        }
+    }
+
+    /**
+     * Reads the balance and journal that follow the opening balance into a new ledger.
+     */
+    private static void getJournal(ByteBuffer in, FundsLedger ledger) {
+        double balance = in.getDouble();
+        long first = in.getLong();
+        FundsLedger.Transaction[] kinds = FundsLedger.Transaction.values();
+        double[] totals = new double[kinds.length];
+        for (int k = 0; k < kinds.length; k++) {
+            totals[k] = in.getDouble();
+        }
+        long size = in.getLong();
+        if (first < 0 || size < 0 || size > in.remaining() / JOURNAL_ENTRY_BYTES) {
+            throw new BufferUnderflowException();
+        }
+        ledger.restoreStart(first, totals);
+        for (long i = 0; i < size; i++) {
+            FundsLedger.Transaction kind = kinds[in.get()];
+            double amount = in.getDouble();
+            ledger.restoreEntry(kind, amount, in.getDouble());
+        }
+        ledger.restoreBalance(balance);
+    }
+
+    private static Startup getStartup(ByteBuffer in) {
+        String name = getString(in);
+        String type = getString(in);
+        double revenue = in.getDouble();
+        double marketShare = in.getDouble();
+        double netIncome = in.getDouble();
+        int experiencePoints = in.getInt();
+        StartupStage stage = StartupStage.values()[in.get()];
+        boolean wild = in.get() != 0;
+        Startup startup = new Startup(name, type, 0, 0, 0, wild);
+        // Write the saved values through the storage hooks, bypassing any clamping
+        startup.storeRevenue(revenue);
+        startup.writeMarketShare(marketShare);
+        startup.writeNetIncome(netIncome);
+        startup.writeExperiencePoints(experiencePoints);
+        startup.writeStage(stage);
+        startup.acquisitionOrder = in.getLong();
+        return startup;
+    }
+
+    /**
+     * Reads an element count. Every element takes at least one byte, so a count larger
+     * than what is left can only come from a corrupt file.
+     */
+    private static int getCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = getCount(in);
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Growable big-endian output buffer.
+     */
+    private static final class Encoder {
+        private ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+                ByteBuffer larger = ByteBuffer.allocate(capacity);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+
+        void putByte(int value) {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        void putShort(short value) {
+            ensure(2);
+            buffer.putShort(value);
+        }
+
+        void putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void putDouble(double value) {
+            ensure(8);
+            buffer.putDouble(value);
+        }
+
+        void putString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        ByteBuffer finish() {
+            buffer.flip();
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package simulation;
+
+/**
+ * Holds the listener that receives simulation notifications.
+ * Defaults to {@link SimulationListener#NONE}. When simulations run on several threads the
+ * registered listener is called from all of them and must be thread-safe.
+ */
+public final class SimulationEventBus {
+
+    private static volatile SimulationListener listener = SimulationListener.NONE;
+
+    private SimulationEventBus() {
+    }
+
+    /**
+     * Retrieves the current listener.
+     * @return the registered listener, or {@link SimulationListener#NONE}
+     */
+    public static SimulationListener listener() {
+        return listener;
+    }
+
+    /**
+     * Registers the listener for all simulation notifications.
+     * @param newListener the listener to use, or {@code null} to go back to headless mode
+     */
+    public static void setListener(SimulationListener newListener) {
+        listener = newListener == null ? SimulationListener.NONE : newListener;
+    }
+
+    /**
+     * Checks whether a listener other than the no-op default is registered.
+     * @return {@code true} if notifications are being observed
+     */
+    public static boolean hasListener() {
+        return listener != SimulationListener.NONE;
+    }
+}
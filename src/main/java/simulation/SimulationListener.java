@@ -0,0 +1,216 @@
+package simulation;
+
+import simulation.events.Event;
+import simulation.events.Quarter;
+
+/**
+ * Receives structured notifications about what happens during a simulation.
+ * Every callback has an empty default, so implementations only override what they need.
+ * The simulation passes the objects involved rather than formatted text, so nothing is
+ * built for callbacks that are not overridden.
+ *
+ * <p>Arguments are only guaranteed to be valid for the duration of the callback. Some are
+ * reused flyweights: the {@link AttackOutcome} of a battle, and the {@link Startup} passed
+ * to {@link #eventApplied} for a row of a columnar {@link StartupStore} that has no view
+ * of its own, which is one cursor moved from row to row. A listener that keeps data for
+ * later, such as a dashboard buffering records, must copy the values it needs instead of
+ * holding on to those objects.
+ */
+public interface SimulationListener {
+
+    /**
+     * Listener that ignores every notification. This is the default for headless runs.
+     */
+    SimulationListener NONE = new SimulationListener() {
+    };
+
+    /**
+     * Called when a battle between two startups begins.
+     * @param first  the startup that attacks first
+     * @param second the startup that attacks second
+     */
+    default void battleStarted(Startup first, Startup second) {
+    }
+
+    /**
+     * Called after each attack within a battle. The outcome is reused for the next round,
+     * so it is only valid during the call; {@link AttackOutcome#describe()} formats the
+     * attack summary on demand.
+     * @param outcome the attacker, defender and result of the attack
+     */
+    default void roundResolved(AttackOutcome outcome) {
+    }
+
+    /**
+     * Called when a battle has a winner.
+     * @param winner the winning startup
+     * @param loser  the defeated startup
+     */
+    default void battleResolved(Startup winner, Startup loser) {
+    }
+
+    /**
+     * Called instead of {@link #battleResolved} when a startup has no revenue and cannot
+     * fight, so no round is played. By default it is reported as an ordinary win.
+     * @param winner    the startup that wins without fighting
+     * @param forfeiter the startup with no revenue
+     */
+    default void battleForfeited(Startup winner, Startup forfeiter) {
+        battleResolved(winner, forfeiter);
+    }
+
+    /**
+     * Called when a battle ends without a winner.
+     * @param first  the startup that attacked first
+     * @param second the startup that attacked second
+     */
+    default void battleDrawn(Startup first, Startup second) {
+    }
+
+    /**
+     * Called when the winner of a battle belongs to a Tech Giant and the defeated startup
+     * is wild, right before the Tech Giant acquires it.
+     * @param acquirer the Tech Giant about to acquire the startup
+     * @param startup  the defeated wild startup
+     */
+    default void wildStartupDefeated(TechGiant acquirer, Startup startup) {
+    }
+
+    /**
+     * Called when a Tech Giant starts a battle against another Tech Giant.
+     * @param challenger the Tech Giant starting the battle
+     * @param opponent   the opposing Tech Giant
+     */
+    default void giantBattleStarted(TechGiant challenger, TechGiant opponent) {
+    }
+
+    /**
+     * Called when a battle between two Tech Giants cannot take place because one of them
+     * has no startup to send.
+     * @param challenger the Tech Giant that would have started the battle
+     * @param opponent   the opposing Tech Giant
+     */
+    default void giantBattleSkipped(TechGiant challenger, TechGiant opponent) {
+    }
+
+    /**
+     * Called when the winner of a battle between Tech Giants takes over the losing startup,
+     * after the {@link #acquisition} call for it.
+     * @param winner  the Tech Giant whose startup won
+     * @param startup the startup taken over
+     * @param loser   the Tech Giant that owned it
+     */
+    default void giantBattleSettled(TechGiant winner, Startup startup, TechGiant loser) {
+    }
+
+    /**
+     * Called when a Tech Giant acquires a startup.
+     * @param acquirer the acquiring Tech Giant
+     * @param startup  the acquired startup
+     */
+    default void acquisition(TechGiant acquirer, Startup startup) {
+    }
+
+    /**
+     * Called when a Tech Giant takes over another Tech Giant's whole portfolio.
+     * Individual {@link #acquisition} calls are not made for a merger.
+     * @param acquirer     the Tech Giant receiving the startups
+     * @param target       the Tech Giant whose startups were taken over
+     * @param startupCount the number of startups transferred
+     */
+    default void merger(TechGiant acquirer, TechGiant target, int startupCount) {
+    }
+
+    /**
+     * Called when a startup is removed from a Tech Giant.
+     * @param owner   the Tech Giant losing the startup
+     * @param startup the removed startup
+     */
+    default void startupLost(TechGiant owner, Startup startup) {
+    }
+
+    /**
+     * Called when a Tech Giant tries to invest in a startup.
+     * @param investor the investing Tech Giant
+     * @param startup  the startup receiving the investment
+     * @param amount   the investment amount
+     * @param funded   {@code false} if the Tech Giant could not afford the investment
+     */
+    default void investment(TechGiant investor, Startup startup, double amount, boolean funded) {
+    }
+
+    /**
+     * Called when a Tech Giant tries to purchase an enhancement.
+     * @param buyer       the purchasing Tech Giant
+     * @param enhancement the enhancement
+     * @param funded      {@code false} if the Tech Giant could not afford the enhancement
+     *                    or already holds as many as it may
+     */
+    default void enhancementPurchased(TechGiant buyer, Enhancement enhancement, boolean funded) {
+    }
+
+    /**
+     * Called each quarter an enhancement is active, after it took effect. Enhancements of
+     * an unknown type have {@link EnhancementEffect#NONE} and are reported without effect.
+     * @param owner       the Tech Giant owning the enhancement
+     * @param enhancement the applied enhancement
+     */
+    default void enhancementApplied(TechGiant owner, Enhancement enhancement) {
+    }
+
+    /**
+     * Called for every startup whose revenue a revenue enhancement raised.
+     * @param startup       the startup, already updated
+     * @param enhancement   the revenue enhancement
+     * @param revenueBefore the startup's revenue before the boost
+     */
+    default void revenueBoosted(Startup startup, Enhancement enhancement, double revenueBefore) {
+    }
+
+    /**
+     * Called at the start of every quarter's event handling, whether or not any event
+     * occurs in that quarter.
+     * @param quarter the quarter being processed
+     */
+    default void eventPhaseStarted(Quarter quarter) {
+    }
+
+    /**
+     * Called once before an event is applied to a group of startups.
+     * @param event        the event being applied
+     * @param startupCount the number of startups in the group
+     */
+    default void eventTriggered(Event event, int startupCount) {
+    }
+
+    /**
+     * Called after an event has been applied to a single startup.
+     * For columnar populations, rows without a view of their own (no Tech Giant owns them)
+     * are passed as a reusable cursor that points at the next row after the call returns,
+     * so it must not be retained; copy what is needed instead.
+     * @param event             the applied event
+     * @param startup           the affected startup, already updated; valid only during the
+     *                          call
+     * @param revenueBefore     the startup's revenue before the event
+     * @param marketShareBefore the startup's market share before the event
+     */
+    default void eventApplied(Event event, Startup startup,
+                              double revenueBefore, double marketShareBefore) {
+    }
+
+    /**
+     * Called when a startup gains experience points.
+     * @param startup the startup
+     * @param points  the points gained
+     */
+    default void experienceGained(Startup startup, int points) {
+    }
+
+    /**
+     * Called when a startup evolves into a new stage.
+     * @param startup the startup
+     * @param stage   the new stage (e.g., "Tech Star", "Unicorn")
+     */
+    default void evolved(Startup startup, String stage) {
+    }
+}
@@ -2,9 +2,25 @@ package simulation;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 import simulation.events.Event;
+import simulation.events.EventCalendar;
+import simulation.events.Quarter;
+import simulation.jfr.QuarterProcessed;
+import simulation.metrics.MetricsWriter;
+import simulation.metrics.SimulationMetrics;
+import simulation.metrics.SimulationMetrics.Phase;
+import simulation.tournament.Pairing;
+import simulation.tournament.RoundRobinScheduler;
+import simulation.tournament.Tournament;
+import simulation.tournament.TournamentScheduler;
 
 
 
@@ -14,19 +30,46 @@ import simulation.events.Event;
  */
 public class SimulationManager {
 
+    public static final int DEFAULT_ENHANCEMENT_LIMIT = 16; // Active enhancements per giant
+    public static final int DEFAULT_JOURNAL_RETENTION = 1024; // Ledger entries per giant
+
     private List<TechGiant> techGiants; // List of participating Tech Giants
     private List<Event> events;        // List of events for the simulation
+    private EventCalendar calendar;    // The same events, indexed by quarter and year
     private List<Startup> wildStartups; // List of wild startups in the market
     private boolean verbose = false;  // Flag to control verbosity of logs
+    private long seed;                // Run seed; every battle's randomness is derived from it
+    private int currentYear;          // Last year started; the next run continues after it
+    private int currentQuarter = 4;   // Last quarter completed in currentYear
+    private int battlesThisQuarter;   // Battle counter within the current quarter
+    private BattleMode battleMode = BattleMode.EXACT; // How battles are resolved
+    private TournamentScheduler tournamentScheduler = new RoundRobinScheduler(); // Q4 pairings
+    private int parallelism = 1;      // Threads fighting independent battles
+    private boolean concurrentGiantActions; // Odd-quarter actions on a thread per Tech Giant
+    private final Bookkeeping bookkeeping = new Bookkeeping(); // What the cleanup must visit
+    private MetricsWriter metricsWriter; // Receives every startup's state after each quarter
+    private int enhancementLimit = DEFAULT_ENHANCEMENT_LIMIT; // Per Tech Giant
+    private int journalRetention = DEFAULT_JOURNAL_RETENTION; // Per Tech Giant
 
 
     /**
-     * Constructs a SimulationManager to manage Tech Giants, events, and startups.
+     * Constructs a SimulationManager with a random seed.
      */
     public SimulationManager() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a SimulationManager whose battles are reproducible for the given seed.
+     *
+     * @param seed The run seed.
+     */
+    public SimulationManager(long seed) {
         techGiants = new ArrayList<>();
         events = new ArrayList<>();
+        calendar = new EventCalendar();
         wildStartups = new ArrayList<>(); // Initialize wild startups
+        this.seed = seed;
     }
 
     /**
@@ -36,14 +79,26 @@ public class SimulationManager {
      */
     public void addTechGiant(TechGiant techGiant) {
         techGiants.add(techGiant);
+        techGiant.setWatcher(bookkeeping);
+        techGiant.setEnhancementLimit(enhancementLimit);
+        if (techGiant.getStartups().isEmpty()) {
+            bookkeeping.portfolioDrained(techGiant);
+        }
+        for (Startup startup : techGiant.getStartups()) {
+            if (startup.getRevenue() <= 0) {
+                bookkeeping.startupDefeated(startup);
+            }
+        }
     }
 
     /**
      * Adds an event to the simulation.
      *
      * @param event The event to add.
+     * @throws IllegalArgumentException if the event is null.
      */
     public void addEvent(Event event) {
+        calendar.add(event);
         events.add(event);
     }
 
@@ -92,6 +147,160 @@ public class SimulationManager {
         this.verbose = verbose;
     }
 
+    /**
+     * Sets the run seed. Two runs of the same scenario with the same seed play out identically.
+     *
+     * @param seed The run seed.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets how battles are resolved. {@link BattleMode#FAST} samples each battle's outcome
+     * directly instead of playing it out round by round; it is meant for large runs.
+     *
+     * @param battleMode The battle mode.
+     * @throws IllegalArgumentException if the mode is null.
+     */
+    public void setBattleMode(BattleMode battleMode) {
+        if (battleMode == null) {
+            throw new IllegalArgumentException("Battle mode cannot be null.");
+        }
+        this.battleMode = battleMode;
+    }
+
+    public BattleMode getBattleMode() {
+        return battleMode;
+    }
+
+    /**
+     * Sets who battles whom in Q4. The default is a round robin that plays every pair of
+     * Tech Giants one at a time in the original order; use
+     * {@code new RoundRobinScheduler(true)} to group the pairs into rounds that parallelism
+     * can speed up.
+     *
+     * @param tournamentScheduler The scheduler.
+     * @throws IllegalArgumentException if the scheduler is null.
+     */
+    public void setTournamentScheduler(TournamentScheduler tournamentScheduler) {
+        if (tournamentScheduler == null) {
+            throw new IllegalArgumentException("Tournament scheduler cannot be null.");
+        }
+        this.tournamentScheduler = tournamentScheduler;
+    }
+
+    public TournamentScheduler getTournamentScheduler() {
+        return tournamentScheduler;
+    }
+
+    /**
+     * Sets the number of threads fighting the wild-startup battles of Q1 and Q3 and the
+     * pairings of a Q4 round. This affects speed only, never the results. Q4 rounds of one
+     * pairing, as planned by the default scheduler, are always fought alone. Battles are
+     * fought on one thread while a listener is registered, so that notifications arrive
+     * in order.
+     *
+     * @param parallelism Number of threads to use.
+     * @throws IllegalArgumentException if parallelism is not positive.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets whether each Tech Giant's own actions (applying enhancements every quarter, and
+     * enhancement offers, building and investing in odd quarters) run on a virtual thread
+     * of their own. These actions only touch the Tech Giant's own state, so the results
+     * are the same either way; the quarter waits for every Tech Giant before moving on.
+     * Actions run one Tech Giant at a time while a listener is registered, so that
+     * notifications arrive in order.
+     *
+     * @param concurrentGiantActions Whether to run the actions concurrently.
+     */
+    public void setConcurrentGiantActions(boolean concurrentGiantActions) {
+        this.concurrentGiantActions = concurrentGiantActions;
+    }
+
+    public boolean isConcurrentGiantActions() {
+        return concurrentGiantActions;
+    }
+
+    /**
+     * Sets where the state of every startup is written at the end of each quarter.
+     * The caller keeps ownership of the writer and closes it after the run.
+     *
+     * @param metricsWriter The writer, or null to stop writing metrics.
+     */
+    public void setMetricsWriter(MetricsWriter metricsWriter) {
+        this.metricsWriter = metricsWriter;
+    }
+
+    /**
+     * Sets how many enhancements each Tech Giant may hold at once, for the Tech Giants in
+     * the simulation and those added later. A Tech Giant at the limit turns down further
+     * purchases until one of its enhancements expires.
+     *
+     * @param enhancementLimit The maximum number of active enhancements per Tech Giant.
+     * @throws IllegalArgumentException if the limit is negative.
+     */
+    public void setEnhancementLimit(int enhancementLimit) {
+        if (enhancementLimit < 0) {
+            throw new IllegalArgumentException("Enhancement limit cannot be negative.");
+        }
+        this.enhancementLimit = enhancementLimit;
+        for (TechGiant techGiant : techGiants) {
+            techGiant.setEnhancementLimit(enhancementLimit);
+        }
+    }
+
+    public int getEnhancementLimit() {
+        return enhancementLimit;
+    }
+
+    /**
+     * Sets how many recent entries of each Tech Giant's funds ledger are kept. Once a
+     * journal holds twice as many, the end-of-quarter cleanup compacts it back to this
+     * many, folding the older entries into its opening balance and totals, so a long run
+     * keeps a bounded journal. The simulation itself never reads the journal.
+     *
+     * @param journalRetention The number of entries to keep, or Integer.MAX_VALUE to keep
+     *                         every entry.
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    public void setJournalRetention(int journalRetention) {
+        if (journalRetention < 0) {
+            throw new IllegalArgumentException("Journal retention cannot be negative.");
+        }
+        this.journalRetention = journalRetention;
+    }
+
+    public int getJournalRetention() {
+        return journalRetention;
+    }
+
+    /**
+     * Creates the generator for the next battle of the current quarter.
+     * It is keyed by (seed, year, quarter, battle), not drawn from a shared stream.
+     *
+     * @param quarter The quarter being processed.
+     * @return The battle's generator.
+     */
+    private SimulationRandom nextBattleRandom(int quarter) {
+        return SimulationRandom.forBattle(seed, currentYear, quarter, battlesThisQuarter++);
+    }
+
     /**
      * Logs a simulation-related message to the console.
      *
@@ -107,40 +316,93 @@ public class SimulationManager {
     /**
      * Recovers defeated startups in the next cycle.
      * Restores their revenue to 50% of the original starting revenue.
+     * Only startups reported as defeated since the last cleanup are visited.
      */
     private void recoverDefeatedStartups() {
+        if (bookkeeping.defeated.isEmpty()) {
+            return;
+        }
+        // Copy first: a recovery to zero revenue reports the startup again for next time
+        List<Startup> defeated = new ArrayList<>(bookkeeping.defeated);
+        bookkeeping.defeated.clear();
         int recoveredCount = 0;
-        for (TechGiant techGiant : techGiants) {
-            for (Startup startup : techGiant.getStartups()) {
-                if (startup.getRevenue() <= 0) {
-                    // Recover revenue based on market share
-                    double recoveryAmount = startup.getMarketShare() * 2.5; //Example recovery logic
-                    startup.setRevenue(recoveryAmount);
-                    recoveredCount++;
-                }
+        for (Startup startup : defeated) {
+            TechGiant owner = startup.getOwner();
+            if (owner != null && owner.getWatcher() == bookkeeping && startup.getRevenue() <= 0) {
+                // Recover revenue based on market share
+                double recoveryAmount = startup.getMarketShare() * 2.5; //Example recovery logic
+                startup.setRevenue(recoveryAmount);
+                recoveredCount++;
             }
         }
         if (recoveredCount > 0) {
             log("Recovered " + recoveredCount + " defeated startups.");
+            SimulationMetrics metrics = SimulationMetrics.active();
+            if (metrics != null) {
+                metrics.recovered(recoveredCount);
+            }
         }
     }
 
+    /**
+     * Retrieves the last simulated year, or 0 before the simulation has started.
+     * @return The current year.
+     */
+    public int getCurrentYear() {
+        return currentYear;
+    }
 
+    /**
+     * Retrieves the last quarter completed in the current year, from 1 to 4.
+     * @return The current quarter.
+     */
+    public int getCurrentQuarter() {
+        return currentQuarter;
+    }
 
     /**
-     * Starts the simulation for a specified number of years.
+     * Runs the simulation for a specified number of years.
+     * Each call continues from the quarter after the last one simulated, so events
+     * scheduled for later years are reached by later calls.
      * @param years The number of years to run the simulation.
      */
     public void startSimulation(int years) {
-        for (int year = 1; year <= years; year++) {
-            log("\n--- Year " + year + " ---");
+        if (years > 0) {
+            runQuarters(years * 4);
+        }
 
-            for (int quarter = 1; quarter <= 4; quarter++) {
-                processQuarter(quarter);
+        log("\nSimulation Completed!");
+    }
+
+    /**
+     * Runs the simulation for a specified number of quarters, continuing from the quarter
+     * after the last one simulated. Stopping between quarters is how a run is checkpointed.
+     * @param quarters The number of quarters to run.
+     * @throws IllegalArgumentException if quarters is negative.
+     */
+    public void runQuarters(int quarters) {
+        if (quarters < 0) {
+            throw new IllegalArgumentException("Quarters cannot be negative.");
+        }
+        for (int i = 0; i < quarters; i++) {
+            if (currentQuarter == 4) {
+                currentYear++;
+                currentQuarter = 0;
+                log("\n--- Year " + currentYear + " ---");
             }
+            processQuarter(currentQuarter + 1);
+            currentQuarter++;
         }
+    }
 
-        log("\nSimulation Completed!");
+    /**
+     * Moves the cursor to the end of a quarter, for a run resumed from a checkpoint.
+     * @param year    The last year started.
+     * @param quarter The last quarter completed in that year.
+     */
+    void restoreCursor(int year, int quarter) {
+        this.currentYear = year;
+        this.currentQuarter = quarter;
     }
 
 
@@ -151,40 +413,95 @@ public class SimulationManager {
      */
     private void processQuarter(int quarter) {
         log("\n--- Quarter " + quarter + " ---");
+        battlesThisQuarter = 0;
+        QuarterProcessed event = new QuarterProcessed();
+        event.begin();
+        SimulationMetrics metrics = SimulationMetrics.active();
+        long start = metrics != null ? System.nanoTime() : 0;
+        long mark = start;
 
         // Trigger events for the quarter
-        String currentQuarter = "Q" + quarter;
-        applyEvents(currentQuarter);
+        applyEvents(Quarter.of(quarter));
+        mark = phaseCompleted(metrics, Phase.EVENTS, mark);
+
+        // Play one quarter of every Tech Giant's enhancements, retiring expired ones
+        forEachTechGiant(TechGiant::applyEnhancements);
+        mark = phaseCompleted(metrics, Phase.ENHANCEMENTS, mark);
 
         // Perform odd-quarter actions (Q1 & Q3)
         if (quarter == 1 || quarter == 3) {
-            for (TechGiant techGiant : techGiants) {
-                processOddQuarterActions(techGiant);
-            }
-            processWildStartupBattles();
+            forEachTechGiant(this::processOddQuarterActions);
+            mark = phaseCompleted(metrics, Phase.GIANT_ACTIONS, mark);
+            processWildStartupBattles(quarter);
+            mark = phaseCompleted(metrics, Phase.WILD_BATTLES, mark);
         }
 
         // Perform quarterly actions (Q4 is special for Tech Giant battles)
         if (quarter == 4) {
-            handleTechGiantBattles();
+            handleTechGiantBattles(quarter);
+            mark = phaseCompleted(metrics, Phase.GIANT_BATTLES, mark);
         }
 
         removeTechGiantsWithoutStartups();
         recoverDefeatedStartups();
+        compactJournals();
+        mark = phaseCompleted(metrics, Phase.CLEANUP, mark);
+
+        if (metricsWriter != null) {
+            metricsWriter.writeQuarter(currentYear, quarter, techGiants, wildStartups);
+            phaseCompleted(metrics, Phase.OUTPUT, mark);
+        }
+        if (metrics != null) {
+            metrics.quarterProcessed(System.nanoTime() - start);
+        }
+        if (event.shouldCommit()) {
+            event.setYear(currentYear);
+            event.setQuarter(quarter);
+            event.setTechGiants(techGiants.size());
+            event.setWildStartups(wildStartups.size());
+            event.setBattles(battlesThisQuarter);
+            event.commit();
+        }
     }
 
     /**
-     * Applies events to both wild startups and Tech Giants based on the current quarter.
-     * @param currentQuarter The quarter to check for events.
+     * Records the time spent in a phase when metrics are enabled.
+     * @param metrics The active metrics, or null.
+     * @param phase   The phase that just ended.
+     * @param since   When the phase started.
+     * @return When the next phase starts.
      */
-    private void applyEvents(String currentQuarter) {
-        System.out.println("\n==================== Event Handling ====================\n");
-        for (Event event : events) {
-            if (event.getQuarter().equalsIgnoreCase(currentQuarter)) {
-                event.applyEffects(wildStartups);
-                for (TechGiant techGiant : techGiants) {
-                    event.applyEffects(techGiant.getStartups());
-                }
+    private static long phaseCompleted(SimulationMetrics metrics, Phase phase, long since) {
+        return metrics == null ? since : metrics.phaseCompleted(phase, since);
+    }
+
+    /**
+     * Runs an action that only touches one Tech Giant's own state for every Tech Giant,
+     * each on a virtual thread of its own when concurrent Tech Giant actions are enabled.
+     * @param action The action.
+     */
+    private void forEachTechGiant(Consumer<TechGiant> action) {
+        if (concurrentGiantActions && techGiants.size() > 1
+                && !SimulationEventBus.hasListener()) {
+            GiantPhase.run(techGiants, action);
+        } else {
+            for (TechGiant techGiant : techGiants) {
+                action.accept(techGiant);
+            }
+        }
+    }
+
+    /**
+     * Applies the events due in the current year and quarter
+     * to both wild startups and Tech Giants.
+     * @param quarter The quarter being processed.
+     */
+    private void applyEvents(Quarter quarter) {
+        SimulationEventBus.listener().eventPhaseStarted(quarter);
+        for (Event event : calendar.eventsFor(currentYear, quarter)) {
+            event.applyEffects(wildStartups);
+            for (TechGiant techGiant : techGiants) {
+                event.applyEffects(techGiant.getStartups());
             }
         }
     }
@@ -192,38 +509,149 @@ public class SimulationManager {
 
 
     /**
-     * Handles Tech Giant vs. Tech Giant battles in Q4.
+     * Handles Tech Giant vs. Tech Giant battles in Q4, round by round as planned by the
+     * tournament scheduler.
+     * @param quarter The quarter being processed.
      */
-    private void handleTechGiantBattles() {
-        for (int i = 0; i < techGiants.size() - 1; i++) {
-            for (int j = i + 1; j < techGiants.size(); j++) {
-                TechGiant giant1 = techGiants.get(i);
-                TechGiant giant2 = techGiants.get(j);
+    private void handleTechGiantBattles(int quarter) {
+        Tournament tournament = tournamentScheduler.start(new ArrayList<>(techGiants));
+        ForkJoinPool pool = openPool();
+        try {
+            List<Pairing> round = tournament.nextRound();
+            while (!round.isEmpty()) {
+                playRound(tournament, round, quarter, pool);
+                round = tournament.nextRound();
+            }
+        } finally {
+            closePool(pool);
+        }
+    }
 
-                Startup winner = giant1.battle(giant2);
-                if (winner != null) {
-                    log(winner.getName()
-                            + " from "
-                            + (winner.isWild() ? "wild startups" : "Tech Giant")
-                            + " won the battle!");
-                }
+    /**
+     * Fights the pairings of one round and settles them in pairing order.
+     * The pairings are disjoint, so with a pool they are fought concurrently; each battle's
+     * generator is keyed by its position in the schedule, never by thread timing.
+     * @param tournament The tournament the round belongs to.
+     * @param round      The round's pairings.
+     * @param quarter    The quarter being processed.
+     * @param pool       Pool to fight on, or null to fight and settle one pairing at a time.
+     */
+    private void playRound(Tournament tournament, List<Pairing> round, int quarter,
+                           ForkJoinPool pool) {
+        SimulationRandom[] randoms = new SimulationRandom[round.size()];
+        for (int i = 0; i < randoms.length; i++) {
+            randoms[i] = nextBattleRandom(quarter);
+        }
+        GiantBattle[] battles = new GiantBattle[round.size()];
+        boolean concurrent = pool != null && battles.length > 1;
+        if (concurrent) {
+            forEachIndex(pool, battles.length, i -> battles[i] = fight(round.get(i), randoms[i]));
+        }
+        for (int i = 0; i < battles.length; i++) {
+            GiantBattle battle = concurrent ? battles[i] : fight(round.get(i), randoms[i]);
+            Startup winner = battle == null ? null : battle.settle();
+            tournament.record(round.get(i), battle == null ? null : battle.getWinningGiant());
+            if (winner != null) {
+                log(winner.getName()
+                        + " from "
+                        + (winner.isWild() ? "wild startups" : "Tech Giant")
+                        + " won the battle!");
+            }
+        }
+    }
+
+    private GiantBattle fight(Pairing pairing, SimulationRandom random) {
+        return pairing.getChallenger().fight(pairing.getOpponent(), random, battleMode);
+    }
+
+    /**
+     * Creates the pool for a phase of independent battles.
+     * @return The pool, or null to fight on the calling thread.
+     */
+    private ForkJoinPool openPool() {
+        if (parallelism > 1 && !SimulationEventBus.hasListener()) {
+            return new ForkJoinPool(parallelism);
+        }
+        return null;
+    }
+
+    private static void closePool(ForkJoinPool pool) {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a task for every index, concurrently when a pool is given.
+     * @param pool  Pool to run on, or null to run in index order on the calling thread.
+     * @param count Number of indices.
+     * @param task  Task to run; tasks for different indices must not share state.
+     */
+    private static void forEachIndex(ForkJoinPool pool, int count, IntConsumer task) {
+        if (pool == null || count < 2) {
+            for (int i = 0; i < count; i++) {
+                task.accept(i);
             }
+            return;
         }
+        pool.submit(() -> IntStream.range(0, count).parallel().forEach(task)).join();
     }
 
     /**
      * Removes Tech Giants with no startups from the simulation.
+     * Only Tech Giants whose portfolio drained since the last cleanup are checked.
      */
     public void removeTechGiantsWithoutStartups() {
-        Iterator<TechGiant> iterator = techGiants.iterator();
-        while (iterator.hasNext()) {
-            TechGiant techGiant = iterator.next();
+        if (bookkeeping.drained.isEmpty()) {
+            return;
+        }
+        Set<TechGiant> empty = new LinkedHashSet<>();
+        for (TechGiant techGiant : bookkeeping.drained) {
             if (techGiant.getStartups().isEmpty()) {
-                iterator.remove();
+                empty.add(techGiant);
+            }
+        }
+        bookkeeping.drained.clear();
+        if (!empty.isEmpty()) {
+            techGiants.removeIf(empty::contains);
+            empty.forEach(techGiant -> techGiant.setWatcher(null));
+        }
+    }
+
+    /**
+     * Compacts each funds ledger whose journal has grown to twice the retention, so the
+     * copying is spread over as many appends as it copies.
+     */
+    private void compactJournals() {
+        for (TechGiant techGiant : techGiants) {
+            FundsLedger ledger = techGiant.getLedger();
+            if (ledger.getJournalSize() - ledger.getFirstIndex() > 2L * journalRetention) {
+                ledger.compact(journalRetention);
             }
         }
     }
 
+    /**
+     * Collects the defeated startups and drained Tech Giants reported since the last
+     * end-of-quarter cleanup. Entries are candidates: the cleanup re-checks each one.
+     */
+    private static final class Bookkeeping implements PortfolioWatcher {
+        // Reports may come from concurrent odd-quarter actions; the cleanup itself runs
+        // on the quarter thread after the phase barrier
+        private final Set<Startup> defeated = new LinkedHashSet<>();
+        private final Set<TechGiant> drained = new LinkedHashSet<>();
+
+        @Override
+        public synchronized void startupDefeated(Startup startup) {
+            defeated.add(startup);
+        }
+
+        @Override
+        public synchronized void portfolioDrained(TechGiant techGiant) {
+            drained.add(techGiant);
+        }
+    }
+
     /**
      * Processes odd-quarter actions for a Tech Giant,
      * such as building startups and making investments.
@@ -250,29 +678,58 @@ public class SimulationManager {
 
     /**
      * Handles battles between Tech Giants and wild startups.
+     * Wild startups are dealt round-robin to the Tech Giants that own startups, and each
+     * battles the best startup of its Tech Giant. Each Tech Giant fights its share in order,
+     * and the shares are fought concurrently when parallelism allows. Acquisitions,
+     * their costs and the removal from the wild are then applied in wild-startup order.
+     * @param quarter The quarter being processed.
      */
-    private void processWildStartupBattles() {
-        if (!wildStartups.isEmpty()) {
-            Iterator<Startup> iterator = wildStartups.iterator();
-            while (iterator.hasNext()) {
-                Startup wildStartup = iterator.next();
-                for (TechGiant techGiant : techGiants) {
-                    if (!techGiant.getStartups().isEmpty()) {
-                        Startup winner =
-                            BattleManager.startBattle(techGiant.getStartups().get(0),
-                                    wildStartup, techGiant);
-
-                        if (winner != wildStartup) {
-                            // Wild startup is acquired
-                            iterator.remove(); // Safely remove wild startup
-                            techGiant.addStartup(wildStartup);
-                            deductAcquisitionCost(techGiant, wildStartup);
-                        }
-                        break; // Handle one wild startup per Tech Giant
-                    }
+    private void processWildStartupBattles(int quarter) {
+        List<TechGiant> contenders = new ArrayList<>();
+        for (TechGiant techGiant : techGiants) {
+            if (!techGiant.getStartups().isEmpty()) {
+                contenders.add(techGiant);
+            }
+        }
+        if (wildStartups.isEmpty() || contenders.isEmpty()) {
+            return;
+        }
+        int count = wildStartups.size();
+        int shares = contenders.size();
+        SimulationRandom[] randoms = new SimulationRandom[count];
+        for (int i = 0; i < count; i++) {
+            randoms[i] = nextBattleRandom(quarter);
+        }
+        Startup[] winners = new Startup[count];
+        // A share touches only its Tech Giant's startups and its own wild startups
+        ForkJoinPool pool = openPool();
+        try {
+            forEachIndex(pool, Math.min(shares, count), share -> {
+                TechGiant techGiant = contenders.get(share);
+                for (int i = share; i < count; i += shares) {
+                    // Acquisitions wait for the commit, so no Tech Giant is passed here
+                    winners[i] = BattleManager.startBattle(techGiant.selectStartupForBattle(),
+                            wildStartups.get(i), null, randoms[i], battleMode);
                 }
+            });
+        } finally {
+            closePool(pool);
+        }
+
+        List<Startup> remaining = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Startup wildStartup = wildStartups.get(i);
+            if (winners[i] != wildStartup) {
+                // Wild startup is acquired
+                TechGiant techGiant = contenders.get(i % shares);
+                techGiant.acquire(wildStartup);
+                deductAcquisitionCost(techGiant, wildStartup);
+            } else {
+                remaining.add(wildStartup);
             }
         }
+        wildStartups.clear();
+        wildStartups.addAll(remaining);
     }
 
     /**
@@ -283,8 +740,8 @@ public class SimulationManager {
      */
     private void deductAcquisitionCost(TechGiant techGiant, Startup wildStartup) {
         double acquisitionCost = 500; // Example cost
-        if (techGiant.getFunds() >= acquisitionCost) {
-            techGiant.setFunds(techGiant.getFunds() - acquisitionCost);
+        if (techGiant.getLedger().tryDebit(acquisitionCost,
+                FundsLedger.Transaction.ACQUISITION)) {
             log(techGiant.getName()
                     + " paid $" + acquisitionCost
                     + " to acquire " + wildStartup.getName());
@@ -297,8 +754,10 @@ public class SimulationManager {
      * @param techGiant The Tech Giant attempting to build a startup.
      */
     public void buildNewStartup(TechGiant techGiant) {
-        if (techGiant.getFunds() >= 1000) {
-            String startupType = techGiant.getFunds() > 5000 ? "Premium" : "General";
+        double funds = techGiant.getFunds();
+        if (techGiant.getLedger().tryDebit(1000, FundsLedger.Transaction.CONSTRUCTION)) {
+            // Deduct building cost; the type follows the funds before it
+            String startupType = funds > 5000 ? "Premium" : "General";
 
             Startup newStartup = new Startup(
                     techGiant.getName() + " Startup #" + (techGiant.getStartups().size() + 1),
@@ -310,7 +769,6 @@ public class SimulationManager {
             );
 
             techGiant.addStartup(newStartup);
-            techGiant.setFunds(techGiant.getFunds() - 1000); // Deduct building cost
         }
     }
 
@@ -0,0 +1,78 @@
+package simulation;
+
+import java.util.Random;
+
+/**
+ * Source of randomness for the simulation.
+ * Battles draw from a generator derived from the run seed and the battle's position in the
+ * run, so results are reproducible and independent of which thread resolves the battle.
+ */
+public interface SimulationRandom {
+
+    /**
+     * Returns a uniformly distributed value between 0 (inclusive) and 1 (exclusive).
+     * @return the next double
+     */
+    double nextDouble();
+
+    /**
+     * Returns a uniformly distributed value between 0 (inclusive) and bound (exclusive).
+     * @param bound the upper bound, must be positive
+     * @return the next int
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns a uniformly distributed long.
+     * @return the next long
+     */
+    long nextLong();
+
+    /**
+     * Creates an independent generator, e.g. for work handed to another thread.
+     * @return the new generator
+     */
+    SimulationRandom split();
+
+    /**
+     * Creates a reproducible generator for a seed.
+     * @param seed the seed
+     * @return a generator backed by {@link java.util.SplittableRandom}
+     */
+    static SimulationRandom seeded(long seed) {
+        return new SplittableSimulationRandom(seed);
+    }
+
+    /**
+     * Creates the generator for one battle of a run.
+     * @param seed    the run seed
+     * @param year    the simulated year
+     * @param quarter the quarter within the year
+     * @param battle  the battle number within the quarter
+     * @return a generator that depends only on its key
+     */
+    static SimulationRandom forBattle(long seed, int year, int quarter, int battle) {
+        return seeded(SeedMixer.mix(SeedMixer.mix(SeedMixer.mix(seed, year), quarter), battle));
+    }
+
+    /**
+     * Retrieves a shared, non-reproducible generator backed by the calling thread's
+     * {@link java.util.concurrent.ThreadLocalRandom}. Used when no seed was supplied.
+     * @return the shared generator
+     */
+    static SimulationRandom unseeded() {
+        return ThreadLocalSimulationRandom.INSTANCE;
+    }
+
+    /**
+     * Adapts a {@link Random} to this interface.
+     * @param random the generator to adapt
+     * @return the adapter, or the argument itself if it already implements this interface
+     */
+    static SimulationRandom wrap(Random random) {
+        if (random instanceof SimulationRandom) {
+            return (SimulationRandom) random;
+        }
+        return new JavaUtilSimulationRandom(random);
+    }
+}
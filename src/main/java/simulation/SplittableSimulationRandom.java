@@ -0,0 +1,40 @@
+package simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator backed by {@link SplittableRandom}. Not thread-safe; give each thread its
+ * own instance through {@link #split()}.
+ */
+final class SplittableSimulationRandom implements SimulationRandom {
+
+    private final SplittableRandom random;
+
+    SplittableSimulationRandom(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableSimulationRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public SimulationRandom split() {
+        return new SplittableSimulationRandom(random.split());
+    }
+}
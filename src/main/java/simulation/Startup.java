@@ -13,20 +13,26 @@ import java.util.Random;
 public class Startup {
 
     private String name;        // Name of the startup
-    private String type;        // Type of the startup (e.g., FinTech, Social Media)
+    private StartupType type;   // Type of the startup (e.g., FinTech, Social Media)
+    private String typeName;    // Type as spelled by the caller
     private double revenue;     // Financial health (monetary units)
     private double marketShare; // Market influence (percentage)
     private double netIncome;   // Profitability (monetary units)
     private int experiencePoints; // Experience points for evolution
-    private String stage;       // Current stage of the startup (e.g., Garage Startup, Unicorn)
+    private StartupStage stage; // Current stage of the startup (e.g., Garage Startup, Unicorn)
     private boolean isWild; // Indicates if the startup is wild or owned by a Tech Giant
+    private TechGiant owner; // Tech Giant that currently owns the startup, if any
+    int revenueSlot = -1;    // Position in the owner's revenue index
+    int portfolioSlot = -1;  // Position in the owner's startup list
+    long acquisitionOrder;   // Order of acquisition by the owner; breaks revenue ties
 
 
-    private final Random randomGenerator; // Instance of Random for controlled randomness
-    private static final double CRITICAL_HIT_CHANCE = 0.2;
-    private static final double MISS_CHANCE = 0.1;
-    private static final String[] ATTACK_TYPES =
-    {"Talent Drain", "Trade Secret Theft", "Price Undercutting"};
+    private final SimulationRandom randomGenerator; // Used when attacking outside a battle
+    static final double CRITICAL_HIT_CHANCE = 0.2;
+    static final double MISS_CHANCE = 0.1;
+    private static final AttackType[] ATTACK_TYPES = AttackType.values();
+    static final int ATTACK_TYPE_COUNT = ATTACK_TYPES.length;
+    private static final double BASE_DAMAGE = 10.0; // Damage of a landed, non-critical attack
 
 
     /**
@@ -51,14 +57,15 @@ public class Startup {
         }
 
         this.name = name;
-        this.type = type;
+        this.type = StartupType.of(type);
+        this.typeName = type;
         this.revenue = Math.max(0, revenue);   // Monetary value representing financial health
         this.marketShare = Math.max(0, marketShare); // Percentage value
         this.netIncome = Math.max(0, netIncome);  // Monetary value representing profitability
         this.experiencePoints = 0; // Initial XP
-        this.stage = "Garage Startup"; // Initial stage
+        this.stage = StartupStage.GARAGE_STARTUP; // Initial stage
         this.isWild = isWild; // Initialize wild status
-        this.randomGenerator = new Random();
+        this.randomGenerator = SimulationRandom.unseeded(); // Shared, no per-startup allocation
     }
 
     /**
@@ -87,14 +94,25 @@ public class Startup {
         }
 
         this.name = name;
-        this.type = type;
+        this.type = StartupType.of(type);
+        this.typeName = type;
         this.revenue = Math.max(0, revenue);
         this.marketShare = Math.max(0, marketShare);
         this.netIncome = Math.max(0, netIncome);
         this.experiencePoints = 0;
-        this.stage = "Garage Startup";
+        this.stage = StartupStage.GARAGE_STARTUP;
         this.isWild = isWild;
-        this.randomGenerator = new Random(randomGenerator.nextLong());
+        this.randomGenerator = SimulationRandom.wrap(new Random(randomGenerator.nextLong()));
+    }
+
+    /**
+     * Constructs a startup whose state lives elsewhere, such as a row of a
+     * {@link StartupStore}. Subclasses override the getters and write methods.
+     * @param randomGenerator the random number generator shared by the backing store
+     */
+    Startup(SimulationRandom randomGenerator) {
+        this.stage = StartupStage.GARAGE_STARTUP;
+        this.randomGenerator = randomGenerator;
     }
 
     /**
@@ -106,10 +124,19 @@ public class Startup {
     }
 
     /**
-     * Retrieves the type of the startup.
+     * Retrieves the type of the startup, spelled as it was given when the startup was
+     * created. Spellings that differ only in case share one {@link #getStartupType()}.
      * @return The type of the startup.
      */
     public String getType() {
+        return typeName;
+    }
+
+    /**
+     * Retrieves the interned type of the startup.
+     * @return The type of the startup.
+     */
+    public StartupType getStartupType() {
         return type;
     }
 
@@ -151,6 +178,14 @@ public class Startup {
      * @return The stage of the startup.
      */
     public String getStage() {
+        return getStageValue().getLabel();
+    }
+
+    /**
+     * Retrieves the current stage of the startup as an enum value.
+     * @return The stage of the startup.
+     */
+    public StartupStage getStageValue() {
         return stage;
     }
 
@@ -172,7 +207,7 @@ public class Startup {
         if (revenue < 0) {
             throw new IllegalArgumentException("Revenue cannot be negative.");
         }
-        this.revenue = revenue;
+        writeRevenue(revenue);
     }
 
     /**
@@ -184,9 +219,59 @@ public class Startup {
         if (marketShare < 0) {
             throw new IllegalArgumentException("Market share cannot be negative.");
         }
+        writeMarketShare(marketShare);
+    }
+
+    /**
+     * Retrieves the Tech Giant that owns the startup.
+     * @return The owner, or null if no Tech Giant owns the startup.
+     */
+    public TechGiant getOwner() {
+        return owner;
+    }
+
+    void setOwner(TechGiant owner) {
+        this.owner = owner;
+    }
+
+    // Every revenue change goes through here so the owner's revenue index stays ordered.
+    void writeRevenue(double revenue) {
+        storeRevenue(revenue);
+        revenueChanged();
+    }
+
+    /**
+     * Tells the owner that the revenue changed. Also called by a StartupStore after it
+     * updates the revenue column directly.
+     */
+    void revenueChanged() {
+        if (owner != null) {
+            owner.revenueChanged(this);
+        }
+    }
+
+    // Storage hooks. Every state change goes through these so that a StartupStore
+    // row view can redirect them to its columns.
+    void storeRevenue(double revenue) {
+        this.revenue = revenue;
+    }
+
+    void writeMarketShare(double marketShare) {
         this.marketShare = marketShare;
     }
 
+    void writeNetIncome(double netIncome) {
+        this.netIncome = netIncome;
+    }
+
+    void writeExperiencePoints(int experiencePoints) {
+        this.experiencePoints = experiencePoints;
+    }
+
+    void writeStage(StartupStage stage) {
+        this.stage = stage;
+    }
+
 
     /**
      * Applies damage to a specific attribute of the startup based on the attack type.
@@ -195,22 +280,39 @@ public class Startup {
      *  @throws IllegalArgumentException if the damage is negative.
      */
     public void takeDamage(double damage, String attackType) {
+        AttackType type = AttackType.fromLabel(attackType);
+        if (type == null) {
+            if (damage < 0) {
+                throw new IllegalArgumentException("Damage must be non-negative.");
+            }
+            return; // Unknown attacks do no damage
+        }
+        takeDamage(damage, type);
+    }
+
+    /**
+     * Applies damage to the attribute targeted by an attack type.
+     * @param damage     The amount of damage to apply.
+     * @param attackType The type of attack.
+     * @throws IllegalArgumentException if the damage is negative.
+     */
+    public void takeDamage(double damage, AttackType attackType) {
 
         if (damage < 0) {
             throw new IllegalArgumentException("Damage must be non-negative.");
         }
 
         switch (attackType) {
-            case "Talent Drain":
-                this.marketShare = Math.max(0, this.marketShare - damage);
+            case TALENT_DRAIN:
+                writeMarketShare(Math.max(0, getMarketShare() - damage));
                 break;
 
-            case "Trade Secret Theft":
-                this.netIncome = Math.max(0, this.netIncome - damage);
+            case TRADE_SECRET_THEFT:
+                writeNetIncome(Math.max(0, getNetIncome() - damage));
                 break;
 
-            case "Price Undercutting":
-                this.revenue = Math.max(0, this.revenue - damage);
+            case PRICE_UNDERCUTTING:
+                writeRevenue(Math.max(0, getRevenue() - damage));
                 break;
 
             default:
@@ -220,7 +322,7 @@ public class Startup {
 
 
     /**
-     * Performs an attack on another startup.
+     * Performs an attack on another startup using this startup's own random generator.
      * The attack type and damage are determined based on the attacker's attributes
      * and type advantages.
      * @param opponent The opponent startup being attacked.
@@ -228,29 +330,52 @@ public class Startup {
      * @throws IllegalArgumentException if the opponent is null.
      */
     public String attack(Startup opponent) {
+        return attack(opponent, randomGenerator);
+    }
+
+    /**
+     * Performs an attack on another startup, drawing all randomness from the given generator.
+     * @param opponent The opponent startup being attacked.
+     * @param random   The generator for attack type, miss and critical hit rolls.
+     * @return A summary of the attack, including the damage dealt.
+     * @throws IllegalArgumentException if the opponent is null.
+     */
+    public String attack(Startup opponent, SimulationRandom random) {
+        if (opponent == null) {
+            throw new IllegalArgumentException("Opponent cannot be null.");
+        }
+        AttackOutcome outcome = new AttackOutcome();
+        attack(opponent, random, outcome);
+        return outcome.describe();
+    }
+
+    /**
+     * Performs an attack on another startup and records the result without building a
+     * report, so repeated attacks allocate nothing.
+     * @param opponent The opponent startup being attacked.
+     * @param random   The generator for attack type, miss and critical hit rolls.
+     * @param outcome  Receives the attack type, damage, critical hit and remaining revenue.
+     * @throws IllegalArgumentException if the opponent is null.
+     */
+    public void attack(Startup opponent, SimulationRandom random, AttackOutcome outcome) {
         if (opponent == null) {
             throw new IllegalArgumentException("Opponent cannot be null.");
         }
-        System.out.println(name + " is attacking " + opponent.getName() + "!");
+        outcome.begin(this, opponent);
 
         // Determine attack type
-        String attackType = determineAttackType();
-        double damage = calculateDamage(opponent, attackType);
+        AttackType attackType = determineAttackType(random);
+        double damage = calculateDamage(opponent, random);
 
         // Critical hit logic
-        if (randomGenerator.nextDouble() < CRITICAL_HIT_CHANCE) {
+        boolean criticalHit = random.nextDouble() < CRITICAL_HIT_CHANCE;
+        if (criticalHit) {
             damage *= 2; // Double the damage for critical hit
-            attackType = "Price Undercutting"; // Change attack type
+            attackType = AttackType.PRICE_UNDERCUTTING; // Change attack type
         }
 
         opponent.takeDamage(damage, attackType);
-
-        // After attack, show remaining health only once
-        return String.format("%s used %s on %s. Damage: %.2f" + "\n"
-                        + "%s has %.2f remaining."
-                        + "\n--------------------------------------------",
-                this.name, attackType, opponent.getName(),
-                damage, opponent.getName(), opponent.getRevenue());
+        outcome.recordHit(attackType, damage, criticalHit);
     }
 
 
@@ -263,8 +388,8 @@ public class Startup {
         if (points < 0) {
             throw new IllegalArgumentException("Experience points must be non-negative.");
         }
-        experiencePoints += points;
-        System.out.println(name + " gained " + points + " XP!");
+        writeExperiencePoints(getExperiencePoints() + points);
+        SimulationEventBus.listener().experienceGained(this, points);
 
         // Check for evolution
         evolve();
@@ -275,16 +400,10 @@ public class Startup {
      * Handles evolution based on experience points.
      */
     private void evolve() {
-        if (experiencePoints >= 10) {
-            if (!stage.equals("Unicorn")) {
-                stage = "Unicorn";
-                System.out.println(name + " has evolved into a Unicorn!");
-            }
-        } else if (experiencePoints >= 5) {
-            if (!stage.equals("Tech Star")) {
-                stage = "Tech Star";
-                System.out.println(name + " has evolved into a Tech Star!");
-            }
+        StartupStage reached = StartupStage.forExperience(getExperiencePoints());
+        if (reached.compareTo(getStageValue()) > 0) {
+            writeStage(reached);
+            SimulationEventBus.listener().evolved(this, reached.getLabel());
         }
     }
 
@@ -293,39 +412,38 @@ public class Startup {
 
     /**
      * Determines the type of attack randomly.
+     * @param random The generator to draw from.
      * @return The selected attack type.
      */
-    private String determineAttackType() {
-        return ATTACK_TYPES[randomGenerator.nextInt(ATTACK_TYPES.length)];
+    private AttackType determineAttackType(SimulationRandom random) {
+        return ATTACK_TYPES[random.nextInt(ATTACK_TYPES.length)];
     }
 
 
     /**
      * Calculates the damage dealt to an opponent, considering type advantages and critical hits.
-     * @param opponent   The opponent startup being attacked.
-     * @param attackType The type of attack being performed.
+     * @param opponent The opponent startup being attacked.
+     * @param random   The generator to draw the miss roll from.
      * @return The calculated damage value.
      */
-
-    private double calculateDamage(Startup opponent, String attackType) {
-        double baseDamage = 10.0; // Default damage value
-        if (randomGenerator.nextDouble() <  MISS_CHANCE) { // 10% chance to miss
+    private double calculateDamage(Startup opponent, SimulationRandom random) {
+        if (random.nextDouble() <  MISS_CHANCE) { // 10% chance to miss
             return 0;
         }
+        return baseDamageAgainst(opponent);
+    }
 
-        // Type advantage logic
-        if ((type.equalsIgnoreCase("Operating Systems")
-                && opponent.getType().equalsIgnoreCase("Social Media"))
-                || (type.equalsIgnoreCase("FinTech")
-                && opponent.getType().equalsIgnoreCase("Real Estate"))) {
-            baseDamage *= 1.5;
-        }
-
-        return baseDamage;
+    /**
+     * Calculates the damage of a landed, non-critical attack on an opponent.
+     * @param opponent The opponent startup being attacked.
+     * @return The base damage, including any type advantage.
+     */
+    double baseDamageAgainst(Startup opponent) {
+        return BASE_DAMAGE * getStartupType().damageMultiplierAgainst(opponent.getStartupType());
     }
 
     public double testCalculateDamage(Startup opponent, String attackType) {
-        return calculateDamage(opponent, attackType);
+        return calculateDamage(opponent, randomGenerator);
     }
 
 
@@ -0,0 +1,104 @@
+package simulation;
+
+import java.util.List;
+
+/**
+ * A population of startups addressed by row, for effects that process every startup in one
+ * pass. Types are exposed as dense ordinals so per-type decisions can be made once per
+ * batch instead of once per startup.
+ */
+public interface StartupBatch {
+
+    /**
+     * Retrieves the number of startups in the batch.
+     * @return the row count
+     */
+    int size();
+
+    /**
+     * Retrieves the number of type ordinals the batch may use.
+     * @return the type count; ordinals range from 0 to this value, exclusive
+     */
+    int typeCount();
+
+    /**
+     * Retrieves the type name for an ordinal.
+     * @param ordinal the type ordinal
+     * @return the type name
+     */
+    String typeName(int ordinal);
+
+    /**
+     * Retrieves the interned type for an ordinal, so effects can decide per type without
+     * looking the name up again.
+     * @param ordinal the type ordinal
+     * @return the type
+     */
+    StartupType typeForOrdinal(int ordinal);
+
+    /**
+     * Retrieves the ordinal of a row's type.
+     * @param row the row index
+     * @return the type ordinal
+     */
+    int typeOrdinal(int row);
+
+    double revenue(int row);
+
+    double marketShare(int row);
+
+    /**
+     * Sets the revenue of a row.
+     * @param row     the row index
+     * @param revenue the new revenue value
+     * @throws IllegalArgumentException if the revenue is negative.
+     */
+    void setRevenue(int row, double revenue);
+
+    /**
+     * Sets the market share of a row.
+     * @param row         the row index
+     * @param marketShare the new market share value
+     * @throws IllegalArgumentException if the market share is negative.
+     */
+    void setMarketShare(int row, double marketShare);
+
+    /**
+     * Retrieves the startup at a row, for effects that have no batch implementation.
+     * @param row the row index
+     * @return the startup
+     */
+    Startup view(int row);
+
+    /**
+     * Changes every row's revenue by a fraction of itself chosen by the row's type:
+     * {@code revenue + revenue * fractionByType[typeOrdinal]}.
+     * @param fractionByType the fraction for each type ordinal; each must be at least -1
+     * @throws IllegalArgumentException if there are fewer fractions than types, or a
+     *                                  fraction is below -1 or not a number; no row is
+     *                                  changed then.
+     */
+    default void addRevenueFraction(double[] fractionByType) {
+        if (fractionByType.length < typeCount()) {
+            throw new IllegalArgumentException("A revenue fraction is needed for every type.");
+        }
+        for (double fraction : fractionByType) {
+            if (!(fraction >= -1)) {
+                throw new IllegalArgumentException("Revenue fraction must be at least -1.");
+            }
+        }
+        for (int row = 0; row < size(); row++) {
+            double current = revenue(row);
+            setRevenue(row, current + current * fractionByType[typeOrdinal(row)]);
+        }
+    }
+
+    /**
+     * Adapts a list of startups. Types are numbered by the {@link StartupType} registry.
+     * @param startups the startups
+     * @return a batch backed by the list
+     */
+    static StartupBatch of(List<Startup> startups) {
+        return new StartupListBatch(startups);
+    }
+}
@@ -0,0 +1,66 @@
+package simulation;
+
+import java.util.List;
+
+/**
+ * {@link StartupBatch} over a list of startups. Type ordinals are those of the
+ * {@link StartupType} registry. Writes go through the startups' setters.
+ */
+final class StartupListBatch implements StartupBatch {
+
+    private final List<Startup> startups;
+
+    StartupListBatch(List<Startup> startups) {
+        this.startups = startups;
+    }
+
+    @Override
+    public int size() {
+        return startups.size();
+    }
+
+    @Override
+    public int typeCount() {
+        return StartupType.count();
+    }
+
+    @Override
+    public String typeName(int ordinal) {
+        return StartupType.fromOrdinal(ordinal).getName();
+    }
+
+    @Override
+    public StartupType typeForOrdinal(int ordinal) {
+        return StartupType.fromOrdinal(ordinal);
+    }
+
+    @Override
+    public int typeOrdinal(int row) {
+        return startups.get(row).getStartupType().getOrdinal();
+    }
+
+    @Override
+    public double revenue(int row) {
+        return startups.get(row).getRevenue();
+    }
+
+    @Override
+    public double marketShare(int row) {
+        return startups.get(row).getMarketShare();
+    }
+
+    @Override
+    public void setRevenue(int row, double revenue) {
+        startups.get(row).setRevenue(revenue);
+    }
+
+    @Override
+    public void setMarketShare(int row, double marketShare) {
+        startups.get(row).setMarketShare(marketShare);
+    }
+
+    @Override
+    public Startup view(int row) {
+        return startups.get(row);
+    }
+}
@@ -0,0 +1,220 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Indexed binary max-heap of a Tech Giant's startups, ordered by revenue.
+ * Each startup remembers its slot, so a revenue change is repaired in O(log n) and the
+ * strongest startup is read in O(1). Ties go to the startup acquired first.
+ */
+final class StartupRevenueIndex {
+
+    private Startup[] heap = new Startup[16];
+    private int size;
+    private long acquisitions; // Source of acquisition order for tie-breaking
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds a startup that is not in any index.
+     */
+    void add(Startup startup) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        startup.acquisitionOrder = acquisitions++;
+        place(startup, size++);
+        siftUp(startup.revenueSlot);
+    }
+
+    /**
+     * Adds startups that are not in any index, in the given order, and restores the heap
+     * order once for the whole group. Costs O(n) rather than O(n log n).
+     */
+    void addAll(List<Startup> startups) {
+        for (Startup startup : startups) {
+            startup.acquisitionOrder = acquisitions++;
+        }
+        placeAll(startups);
+    }
+
+    /**
+     * Adds startups whose acquisition orders were saved by a checkpoint, keeping those
+     * orders, and continues numbering from the saved counter.
+     */
+    void restore(List<Startup> startups, long nextAcquisition) {
+        placeAll(startups);
+        acquisitions = nextAcquisition;
+    }
+
+    long nextAcquisition() {
+        return acquisitions;
+    }
+
+    /**
+     * Removes every startup from the index.
+     */
+    void clear() {
+        for (int slot = 0; slot < size; slot++) {
+            heap[slot].revenueSlot = -1;
+            heap[slot] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Removes a startup held by this index.
+     */
+    void remove(Startup startup) {
+        int slot = startup.revenueSlot;
+        Startup last = heap[--size];
+        heap[size] = null;
+        startup.revenueSlot = -1;
+        if (slot != size) {
+            place(last, slot);
+            changed(last);
+        }
+    }
+
+    /**
+     * Restores the heap order after a startup's revenue changed.
+     */
+    void changed(Startup startup) {
+        int slot = startup.revenueSlot;
+        if (slot > 0 && before(startup, heap[(slot - 1) / 2])) {
+            siftUp(slot);
+        } else {
+            siftDown(slot);
+        }
+    }
+
+    /**
+     * Retrieves the startup with the highest revenue.
+     * @return the strongest startup, or null if the index is empty
+     */
+    Startup max() {
+        return size == 0 ? null : heap[0];
+    }
+
+    /**
+     * Retrieves the startups with the highest revenue without disturbing the heap.
+     * Explores the heap best-first from the root, so it costs O(k log k).
+     * @param k the number of startups to return
+     * @return up to k startups, strongest first
+     */
+    List<Startup> top(int k) {
+        int limit = Math.min(k, size);
+        List<Startup> result = new ArrayList<>(limit);
+        if (limit == 0) {
+            return result;
+        }
+        int[] frontier = new int[2 * limit + 1]; // Heap slots, kept as a max-heap
+        int frontierSize = 0;
+        frontier[frontierSize++] = 0;
+        while (result.size() < limit) {
+            int slot = frontier[0];
+            frontier[0] = frontier[--frontierSize];
+            siftDownFrontier(frontier, frontierSize, 0);
+            result.add(heap[slot]);
+            for (int child = 2 * slot + 1; child <= 2 * slot + 2 && child < size; child++) {
+                frontier[frontierSize] = child;
+                siftUpFrontier(frontier, frontierSize++);
+            }
+        }
+        return result;
+    }
+
+    private static boolean before(Startup a, Startup b) {
+        int byRevenue = Double.compare(a.getRevenue(), b.getRevenue());
+        return byRevenue > 0 || (byRevenue == 0 && a.acquisitionOrder < b.acquisitionOrder);
+    }
+
+    private void placeAll(List<Startup> startups) {
+        if (size + startups.size() > heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(heap.length * 2, size + startups.size()));
+        }
+        for (Startup startup : startups) {
+            place(startup, size++);
+        }
+        for (int slot = size / 2 - 1; slot >= 0; slot--) {
+            siftDown(slot);
+        }
+    }
+
+    private void place(Startup startup, int slot) {
+        heap[slot] = startup;
+        startup.revenueSlot = slot;
+    }
+
+    private void siftUp(int slot) {
+        Startup startup = heap[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (!before(startup, heap[parent])) {
+                break;
+            }
+            place(heap[parent], slot);
+            slot = parent;
+        }
+        place(startup, slot);
+    }
+
+    private void siftDown(int slot) {
+        Startup startup = heap[slot];
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && before(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!before(heap[child], startup)) {
+                break;
+            }
+            place(heap[child], slot);
+            slot = child;
+        }
+        place(startup, slot);
+    }
+
+    private void siftUpFrontier(int[] frontier, int index) {
+        int slot = frontier[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!before(heap[slot], heap[frontier[parent]])) {
+                break;
+            }
+            frontier[index] = frontier[parent];
+            index = parent;
+        }
+        frontier[index] = slot;
+    }
+
+    private void siftDownFrontier(int[] frontier, int frontierSize, int index) {
+        if (frontierSize == 0) {
+            return;
+        }
+        int slot = frontier[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= frontierSize) {
+                break;
+            }
+            if (child + 1 < frontierSize
+                    && before(heap[frontier[child + 1]], heap[frontier[child]])) {
+                child++;
+            }
+            if (!before(heap[frontier[child]], heap[slot])) {
+                break;
+            }
+            frontier[index] = frontier[child];
+            index = child;
+        }
+        frontier[index] = slot;
+    }
+}
@@ -0,0 +1,60 @@
+package simulation;
+
+/**
+ * Evolution stages of a startup, ordered from least to most experienced.
+ */
+public enum StartupStage {
+    GARAGE_STARTUP("Garage Startup", 0),
+    TECH_STAR("Tech Star", 5),
+    UNICORN("Unicorn", 10);
+
+    private static final StartupStage[] VALUES = values();
+
+    private final String label;
+    private final int requiredExperience;
+
+    StartupStage(String label, int requiredExperience) {
+        this.label = label;
+        this.requiredExperience = requiredExperience;
+    }
+
+    /**
+     * Retrieves the display name of the stage.
+     * @return The stage label (e.g., "Tech Star").
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Retrieves the experience points needed to reach this stage.
+     * @return The experience threshold.
+     */
+    public int getRequiredExperience() {
+        return requiredExperience;
+    }
+
+    /**
+     * Finds the stage reached with the given experience points.
+     * @param experiencePoints The experience points.
+     * @return The highest stage whose threshold is met.
+     */
+    public static StartupStage forExperience(int experiencePoints) {
+        StartupStage stage = GARAGE_STARTUP;
+        for (StartupStage candidate : VALUES) {
+            if (experiencePoints >= candidate.requiredExperience) {
+                stage = candidate;
+            }
+        }
+        return stage;
+    }
+
+    /**
+     * Looks up a stage by ordinal without allocating.
+     * @param ordinal The ordinal of the stage.
+     * @return The stage.
+     */
+    public static StartupStage fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,414 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Columnar (structure-of-arrays) storage for large startup populations.
+ * Each attribute lives in its own primitive array indexed by row, so bulk passes such as
+ * event application walk contiguous memory instead of chasing one object per startup.
+ * Rows are exposed to the rest of the simulation as {@link Startup} flyweights that read
+ * and write the columns directly.
+ */
+public class StartupStore implements StartupBatch {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_TYPES = 256; // Type ordinals are stored in a byte
+
+    private String[] names;
+    private byte[] types;          // Ordinal into typeTable
+    private double[] revenue;
+    private double[] marketShare;
+    private double[] netIncome;
+    private int[] experiencePoints;
+    private byte[] stages;         // StartupStage ordinal
+    private boolean[] wild;
+    private Startup[] views;       // Flyweights, created on first request
+    private int size;
+
+    // One ordinal per type spelling, so rows report the type as it was given
+    private final List<String> typeSpellings = new ArrayList<>();
+    private final List<StartupType> typeTable = new ArrayList<>();
+    private final Map<String, Integer> typeOrdinals = new HashMap<>();
+    private final SimulationRandom randomGenerator; // Shared by all rows for attack randomness
+
+    /**
+     * Constructs an empty store with the default capacity.
+     */
+    public StartupStore() {
+        this(DEFAULT_CAPACITY, SimulationRandom.unseeded());
+    }
+
+    /**
+     * Constructs an empty store.
+     * @param initialCapacity number of rows to allocate up front
+     * @param randomGenerator random number generator used by the row views when attacking
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public StartupStore(int initialCapacity, SimulationRandom randomGenerator) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        this.randomGenerator = randomGenerator;
+        names = new String[initialCapacity];
+        types = new byte[initialCapacity];
+        revenue = new double[initialCapacity];
+        marketShare = new double[initialCapacity];
+        netIncome = new double[initialCapacity];
+        experiencePoints = new int[initialCapacity];
+        stages = new byte[initialCapacity];
+        wild = new boolean[initialCapacity];
+        views = new Startup[initialCapacity];
+    }
+
+    /**
+     * Appends a startup to the store. Validation matches the {@link Startup} constructor.
+     * @param name        Name of the startup.
+     * @param type        Type of the startup (e.g., FinTech, Social Media).
+     * @param revenue     Initial revenue of the startup.
+     * @param marketShare Initial market share of the startup.
+     * @param netIncome   Initial net income of the startup.
+     * @param isWild      Indicates whether the startup is wild or owned by a Tech Giant.
+     * @return the row index of the new startup
+     * @throws IllegalArgumentException if the name or type is null or empty.
+     */
+    public int add(String name, String type, double revenue, double marketShare,
+                   double netIncome, boolean isWild) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Name cannot be null or empty.");
+        }
+        if (type == null || type.isEmpty()) {
+            throw new IllegalArgumentException("Type cannot be null or empty.");
+        }
+        if (size == names.length) {
+            grow();
+        }
+        int row = size++;
+        names[row] = name;
+        types[row] = (byte) internType(type);
+        this.revenue[row] = Math.max(0, revenue);
+        this.marketShare[row] = Math.max(0, marketShare);
+        this.netIncome[row] = Math.max(0, netIncome);
+        experiencePoints[row] = 0;
+        stages[row] = (byte) StartupStage.GARAGE_STARTUP.ordinal();
+        wild[row] = isWild;
+        return row;
+    }
+
+    /**
+     * Retrieves the number of startups in the store.
+     * @return the row count
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the startup stored at a row. The same instance is returned for every call
+     * with the same row, so it can be owned by a Tech Giant and compared by identity.
+     * @param row the row index
+     * @return the startup view for the row
+     */
+    @Override
+    public Startup view(int row) {
+        checkRow(row);
+        Startup view = views[row];
+        if (view == null) {
+            view = new RowView(this, row);
+            views[row] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Visits every row without creating an object per row. A row that already has a view,
+     * for instance because a Tech Giant owns it, is passed as that view, so its owner and
+     * identity are the ones {@link #view(int)} gives. Every other row is passed through a
+     * single reusable cursor, which is only valid inside the callback and must not be
+     * retained.
+     * @param action the action to run for each row
+     */
+    public void forEach(Consumer<Startup> action) {
+        RowView cursor = new RowView(this, 0);
+        for (int row = 0; row < size; row++) {
+            Startup view = views[row];
+            if (view == null) {
+                cursor.row = row;
+                view = cursor;
+            }
+            action.accept(view);
+        }
+    }
+
+    // Column accessors
+
+    public String name(int row) {
+        checkRow(row);
+        return names[row];
+    }
+
+    public String type(int row) {
+        checkRow(row);
+        return typeSpellings.get(types[row] & 0xFF);
+    }
+
+    public StartupType startupType(int row) {
+        checkRow(row);
+        return typeTable.get(types[row] & 0xFF);
+    }
+
+    /**
+     * Retrieves the ordinal of a row's type within this store.
+     * @param row the row index
+     * @return the type ordinal, usable with {@link #typeName(int)}
+     */
+    @Override
+    public int typeOrdinal(int row) {
+        checkRow(row);
+        return types[row] & 0xFF;
+    }
+
+    /**
+     * Retrieves the type name for an ordinal returned by {@link #typeOrdinal(int)}.
+     * @param ordinal the type ordinal
+     * @return the type name, spelled as it was added
+     */
+    @Override
+    public String typeName(int ordinal) {
+        return typeSpellings.get(ordinal);
+    }
+
+    /**
+     * Retrieves the interned type for an ordinal returned by {@link #typeOrdinal(int)}.
+     * Spellings that differ only in case have their own ordinals but share a type.
+     * @param ordinal the type ordinal
+     * @return the type
+     */
+    @Override
+    public StartupType typeForOrdinal(int ordinal) {
+        return typeTable.get(ordinal);
+    }
+
+    /**
+     * Retrieves the number of distinct type spellings stored so far.
+     * @return the type count
+     */
+    @Override
+    public int typeCount() {
+        return typeTable.size();
+    }
+
+    @Override
+    public double revenue(int row) {
+        checkRow(row);
+        return revenue[row];
+    }
+
+    @Override
+    public double marketShare(int row) {
+        checkRow(row);
+        return marketShare[row];
+    }
+
+    public double netIncome(int row) {
+        checkRow(row);
+        return netIncome[row];
+    }
+
+    public int experiencePoints(int row) {
+        checkRow(row);
+        return experiencePoints[row];
+    }
+
+    public StartupStage stage(int row) {
+        checkRow(row);
+        return StartupStage.fromOrdinal(stages[row]);
+    }
+
+    public boolean isWild(int row) {
+        checkRow(row);
+        return wild[row];
+    }
+
+    /**
+     * Sets the revenue of a row.
+     * @param row     the row index
+     * @param revenue the new revenue value
+     * @throws IllegalArgumentException if the revenue is negative.
+     */
+    @Override
+    public void setRevenue(int row, double revenue) {
+        view(row).setRevenue(revenue);
+    }
+
+    /**
+     * Sets the market share of a row.
+     * @param row         the row index
+     * @param marketShare the new market share value
+     * @throws IllegalArgumentException if the market share is negative.
+     */
+    @Override
+    public void setMarketShare(int row, double marketShare) {
+        view(row).setMarketShare(marketShare);
+    }
+
+    /**
+     * Changes every row's revenue in a single pass over the revenue and type columns.
+     * Like {@link Startup#setRevenue}, it never stores a negative revenue.
+     * @param fractionByType the fraction for each type ordinal; each must be at least -1
+     * @throws IllegalArgumentException if there are fewer fractions than types, or a
+     *                                  fraction is below -1 or not a number; no row is
+     *                                  changed then.
+     */
+    @Override
+    public void addRevenueFraction(double[] fractionByType) {
+        if (fractionByType.length < typeCount()) {
+            throw new IllegalArgumentException("A revenue fraction is needed for every type.");
+        }
+        for (double fraction : fractionByType) {
+            if (!(fraction >= -1)) {
+                throw new IllegalArgumentException("Revenue fraction must be at least -1.");
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            double current = revenue[row];
+            revenue[row] = current + current * fractionByType[types[row] & 0xFF];
+        }
+        for (int row = 0; row < size; row++) {
+            if (views[row] != null) {
+                views[row].revenueChanged(); // Keep owners' revenue indexes ordered
+            }
+        }
+    }
+
+    private int internType(String type) {
+        Integer ordinal = typeOrdinals.get(type);
+        if (ordinal == null) {
+            if (typeTable.size() == MAX_TYPES) {
+                throw new IllegalStateException("A StartupStore supports at most "
+                        + MAX_TYPES + " startup types.");
+            }
+            ordinal = typeTable.size();
+            typeSpellings.add(type);
+            typeTable.add(StartupType.of(type));
+            typeOrdinals.put(type, ordinal);
+        }
+        return ordinal;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, names.length + (names.length >> 1));
+        names = Arrays.copyOf(names, capacity);
+        types = Arrays.copyOf(types, capacity);
+        revenue = Arrays.copyOf(revenue, capacity);
+        marketShare = Arrays.copyOf(marketShare, capacity);
+        netIncome = Arrays.copyOf(netIncome, capacity);
+        experiencePoints = Arrays.copyOf(experiencePoints, capacity);
+        stages = Arrays.copyOf(stages, capacity);
+        wild = Arrays.copyOf(wild, capacity);
+        views = Arrays.copyOf(views, capacity);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of range for size " + size);
+        }
+    }
+
+    /**
+     * Startup flyweight that reads and writes one row of the store.
+     */
+    private static final class RowView extends Startup {
+        private final StartupStore store;
+        private int row;
+
+        RowView(StartupStore store, int row) {
+            super(store.randomGenerator);
+            this.store = store;
+            this.row = row;
+        }
+
+        @Override
+        public String getName() {
+            return store.names[row];
+        }
+
+        @Override
+        public String getType() {
+            return store.typeSpellings.get(store.types[row] & 0xFF);
+        }
+
+        @Override
+        public StartupType getStartupType() {
+            return store.typeTable.get(store.types[row] & 0xFF);
+        }
+
+        @Override
+        public double getRevenue() {
+            return store.revenue[row];
+        }
+
+        @Override
+        public double getMarketShare() {
+            return store.marketShare[row];
+        }
+
+        @Override
+        public double getNetIncome() {
+            return store.netIncome[row];
+        }
+
+        @Override
+        public int getExperiencePoints() {
+            return store.experiencePoints[row];
+        }
+
+        @Override
+        public StartupStage getStageValue() {
+            return StartupStage.fromOrdinal(store.stages[row]);
+        }
+
+        @Override
+        public boolean isWild() {
+            return store.wild[row];
+        }
+
+        @Override
+        void storeRevenue(double revenue) {
+            store.revenue[row] = revenue;
+        }
+
+        @Override
+        void revenueChanged() {
+            // Only a cached view can be owned; a forEach cursor visits rows without one
+            if (store.views[row] == this) {
+                super.revenueChanged();
+            }
+        }
+
+        @Override
+        void writeMarketShare(double marketShare) {
+            store.marketShare[row] = marketShare;
+        }
+
+        @Override
+        void writeNetIncome(double netIncome) {
+            store.netIncome[row] = netIncome;
+        }
+
+        @Override
+        void writeExperiencePoints(int experiencePoints) {
+            store.experiencePoints[row] = experiencePoints;
+        }
+
+        @Override
+        void writeStage(StartupStage stage) {
+            store.stages[row] = (byte) stage.ordinal();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package simulation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interned startup sector, such as FinTech or Social Media.
+ * Types are looked up without regard to case and numbered densely in registration order.
+ * Type advantages live in a matrix indexed by attacker and defender ordinal, so checking an
+ * advantage during an attack is a single array lookup. The default sectors and advantages
+ * are loaded from {@code startup-types.properties} on the class path.
+ */
+public final class StartupType {
+
+    private static final String CONFIGURATION = "/startup-types.properties";
+
+    private static final Map<String, StartupType> BY_KEY = new ConcurrentHashMap<>();
+    private static final List<StartupType> VALUES = new ArrayList<>();
+    // Copy-on-write so attacks read it without locking; only covers types with advantages
+    private static volatile double[][] multipliers = new double[0][];
+
+    private final String name;
+    private final String key;
+    private final int ordinal;
+
+    static {
+        try (InputStream in = StartupType.class.getResourceAsStream(CONFIGURATION)) {
+            if (in != null) {
+                load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + CONFIGURATION, e);
+        }
+    }
+
+    private StartupType(String name, String key, int ordinal) {
+        this.name = name;
+        this.key = key;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Retrieves the type with the given name, registering it if it is new.
+     * @param name the type name, matched without regard to case
+     * @return the interned type
+     * @throws IllegalArgumentException if the name is null or empty.
+     */
+    public static StartupType of(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Type cannot be null or empty.");
+        }
+        String key = name.toLowerCase(Locale.ROOT);
+        StartupType type = BY_KEY.get(key);
+        return type != null ? type : register(name, key);
+    }
+
+    private static synchronized StartupType register(String name, String key) {
+        StartupType type = BY_KEY.get(key);
+        if (type == null) {
+            type = new StartupType(name, key, VALUES.size());
+            VALUES.add(type);
+            BY_KEY.put(key, type);
+        }
+        return type;
+    }
+
+    /**
+     * Retrieves the type with the given ordinal.
+     * @param ordinal the ordinal
+     * @return the type
+     * @throws IndexOutOfBoundsException if no type has the ordinal.
+     */
+    public static synchronized StartupType fromOrdinal(int ordinal) {
+        return VALUES.get(ordinal);
+    }
+
+    /**
+     * Retrieves the number of registered types.
+     * @return the type count; ordinals range from 0 to this value, exclusive
+     */
+    public static synchronized int count() {
+        return VALUES.size();
+    }
+
+    /**
+     * Retrieves all registered types in ordinal order.
+     * @return an unmodifiable snapshot of the registry
+     */
+    public static synchronized List<StartupType> values() {
+        return Collections.unmodifiableList(new ArrayList<>(VALUES));
+    }
+
+    /**
+     * Sets the damage multiplier of attacks by one type on another.
+     * @param attacker   the attacking type
+     * @param defender   the defending type
+     * @param multiplier the multiplier applied to base damage; 1 means no advantage
+     * @throws IllegalArgumentException if a type is null or the multiplier is not positive.
+     */
+    public static synchronized void setDamageMultiplier(StartupType attacker,
+                                                        StartupType defender,
+                                                        double multiplier) {
+        if (attacker == null || defender == null) {
+            throw new IllegalArgumentException("Types cannot be null.");
+        }
+        if (!(multiplier > 0) || Double.isInfinite(multiplier)) {
+            throw new IllegalArgumentException("Damage multiplier must be positive.");
+        }
+        int size = Math.max(multipliers.length,
+                Math.max(attacker.ordinal, defender.ordinal) + 1);
+        double[][] updated = new double[size][];
+        for (int row = 0; row < size; row++) {
+            updated[row] = new double[size];
+            Arrays.fill(updated[row], 1.0);
+            if (row < multipliers.length) {
+                System.arraycopy(multipliers[row], 0, updated[row], 0, multipliers.length);
+            }
+        }
+        updated[attacker.ordinal][defender.ordinal] = multiplier;
+        multipliers = updated;
+    }
+
+    /**
+     * Registers the sectors and advantages of a configuration in the format of
+     * {@code startup-types.properties}: a comma-separated {@code types} list and
+     * {@code advantage.<n> = attacker, defender, multiplier} entries.
+     * @param configuration the configuration
+     * @throws IllegalArgumentException if an advantage entry is malformed.
+     */
+    public static void configure(Properties configuration) {
+        String types = configuration.getProperty("types", "");
+        for (String type : types.split(",")) {
+            if (!type.trim().isEmpty()) {
+                of(type.trim());
+            }
+        }
+        Map<String, String> advantages = new TreeMap<>();
+        for (String property : configuration.stringPropertyNames()) {
+            if (property.startsWith("advantage.")) {
+                advantages.put(property, configuration.getProperty(property));
+            }
+        }
+        for (Map.Entry<String, String> advantage : advantages.entrySet()) {
+            String[] parts = advantage.getValue().split(",");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(advantage.getKey()
+                        + " must be 'attacker, defender, multiplier'.");
+            }
+            double multiplier;
+            try {
+                multiplier = Double.parseDouble(parts[2].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(advantage.getKey()
+                        + " has an invalid multiplier.", e);
+            }
+            setDamageMultiplier(of(parts[0].trim()), of(parts[1].trim()), multiplier);
+        }
+    }
+
+    /**
+     * Reads a configuration in properties format and registers it.
+     * @param in the configuration stream
+     * @throws IOException if the stream cannot be read.
+     * @throws IllegalArgumentException if an advantage entry is malformed.
+     */
+    public static void load(InputStream in) throws IOException {
+        Properties configuration = new Properties();
+        configuration.load(in);
+        configure(configuration);
+    }
+
+    /**
+     * Retrieves the multiplier applied to this type's attacks on a defender.
+     * @param defender the defending type
+     * @return the damage multiplier; 1 if this type has no advantage
+     */
+    public double damageMultiplierAgainst(StartupType defender) {
+        double[][] matrix = multipliers;
+        if (ordinal < matrix.length && defender.ordinal < matrix.length) {
+            return matrix[ordinal][defender.ordinal];
+        }
+        return 1.0;
+    }
+
+    /**
+     * Retrieves the name the type was first registered with.
+     * @return the type name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the lower-case form of the name, for case-insensitive matching.
+     * @return the type key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
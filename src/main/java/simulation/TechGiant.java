@@ -2,8 +2,10 @@ package simulation;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
+import simulation.jfr.Acquisition;
+import simulation.jfr.Merger;
+import simulation.metrics.SimulationMetrics;
 
 /**
  * Represents a Tech Giant that manages startups.
@@ -12,8 +14,11 @@ import java.util.List;
 public class TechGiant {
     private String name; // Name of the Tech Giant (e.g., Google, Amazon)
     private List<Startup> startups; // List of startups owned by the Tech Giant
-    private double funds; // Available funds for investments and acquisitions
-    private List<Enhancement> activeEnhancements; // Track ongoing enhancements
+    private final StartupRevenueIndex revenueIndex = new StartupRevenueIndex(); // By revenue
+    private final FundsLedger ledger; // Available funds for investments and acquisitions
+    private final EnhancementScheduler enhancements = new EnhancementScheduler(); // Active
+    private int enhancementLimit = Integer.MAX_VALUE; // Most enhancements held at once
+    private PortfolioWatcher watcher; // Simulation told about defeats and drained portfolios
 
 
     /**
@@ -32,8 +37,7 @@ public class TechGiant {
     public TechGiant(String name, double initialFunds) {
         this.name = name;
         this.startups = new ArrayList<>();
-        this.funds = initialFunds;
-        this.activeEnhancements = new ArrayList<>(); // Initialize the list
+        this.ledger = new FundsLedger(initialFunds);
     }
 
     // Getter methods
@@ -47,15 +51,57 @@ public class TechGiant {
 
 
     public double getFunds() {
-        return funds;
+        return ledger.getBalance();
+    }
+
+    /**
+     * Retrieves the ledger holding the funds and the journal of the changes to them.
+     * @return The funds ledger
+     */
+    public FundsLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Sets how many enhancements the Tech Giant may hold at once.
+     * @param enhancementLimit The maximum number of active enhancements
+     */
+    void setEnhancementLimit(int enhancementLimit) {
+        this.enhancementLimit = enhancementLimit;
+    }
+
+    PortfolioWatcher getWatcher() {
+        return watcher;
+    }
+
+    /**
+     * Sets who is told about defeated startups and a drained portfolio.
+     * @param watcher The watcher, or null
+     */
+    void setWatcher(PortfolioWatcher watcher) {
+        this.watcher = watcher;
     }
 
     /**
      * Sets the list of startups for the Tech Giant.
+     * Startups owned by another Tech Giant are taken over from it.
      * @param startups New list of startups
      */
     public void setStartups(List<Startup> startups) {
-        this.startups = new ArrayList<>(startups);
+        for (Startup startup : this.startups) {
+            startup.setOwner(null);
+            startup.portfolioSlot = -1;
+        }
+        this.startups.clear();
+        revenueIndex.clear();
+        for (Startup startup : startups) {
+            if (startup.getOwner() != this) {
+                attach(startup);
+            }
+        }
+        if (this.startups.isEmpty() && watcher != null) {
+            watcher.portfolioDrained(this);
+        }
     }
 
 
@@ -68,19 +114,57 @@ public class TechGiant {
         if (funds < 0) {
             throw new IllegalArgumentException("Funds cannot be negative.");
         }
-        this.funds = funds >= 0 ? funds : 0; // Ensure funds cannot go negative
+        ledger.setBalance(funds);
     }
 
     /**
-     * Adds a startup to the Tech Giant.
+     * Adds a startup to the Tech Giant. A startup has at most one owner: adding a startup
+     * this Tech Giant already owns does nothing, and a startup owned by another Tech Giant
+     * is taken over from it.
      * @param startup Startup to be added
      */
     public void addStartup(Startup startup) {
         if (startup == null) {
             throw new IllegalArgumentException("Startup cannot be null.");
         }
-        startups.add(startup);
-        System.out.println(name + " acquired " + startup.getName() + "!");
+        if (startup.getOwner() == this) {
+            return;
+        }
+        attach(startup);
+        SimulationEventBus.listener().acquisition(this, startup);
+    }
+
+    /**
+     * Acquires a startup won in a battle or bought from the wild, counting it in the
+     * metrics and recording it for Flight Recorder. Startups added while setting up a
+     * simulation or built by the Tech Giant go through {@link #addStartup} and are not
+     * counted.
+     * @param startup Startup to be acquired
+     */
+    void acquire(Startup startup) {
+        if (startup.getOwner() == this) {
+            return;
+        }
+        addStartup(startup);
+        recordAcquisition(startup);
+    }
+
+    /**
+     * Counts an acquisition in the metrics and commits its Flight Recorder event, when
+     * either is on.
+     */
+    private void recordAcquisition(Startup startup) {
+        SimulationMetrics metrics = SimulationMetrics.active();
+        if (metrics != null) {
+            metrics.acquisition();
+        }
+        Acquisition event = new Acquisition();
+        if (event.shouldCommit()) {
+            event.setTechGiant(name);
+            event.setStartup(startup.getName());
+            event.setStartupType(startup.getType());
+            event.commit();
+        }
     }
 
     /**
@@ -91,8 +175,137 @@ public class TechGiant {
         if (startup == null) {
             throw new IllegalArgumentException("Startup cannot be null.");
         }
-        startups.remove(startup);
-        System.out.println(name + " lost " + startup.getName() + "!");
+        if (startup.getOwner() == this) {
+            detach(startup);
+        }
+        SimulationEventBus.listener().startupLost(this, startup);
+    }
+
+    /**
+     * Moves every startup of one Tech Giant to another in a single step, e.g. for a merger.
+     * The startups are appended in their current order. There is no per-startup
+     * notification and no per-startup search: the list is copied in bulk and the revenue
+     * index is rebuilt once, so the cost is one pass to re-point each startup's owner.
+     * The merger is reported once: the startups moved are added to the metrics'
+     * acquisitions in one step, and a single Flight Recorder merger event is recorded.
+     *
+     * @param from Tech Giant giving up its startups
+     * @param to   Tech Giant receiving them
+     * @throws IllegalArgumentException if either Tech Giant is null
+     */
+    public static void transferAll(TechGiant from, TechGiant to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Tech Giants cannot be null.");
+        }
+        if (from == to || from.startups.isEmpty()) {
+            return;
+        }
+        int count = from.startups.size();
+        int firstSlot = to.startups.size();
+        to.startups.addAll(from.startups);
+        boolean newWatcher = to.watcher != null && to.watcher != from.watcher;
+        for (int slot = firstSlot; slot < to.startups.size(); slot++) {
+            Startup startup = to.startups.get(slot);
+            startup.setOwner(to);
+            startup.portfolioSlot = slot;
+            if (newWatcher && startup.getRevenue() <= 0) {
+                to.watcher.startupDefeated(startup);
+            }
+        }
+        from.revenueIndex.clear();
+        to.revenueIndex.addAll(from.startups);
+        from.startups.clear();
+        if (from.watcher != null) {
+            from.watcher.portfolioDrained(from);
+        }
+        recordMerger(to, from, count);
+        SimulationEventBus.listener().merger(to, from, count);
+    }
+
+    /**
+     * Counts a merger's startups in the metrics and commits its Flight Recorder event, when
+     * either is on.
+     */
+    private static void recordMerger(TechGiant acquirer, TechGiant acquired, int count) {
+        SimulationMetrics metrics = SimulationMetrics.active();
+        if (metrics != null) {
+            metrics.acquisitions(count);
+        }
+        Merger event = new Merger();
+        if (event.shouldCommit()) {
+            event.setAcquirer(acquirer.name);
+            event.setAcquired(acquired.name);
+            event.setStartups(count);
+            event.commit();
+        }
+    }
+
+    long nextAcquisition() {
+        return revenueIndex.nextAcquisition();
+    }
+
+    /**
+     * Restores a portfolio saved by a checkpoint into a Tech Giant that owns nothing yet.
+     * The startups keep their saved acquisition orders; no listener is notified.
+     * @param portfolio       Startups in portfolio order
+     * @param nextAcquisition Acquisition order the next acquired startup receives
+     * @param enhancements    Active enhancements, in order
+     * @param quartersLeft    Quarters each enhancement stays in effect, or -1 for no limit
+     */
+    void restore(List<Startup> portfolio, long nextAcquisition, List<Enhancement> enhancements,
+                 int[] quartersLeft) {
+        for (Startup startup : portfolio) {
+            startup.setOwner(this);
+            startup.portfolioSlot = startups.size();
+            startups.add(startup);
+        }
+        revenueIndex.restore(portfolio, nextAcquisition);
+        for (int i = 0; i < enhancements.size(); i++) {
+            this.enhancements.add(enhancements.get(i), quartersLeft[i]);
+        }
+    }
+
+    private void attach(Startup startup) {
+        TechGiant previousOwner = startup.getOwner();
+        if (previousOwner != null) {
+            previousOwner.detach(startup);
+        }
+        startup.portfolioSlot = startups.size();
+        startups.add(startup);
+        revenueIndex.add(startup);
+        startup.setOwner(this);
+        if (watcher != null && startup.getRevenue() <= 0) {
+            watcher.startupDefeated(startup);
+        }
+    }
+
+    /**
+     * Removes an owned startup in O(1) by moving the last startup into its slot.
+     */
+    private void detach(Startup startup) {
+        int slot = startup.portfolioSlot;
+        Startup last = startups.remove(startups.size() - 1);
+        if (last != startup) {
+            startups.set(slot, last);
+            last.portfolioSlot = slot;
+        }
+        startup.portfolioSlot = -1;
+        revenueIndex.remove(startup);
+        startup.setOwner(null);
+        if (startups.isEmpty() && watcher != null) {
+            watcher.portfolioDrained(this);
+        }
+    }
+
+    /**
+     * Called by an owned startup whenever its revenue changes.
+     * @param startup The startup whose revenue changed
+     */
+    void revenueChanged(Startup startup) {
+        revenueIndex.changed(startup);
+        if (watcher != null && startup.getRevenue() <= 0) {
+            watcher.startupDefeated(startup);
+        }
     }
 
 
@@ -104,26 +317,63 @@ public class TechGiant {
      * @param amount  Investment amount
      */
     public void investInStartup(Startup startup, double amount) {
-        if (funds >= amount) {
-            funds -= amount;
+        if (ledger.tryDebit(amount, FundsLedger.Transaction.INVESTMENT)) {
             startup.gainExperience((int) amount / 100); // Convert funds to XP
-            System.out.println(name + " invested $" + amount + " in " + startup.getName() + ".");
+            SimulationEventBus.listener().investment(this, startup, amount, true);
         } else {
-            System.out.println(name + " does not have enough funds to invest!");
+            SimulationEventBus.listener().investment(this, startup, amount, false);
         }
     }
 
     /**
-     * Engages in a battle with another Tech Giant.
+     * Engages in a battle with another Tech Giant using the shared, non-reproducible generator.
      * Selects startups dynamically and handles battle results.
      *
      * @param opponent Opposing Tech Giant
      * @return Winning startup, or null in case of a draw
      */
     public Startup battle(TechGiant opponent) {
+        return battle(opponent, SimulationRandom.unseeded());
+    }
+
+    /**
+     * Engages in a battle with another Tech Giant.
+     * Selects startups dynamically and handles battle results.
+     *
+     * @param opponent Opposing Tech Giant
+     * @param random   Generator for every roll made during the battle
+     * @return Winning startup, or null in case of a draw
+     */
+    public Startup battle(TechGiant opponent, SimulationRandom random) {
+        return battle(opponent, random, BattleMode.EXACT);
+    }
+
+    /**
+     * Engages in a battle with another Tech Giant, resolved according to the given mode.
+     *
+     * @param opponent Opposing Tech Giant
+     * @param random   Generator for every roll made during the battle
+     * @param mode     How the battle between the selected startups is resolved
+     * @return Winning startup, or null in case of a draw
+     */
+    public Startup battle(TechGiant opponent, SimulationRandom random, BattleMode mode) {
+        GiantBattle battle = fight(opponent, random, mode);
+        return battle == null ? null : battle.settle();
+    }
+
+    /**
+     * Fights a battle with another Tech Giant without changing any ownership.
+     * Only the two selected startups and the two Tech Giants are touched, so fights between
+     * disjoint pairs of Tech Giants may run concurrently when no listener is registered.
+     *
+     * @param opponent Opposing Tech Giant
+     * @param random   Generator for every roll made during the battle
+     * @param mode     How the battle between the selected startups is resolved
+     * @return The fought battle, to be settled, or null if either side has no startups
+     */
+    GiantBattle fight(TechGiant opponent, SimulationRandom random, BattleMode mode) {
         if (startups.isEmpty() || opponent.getStartups().isEmpty()) {
-            System.out.println(name
-                    + " or " + opponent.getName() + " has no startups left to battle!");
+            SimulationEventBus.listener().giantBattleSkipped(this, opponent);
             return null;
         }
         // Select random startups for battle
@@ -131,103 +381,64 @@ public class TechGiant {
         Startup opponentStartup = opponent.selectStartupForBattle();
 
         if (myStartup == null || opponentStartup == null) {
-            System.out.println("No valid startups for battle.");
+            SimulationEventBus.listener().giantBattleSkipped(this, opponent);
             return null;
         }
-        System.out.println(name + " is battling " + opponent.getName() + "!");
-        // Determine the winner using the BattleManager
-        Startup winner = BattleManager.startBattle(myStartup, opponentStartup, this);
-
-        handleBattleOutcome(winner, myStartup, opponent, opponentStartup);
-
-        return winner;
+        SimulationEventBus.listener().giantBattleStarted(this, opponent);
+        // Determine the winner using the BattleManager; the loser changes hands on settle
+        Startup winner = BattleManager.startBattle(myStartup, opponentStartup, null, random, mode);
+        return new GiantBattle(this, myStartup, opponent, opponentStartup, winner);
     }
 
     /**
-     * Handles the outcome of a battle, including startup acquisition.
-     * @param winner Winning startup
-     * @param myStartup Startup of the current Tech Giant
-     * @param opponent Opposing Tech Giant
-     * @param opponentStartup Startup of the opponent Tech Giant
+     * Selects the best startup for battle based on revenue.
+     * Read from the revenue index in O(1); ties go to the startup acquired first.
+     * @return Startup with the highest revenue, or null if the Tech Giant owns none
      */
-    private void handleBattleOutcome(Startup winner,
-                                     Startup myStartup,
-                                     TechGiant opponent, Startup opponentStartup) {
-        if (winner == myStartup) {
-            opponent.getStartups().remove(opponentStartup);
-            addStartup(opponentStartup);
-            System.out.println(name
-                    + " acquired " + opponentStartup.getName()
-                    + " from " + opponent.getName() + "!");
-        } else if (winner == opponentStartup) {
-            startups.remove(myStartup);
-            opponent.addStartup(myStartup);
-            System.out.println(opponent.getName()
-                    + " acquired " + myStartup.getName() + " from " + name + "!");
-        }
+    public Startup selectStartupForBattle() {
+        return revenueIndex.max();
     }
 
     /**
-     * Selects the best startup for battle based on revenue.
-     * @return Startup with the highest revenue
+     * Retrieves the startups with the highest revenue.
+     * @param k Maximum number of startups to return
+     * @return Up to k startups, highest revenue first
+     * @throws IllegalArgumentException if k is negative
      */
-    public Startup selectStartupForBattle() {
-        return startups.stream()
-                .max((s1, s2) -> Double.compare(s1.getRevenue(), s2.getRevenue()))
-                .orElse(null); // Select the startup with the highest revenue
+    public List<Startup> getTopStartups(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Count cannot be negative.");
+        }
+        return revenueIndex.top(k);
     }
 
 
     /**
      * Purchases an enhancement for the Tech Giant.
+     * The purchase is turned down if the Tech Giant cannot afford it or already holds as
+     * many enhancements as its simulation allows.
      * @param enhancement Enhancement to purchase
      */
     public void purchaseEnhancement(Enhancement enhancement) {
-        if (funds >= enhancement.getCost()) {
-            funds -= enhancement.getCost();
-            activeEnhancements.add(enhancement);
-            System.out.println(name + " purchased " + enhancement.getName() + ".");
+        if (enhancements.size() < enhancementLimit
+                && ledger.tryDebit(enhancement.getCost(), FundsLedger.Transaction.ENHANCEMENT)) {
+            enhancements.add(enhancement);
+            SimulationEventBus.listener().enhancementPurchased(this, enhancement, true);
         } else {
-            System.out.println(name
-                    + " does not have enough funds to purchase " + enhancement.getName() + "!");
+            SimulationEventBus.listener().enhancementPurchased(this, enhancement, false);
         }
     }
 
     /**
-     * Applies all active enhancements.
-     * Enhancements like loans and revenue boosters are processed.
+     * Plays one quarter of the active enhancements.
+     * Every enhancement in effect is applied, loans adding funds and revenue boosters
+     * raising startup revenue, and those whose duration is over are retired. An
+     * enhancement lasts for its duration in quarters, or a single quarter if it has none;
+     * enhancements of unknown types have no effect and stay active for their duration,
+     * or indefinitely without one.
      */
     public void applyEnhancements() {
-        Iterator<Enhancement> iterator = activeEnhancements.iterator();
-        while (iterator.hasNext()) {
-            Enhancement enhancement = iterator.next();
-            switch (enhancement.getType()) {
-                case "Loan":
-                    funds += enhancement.getEffectValue(); // Apply loan effect
-                    System.out.println(name
-                            + " received a loan of $" + enhancement.getEffectValue() + ".");
-                    iterator.remove(); // Remove one-time effect
-                    break;
-
-                case "Revenue":
-                    for (Startup startup : startups) {
-                        double initialRevenue = startup.getRevenue();
-                        double revenueBoost = initialRevenue * enhancement.getEffectValue();
-                        double newRevenue = initialRevenue + revenueBoost;
-                        startup.setRevenue(newRevenue);
-                        // Print out the details of the revenue boost
-                        System.out.println(startup.getName()
-                                + " revenue boosted by "
-                                + (enhancement.getEffectValue() * 100) + "%: "
-                                + "From $" + initialRevenue + " to $" + newRevenue + ".");
-                    }
-                    iterator.remove(); // Remove one-time effect
-                    break;
-
-                default:
-                    System.out.println("Unknown enhancement type: " + enhancement.getType());
-            }
-        }
+        enhancements.advance(this);
     }
 
 
@@ -237,7 +448,16 @@ public class TechGiant {
      * @return List of active enhancements
      */
     public List<Enhancement> getActiveEnhancements() {
-        return Collections.unmodifiableList(activeEnhancements);
+        return Collections.unmodifiableList(enhancements.view());
+    }
+
+    /**
+     * Retrieves how many more quarters an active enhancement stays in effect.
+     * @param index Position in {@link #getActiveEnhancements()}
+     * @return The number of quarters, or -1 for no limit
+     */
+    int getQuartersLeft(int index) {
+        return enhancements.quartersLeft(index);
     }
 
 }
@@ -0,0 +1,35 @@
+package simulation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Non-reproducible generator that delegates to the calling thread's ThreadLocalRandom,
+ * so it can be shared without contention.
+ */
+final class ThreadLocalSimulationRandom implements SimulationRandom {
+
+    static final ThreadLocalSimulationRandom INSTANCE = new ThreadLocalSimulationRandom();
+
+    private ThreadLocalSimulationRandom() {
+    }
+
+    @Override
+    public double nextDouble() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public SimulationRandom split() {
+        return SimulationRandom.seeded(nextLong());
+    }
+}
@@ -1,6 +1,7 @@
 package simulation.events;
 
 import simulation.Startup;
+import simulation.StartupBatch;
 
 /**
  * Effect for the "Corporate Tax Cuts" event.
@@ -8,7 +9,16 @@ import simulation.Startup;
 public class CorporateTaxCutsEffect implements EventEffect {
     @Override
     public void applyEffect(Startup startup) {
-        System.out.println(startup.getName()
-                + " benefits from Corporate Tax Cuts (no direct effect).");
+        // Startups benefit from Corporate Tax Cuts, but there is no direct effect.
+    }
+
+    @Override
+    public void applyEffect(StartupBatch batch) {
+        // Corporate Tax Cuts have no direct effect, so the batch is not visited.
+    }
+
+    @Override
+    public String describe(Startup startup, double revenueBefore, double marketShareBefore) {
+        return startup.getName() + " benefits from Corporate Tax Cuts (no direct effect).";
     }
 }
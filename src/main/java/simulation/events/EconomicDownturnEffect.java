@@ -1,6 +1,8 @@
 package simulation.events;
 
 import simulation.Startup;
+import simulation.StartupBatch;
+import simulation.StartupType;
 
 /**
  * Effect for the "Economic Downturn" event.
@@ -8,54 +10,79 @@ import simulation.Startup;
 public class EconomicDownturnEffect implements EventEffect {
     @Override
     public void applyEffect(Startup startup) {
-        double revenueChange;
-
-        if (startup.getRevenue() == 0) {
-            System.out.println(startup.getName() + " has zero revenue, applying default effect.");
+        double revenue = startup.getRevenue();
+        startup.setRevenue(revenue + revenue * revenueFraction(startup.getStartupType()));
+    }
 
+    /**
+     * Resolves the revenue change once per type, then updates the whole batch in one pass.
+     * @param batch The startups affected by the event.
+     */
+    @Override
+    public void applyEffect(StartupBatch batch) {
+        double[] fractionByType = new double[batch.typeCount()];
+        for (int ordinal = 0; ordinal < fractionByType.length; ordinal++) {
+            fractionByType[ordinal] = revenueFraction(batch.typeForOrdinal(ordinal));
         }
+        batch.addRevenueFraction(fractionByType);
+    }
 
-        switch (startup.getType().toLowerCase()) {
+    @Override
+    public String describe(Startup startup, double revenueBefore, double marketShareBefore) {
+        String name = startup.getName();
+        StringBuilder lines = new StringBuilder();
+        if (revenueBefore == 0) {
+            lines.append(name).append(" has zero revenue, applying default effect.\n");
+        }
+        lines.append(name);
+        switch (startup.getStartupType().getKey()) {
             case "healthcare":
-                revenueChange = startup.getRevenue() * 0.2;
-                startup.setRevenue(startup.getRevenue() + revenueChange);
-                System.out.println(startup.getName()
-                        + " boosted by 20% revenue due to Economic Downturn.");
+                lines.append(" boosted by 20% revenue due to Economic Downturn.");
                 break;
-
             case "fintech":
-                revenueChange = startup.getRevenue() * 0.2;
-                startup.setRevenue(startup.getRevenue() - revenueChange);
-                System.out.println(startup.getName()
-                        + " experienced a revenue decrease due to Economic Downturn.");
+                lines.append(" experienced a revenue decrease due to Economic Downturn.");
                 break;
             case "real estate":
-                // Apply a 10% decrease to Real Estate startups (example)
-                revenueChange = startup.getRevenue() * 0.1;
-                startup.setRevenue(startup.getRevenue() - revenueChange);
-                System.out.println(startup.getName()
-                        + " experienced a 10% revenue decrease due to Economic Downturn.");
+                lines.append(" experienced a 10% revenue decrease due to Economic Downturn.");
+                break;
+            case "social media":
+                lines.append(" boosted by 10% revenue due to Economic Downturn.");
+                break;
+            default:
+                lines.append(" experienced a general revenue change of 15%"
+                        + " due to Economic Downturn.");
                 break;
+        }
+        lines.append("\nAfter Event: ").append(name)
+                .append(" | Revenue: ").append(startup.getRevenue());
+        return lines.toString();
+    }
+
+    /**
+     * Determines how much of its revenue a startup of the given type gains or loses.
+     * @param type The startup type.
+     * @return The signed fraction of revenue to add.
+     */
+    private static double revenueFraction(StartupType type) {
+        switch (type.getKey()) {
+            case "healthcare":
+                // Healthcare is boosted by 20%
+                return 0.2;
+
+            case "fintech":
+                // FinTech loses 20%
+                return -0.2;
+            case "real estate":
+                // Apply a 10% decrease to Real Estate startups (example)
+                return -0.1;
 
             case "social media":
                 // Apply a 10% revenue increase to Social Media startups (example)
-                revenueChange = startup.getRevenue() * 0.1;
-                startup.setRevenue(startup.getRevenue() + revenueChange);
-                System.out.println(startup.getName()
-                        + " boosted by 10% revenue due to Economic Downturn.");
-                break;
+                return 0.1;
 
             default:
                 // Apply a general case for all other startups
-                revenueChange = startup.getRevenue() * 0.15; // Default 15% change for others
-                startup.setRevenue(startup.getRevenue() + revenueChange);
-                System.out.println(startup.getName()
-                        + " experienced a general revenue change of 15% due to Economic Downturn.");
-                break;
+                return 0.15; // Default 15% change for others
         }
-
-        // Display after event
-        System.out.println("After Event: "
-                + startup.getName() + " | Revenue: " + startup.getRevenue());
     }
 }
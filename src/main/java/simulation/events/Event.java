@@ -1,7 +1,13 @@
 package simulation.events;
 
 import java.util.List;
+import simulation.SimulationEventBus;
+import simulation.SimulationListener;
 import simulation.Startup;
+import simulation.StartupBatch;
+import simulation.StartupStore;
+import simulation.jfr.EventApplied;
+import simulation.metrics.SimulationMetrics;
 
 /**
  * Represents an event that affects the market.
@@ -11,30 +17,51 @@ public class Event {
 
     private String name;         // Name of the event, e.g., "Economic Downturn"
     private String description;  // Detailed description of the event
-    private String quarter;      // Quarter in which the event occurs
+    private Quarter quarter;     // Quarter in which the event occurs
+    private int firstYear;       // First year in which the event occurs
+    private int lastYear;        // Last year in which the event occurs
     private EventEffect effect;  // Strategy pattern: different effects for each event type
 
     /**
-     * Constructs an Event with the given name, description, quarter, and effect.
+     * Constructs an Event that occurs in the given quarter of every year.
      * @param name        Name of the event
      * @param description Description of the event
-     * @param quarter     Quarter in which the event occurs
+     * @param quarter     Quarter in which the event occurs, e.g. "Q2"
+     * @throws IllegalArgumentException if a value is null or empty, or the quarter is unknown.
      */
     public Event(String name, String description, String quarter) {
+        this(name, description, parseQuarter(quarter), 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs an Event that occurs in the given quarter of a range of years.
+     * @param name        Name of the event
+     * @param description Description of the event
+     * @param quarter     Quarter in which the event occurs
+     * @param firstYear   First year in which the event occurs, starting at 1
+     * @param lastYear    Last year in which the event occurs, inclusive
+     * @throws IllegalArgumentException if a value is null or empty, or the years are invalid.
+     */
+    public Event(String name, String description, Quarter quarter, int firstYear, int lastYear) {
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException("Event name cannot be null or empty.");
         }
         if (description == null || description.isEmpty()) {
             throw new IllegalArgumentException("Event description cannot be null or empty.");
         }
-        if (quarter == null || quarter.isEmpty()) {
+        if (quarter == null) {
             throw new IllegalArgumentException("Event quarter cannot be null or empty.");
         }
+        if (firstYear < 1 || lastYear < firstYear) {
+            throw new IllegalArgumentException("Event years must be a range starting at 1.");
+        }
 
         this.name = name;
         this.description = description;
         this.quarter = quarter;
-        this.effect = determineEffect(name);  // Determine the effect based on the event name
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.effect = EventEffectRegistry.forName(name); // Shared by events of this name
     }
 
     /**
@@ -53,53 +80,132 @@ public class Event {
         return description;
     }
 
+    /**
+     * Retrieves the effect of the event, shared by every event with the same name.
+     * @return The effect.
+     */
+    public EventEffect getEffect() {
+        return effect;
+    }
+
     /**
      * Retrieves the quarter during which the event occurs.
      * @return The quarter (e.g., "Q1").
      */
     public String getQuarter() {
+        return quarter.name();
+    }
+
+    /**
+     * Retrieves the quarter during which the event occurs.
+     * @return The quarter.
+     */
+    public Quarter getQuarterValue() {
         return quarter;
     }
 
     /**
-     * Determines the appropriate event effect based on the event's name.
-     * @param name The name of the event.
-     * @return The EventEffect instance corresponding to the event type.
+     * Retrieves the first year in which the event occurs.
+     * @return The first year, starting at 1.
+     */
+    public int getFirstYear() {
+        return firstYear;
+    }
+
+    /**
+     * Retrieves the last year in which the event occurs.
+     * @return The last year, or {@link Integer#MAX_VALUE} for an event without an end.
      */
-    private EventEffect determineEffect(String name) {
-        switch (name) {
-            case "Economic Downturn":
-                return new EconomicDownturnEffect();
-            case "Corporate Tax Cuts":
-                return new CorporateTaxCutsEffect();
-            case "Regulatory Scrutiny":
-                return new RegulatoryScrutinyEffect();
-            default:
-                return new NeutralEffect();
+    public int getLastYear() {
+        return lastYear;
+    }
+
+    /**
+     * Checks whether the event occurs in a quarter of a year.
+     * @param year    The year, starting at 1.
+     * @param quarter The quarter.
+     * @return True if the event is due.
+     */
+    public boolean isDue(int year, Quarter quarter) {
+        return this.quarter == quarter && year >= firstYear && year <= lastYear;
+    }
+
+    private static Quarter parseQuarter(String quarter) {
+        if (quarter == null || quarter.isEmpty()) {
+            throw new IllegalArgumentException("Event quarter cannot be null or empty.");
         }
+        return Quarter.parse(quarter);
     }
 
     /**
      * Applies the event's effects to a list of startups.
-     * Logs the changes to startups before and after the event is applied.
+     * When a simulation listener is registered, each startup's values before and after the
+     * event are reported to it; otherwise the effect is applied to the list as one batch.
      * @param startups The list of startups affected by the event.
      */
     public void applyEffects(List<Startup> startups) {
-        System.out.println("-----------------------------------------------------------");
-        System.out.println("Applying event: " + name + " (" + quarter + ")");
-        for (Startup startup : startups) {
-            // Added logging to trace startup effects
-            System.out.println("Before Event: " + startup.getName()
-                    + " | Revenue: " + startup.getRevenue()
-                    + " | Market Share: " + startup.getMarketShare());
-
-            effect.applyEffect(startup); // Delegate to the strategy
-
-            // Added post-event logging
-            System.out.println("After Event: " + startup.getName()
-                    + " | Revenue: " + startup.getRevenue()
-                    + " | Market Share: " + startup.getMarketShare());
-            System.out.println("-----------------------------------------------------------\n");
+        EventApplied applied = new EventApplied();
+        applied.begin();
+        SimulationListener listener = SimulationEventBus.listener();
+        listener.eventTriggered(this, startups.size());
+        if (!SimulationEventBus.hasListener()) {
+            effect.applyEffect(StartupBatch.of(startups));
+        } else {
+            for (Startup startup : startups) {
+                double revenueBefore = startup.getRevenue();
+                double marketShareBefore = startup.getMarketShare();
+
+                effect.applyEffect(startup); // Delegate to the strategy
+
+                listener.eventApplied(this, startup, revenueBefore, marketShareBefore);
+            }
+        }
+        applicationDone(applied, startups.size());
+    }
+
+    /**
+     * Applies the event's effects to every startup in a columnar store.
+     * Without a simulation listener the effect updates the columns as one batch. Otherwise
+     * rows are visited one by one without creating an object per startup: rows with a view
+     * are passed as that view, the rest through a single reusable cursor that listeners
+     * must not keep past the callback (see {@link SimulationListener}).
+     * @param store The store holding the affected startups.
+     */
+    public void applyEffects(StartupStore store) {
+        EventApplied applied = new EventApplied();
+        applied.begin();
+        SimulationListener listener = SimulationEventBus.listener();
+        listener.eventTriggered(this, store.size());
+        if (!SimulationEventBus.hasListener()) {
+            effect.applyEffect(store);
+        } else {
+            store.forEach(startup -> {
+                double revenueBefore = startup.getRevenue();
+                double marketShareBefore = startup.getMarketShare();
+
+                effect.applyEffect(startup); // Delegate to the strategy
+
+                listener.eventApplied(this, startup, revenueBefore, marketShareBefore);
+            });
+        }
+        applicationDone(applied, store.size());
+    }
+
+    /**
+     * Counts an application in the metrics and commits its Flight Recorder event, when
+     * either is on.
+     * @param applied         The event begun when the application started.
+     * @param startupsTouched Number of startups the event was applied to.
+     */
+    private void applicationDone(EventApplied applied, int startupsTouched) {
+        SimulationMetrics metrics = SimulationMetrics.active();
+        if (metrics != null) {
+            metrics.eventApplied();
+        }
+        if (applied.shouldCommit()) {
+            applied.setEventName(name);
+            applied.setStartupsTouched(startupsTouched);
+            applied.commit();
         }
     }
 }
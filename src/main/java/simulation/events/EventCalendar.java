@@ -0,0 +1,179 @@
+package simulation.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schedule of events indexed by quarter and year.
+ * Each quarter keeps its events in an interval index over their year ranges, so looking up
+ * the events due in a quarter costs time proportional to the number of events due rather
+ * than the number scheduled. Events due together are returned in the order they were added.
+ */
+public class EventCalendar {
+
+    private final Map<Quarter, QuarterIndex> quarters = new EnumMap<>(Quarter.class);
+    private int size;
+
+    /**
+     * Constructs an empty calendar.
+     */
+    public EventCalendar() {
+        for (Quarter quarter : Quarter.values()) {
+            quarters.put(quarter, new QuarterIndex());
+        }
+    }
+
+    /**
+     * Schedules an event.
+     * @param event The event to schedule.
+     * @throws IllegalArgumentException if the event is null.
+     */
+    public void add(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null.");
+        }
+        quarters.get(event.getQuarterValue()).add(new Entry(event, size++));
+    }
+
+    /**
+     * Retrieves the events due in a quarter of a year.
+     * @param year    The year, starting at 1.
+     * @param quarter The quarter.
+     * @return The events due, in the order they were added.
+     */
+    public List<Event> eventsFor(int year, Quarter quarter) {
+        return quarters.get(quarter).eventsFor(year);
+    }
+
+    /**
+     * Retrieves the number of scheduled events.
+     * @return The number of events.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A scheduled event and its position in the calendar.
+     */
+    private static final class Entry {
+        final Event event;
+        final int sequence;
+
+        Entry(Event event, int sequence) {
+            this.event = event;
+            this.sequence = sequence;
+        }
+
+        int first() {
+            return event.getFirstYear();
+        }
+
+        int last() {
+            return event.getLastYear();
+        }
+    }
+
+    /**
+     * The events of one quarter in a centered interval tree, rebuilt after additions.
+     */
+    private static final class QuarterIndex {
+        private final List<Entry> entries = new ArrayList<>();
+        private Node root;
+        private boolean dirty;
+
+        void add(Entry entry) {
+            entries.add(entry);
+            dirty = true;
+        }
+
+        List<Event> eventsFor(int year) {
+            if (dirty) {
+                root = Node.build(entries);
+                dirty = false;
+            }
+            List<Entry> due = new ArrayList<>();
+            for (Node node = root; node != null; ) {
+                if (year < node.center) {
+                    for (Entry entry : node.byFirst) {
+                        if (entry.first() > year) {
+                            break;
+                        }
+                        due.add(entry);
+                    }
+                    node = node.left;
+                } else if (year > node.center) {
+                    for (Entry entry : node.byLast) {
+                        if (entry.last() < year) {
+                            break;
+                        }
+                        due.add(entry);
+                    }
+                    node = node.right;
+                } else {
+                    due.addAll(Arrays.asList(node.byFirst));
+                    node = null;
+                }
+            }
+            due.sort(Comparator.comparingInt(entry -> entry.sequence));
+            List<Event> events = new ArrayList<>(due.size());
+            for (Entry entry : due) {
+                events.add(entry.event);
+            }
+            return events;
+        }
+    }
+
+    /**
+     * A tree node holding the entries whose year range contains its center. Entries entirely
+     * before the center are in the left subtree, entries entirely after it in the right.
+     */
+    private static final class Node {
+        final int center;
+        final Entry[] byFirst; // Ascending first year
+        final Entry[] byLast;  // Descending last year
+        final Node left;
+        final Node right;
+
+        private Node(int center, List<Entry> here, Node left, Node right) {
+            this.center = center;
+            this.byFirst = here.toArray(new Entry[0]);
+            Arrays.sort(byFirst, Comparator.comparingInt(Entry::first));
+            this.byLast = here.toArray(new Entry[0]);
+            Arrays.sort(byLast, Comparator.comparingInt(Entry::last).reversed());
+            this.left = left;
+            this.right = right;
+        }
+
+        static Node build(List<Entry> entries) {
+            if (entries.isEmpty()) {
+                return null;
+            }
+            int[] endpoints = new int[entries.size() * 2];
+            for (int i = 0; i < entries.size(); i++) {
+                endpoints[2 * i] = entries.get(i).first();
+                endpoints[2 * i + 1] = entries.get(i).last();
+            }
+            Arrays.sort(endpoints);
+            int center = endpoints[entries.size()];
+
+            List<Entry> before = new ArrayList<>();
+            List<Entry> here = new ArrayList<>();
+            List<Entry> after = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (entry.last() < center) {
+                    before.add(entry);
+                } else if (entry.first() > center) {
+                    after.add(entry);
+                } else {
+                    here.add(entry);
+                }
+            }
+            return new Node(center, here, build(before), build(after));
+        }
+    }
+}
@@ -1,10 +1,36 @@
 package simulation.events;
 
 import simulation.Startup;
+import simulation.StartupBatch;
 
 /**
  * Interface that defines the effect of an event on a startup.
  */
 public interface EventEffect {
     void applyEffect(Startup startup);
-}
\ No newline at end of file
+
+    /**
+     * Applies the effect to every startup of a batch. Effects can override this to decide
+     * per type once and then update the batch in a single pass; by default each startup is
+     * handled by {@link #applyEffect(Startup)}.
+     * @param batch The startups affected by the event.
+     */
+    default void applyEffect(StartupBatch batch) {
+        for (int row = 0; row < batch.size(); row++) {
+            applyEffect(batch.view(row));
+        }
+    }
+
+    /**
+     * Formats what the effect did to a startup, for narration. Nothing is formatted unless
+     * a listener asks for it.
+     * @param startup           The affected startup, already updated; possibly a reusable
+     *                          cursor, valid only during the call.
+     * @param revenueBefore     The startup's revenue before the effect.
+     * @param marketShareBefore The startup's market share before the effect.
+     * @return One or more lines describing the effect, or null if there is nothing to say.
+     */
+    default String describe(Startup startup, double revenueBefore, double marketShareBefore) {
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package simulation.events;
+
+import java.util.Map;
+
+/**
+ * Supplies effects for named events. Implementations are discovered with
+ * {@link java.util.ServiceLoader}: list the class in
+ * {@code META-INF/services/simulation.events.EventEffectProvider} on the class path and
+ * give it a public no-argument constructor.
+ */
+public interface EventEffectProvider {
+
+    /**
+     * Retrieves the effects this provider contributes. Effects are shared by every event
+     * with the same name, so they must not keep state of their own.
+     * @return The effects by event name.
+     */
+    Map<String, EventEffect> getEffects();
+}
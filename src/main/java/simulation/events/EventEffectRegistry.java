@@ -0,0 +1,90 @@
+package simulation.events;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Looks up the effect of an event by its name. Effects are stateless, so every event
+ * with the same name shares one instance.
+ *
+ * <p>The built-in effects are registered first, then those of every
+ * {@link EventEffectProvider} found by {@link ServiceLoader}; a provider may replace a
+ * built-in effect by using its name. Lookups read an immutable map that is replaced as a
+ * whole on registration, so they take no lock. Names without an effect get a shared
+ * neutral effect.
+ */
+public final class EventEffectRegistry {
+
+    private static final EventEffect NEUTRAL = new NeutralEffect();
+
+    // Copy-on-write: registrations are rare, lookups happen for every event created
+    private static volatile Map<String, EventEffect> effects = Collections.emptyMap();
+
+    static {
+        Map<String, EventEffect> initial = new HashMap<>();
+        initial.put("Economic Downturn", new EconomicDownturnEffect());
+        initial.put("Corporate Tax Cuts", new CorporateTaxCutsEffect());
+        initial.put("Regulatory Scrutiny", new RegulatoryScrutinyEffect());
+        for (EventEffectProvider provider : ServiceLoader.load(EventEffectProvider.class)) {
+            provider.getEffects().forEach((name, effect) -> initial.put(check(name), effect));
+        }
+        effects = Collections.unmodifiableMap(initial);
+    }
+
+    private EventEffectRegistry() {
+    }
+
+    /**
+     * Finds the effect of an event.
+     * @param name The event name, matched exactly.
+     * @return The registered effect, or a shared neutral effect for an unknown name.
+     */
+    public static EventEffect forName(String name) {
+        EventEffect effect = effects.get(name);
+        return effect != null ? effect : NEUTRAL;
+    }
+
+    /**
+     * Checks whether an effect is registered for an event name.
+     * @param name The event name.
+     * @return True if the name has an effect of its own.
+     */
+    public static boolean isRegistered(String name) {
+        return effects.containsKey(name);
+    }
+
+    /**
+     * Retrieves every event name with a registered effect.
+     * @return The names, read-only.
+     */
+    public static Set<String> names() {
+        return effects.keySet();
+    }
+
+    /**
+     * Registers an effect, replacing any effect registered under the same name.
+     * Events created before the call keep the effect they were created with.
+     * @param name   The event name.
+     * @param effect The shared, stateless effect.
+     * @throws IllegalArgumentException if the name is null or empty, or the effect is null.
+     */
+    public static synchronized void register(String name, EventEffect effect) {
+        check(name);
+        if (effect == null) {
+            throw new IllegalArgumentException("Effect cannot be null.");
+        }
+        Map<String, EventEffect> updated = new HashMap<>(effects);
+        updated.put(name, effect);
+        effects = Collections.unmodifiableMap(updated);
+    }
+
+    private static String check(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Event name cannot be null or empty.");
+        }
+        return name;
+    }
+}
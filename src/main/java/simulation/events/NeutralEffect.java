@@ -1,6 +1,7 @@
 package simulation.events;
 
 import simulation.Startup;
+import simulation.StartupBatch;
 
 /**
  * A neutral effect for events that do not affect the startups.
@@ -8,7 +9,16 @@ import simulation.Startup;
 public class NeutralEffect implements EventEffect {
     @Override
     public void applyEffect(Startup startup) {
-        // No effect on the startup, just log that no change happened.
-        System.out.println(startup.getName() + " remains unaffected by the event.");
+        // No effect on the startup.
+    }
+
+    @Override
+    public void applyEffect(StartupBatch batch) {
+        // Nothing to apply, so the batch is not visited.
+    }
+
+    @Override
+    public String describe(Startup startup, double revenueBefore, double marketShareBefore) {
+        return startup.getName() + " remains unaffected by the event.";
     }
 }
@@ -0,0 +1,49 @@
+package simulation.events;
+
+/**
+ * The four quarters of a simulated year.
+ */
+public enum Quarter {
+    Q1, Q2, Q3, Q4;
+
+    private static final Quarter[] VALUES = values();
+
+    /**
+     * Retrieves the quarter's number within the year.
+     * @return 1 through 4
+     */
+    public int getNumber() {
+        return ordinal() + 1;
+    }
+
+    /**
+     * Retrieves the quarter with the given number.
+     * @param number 1 through 4
+     * @return the quarter
+     * @throws IllegalArgumentException if the number is out of range
+     */
+    public static Quarter of(int number) {
+        if (number < 1 || number > VALUES.length) {
+            throw new IllegalArgumentException("Quarter must be between 1 and 4.");
+        }
+        return VALUES[number - 1];
+    }
+
+    /**
+     * Parses a quarter label such as "Q2", ignoring case and surrounding whitespace.
+     * @param label the label
+     * @return the quarter
+     * @throws IllegalArgumentException if the label is not a quarter
+     */
+    public static Quarter parse(String label) {
+        if (label != null) {
+            String trimmed = label.trim();
+            for (Quarter quarter : VALUES) {
+                if (quarter.name().equalsIgnoreCase(trimmed)) {
+                    return quarter;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Event quarter must be one of Q1, Q2, Q3 or Q4.");
+    }
+}
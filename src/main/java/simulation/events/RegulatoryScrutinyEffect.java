@@ -1,6 +1,7 @@
 package simulation.events;
 
 import simulation.Startup;
+import simulation.StartupBatch;
 
 /**
  * Effect for the "Regulatory Scrutiny" event.
@@ -9,15 +10,35 @@ public class RegulatoryScrutinyEffect implements EventEffect {
     @Override
     public void applyEffect(Startup startup) {
         if (startup.getMarketShare() > 25) {
+            // Lose 10% market share
             double marketShareLoss = startup.getMarketShare() * 0.1;
             startup.setMarketShare(startup.getMarketShare() - marketShareLoss);
-            System.out.println(startup.getName()
-                    + " lost 10% market share due to Regulatory Scrutiny.");
         } else {
+            // Gain 10% market share
             double marketShareBoost = startup.getMarketShare() * 0.1;
             startup.setMarketShare(startup.getMarketShare() + marketShareBoost);
-            System.out.println(startup.getName()
-                    + " gained 10% market share due to Regulatory Scrutiny.");
         }
     }
+
+    /**
+     * Updates the market share of the whole batch in one pass.
+     * @param batch The startups affected by the event.
+     */
+    @Override
+    public void applyEffect(StartupBatch batch) {
+        for (int row = 0; row < batch.size(); row++) {
+            double marketShare = batch.marketShare(row);
+            double change = marketShare * 0.1;
+            batch.setMarketShare(row,
+                    marketShare > 25 ? marketShare - change : marketShare + change);
+        }
+    }
+
+    @Override
+    public String describe(Startup startup, double revenueBefore, double marketShareBefore) {
+        if (marketShareBefore > 25) {
+            return startup.getName() + " lost 10% market share due to Regulatory Scrutiny.";
+        }
+        return startup.getName() + " gained 10% market share due to Regulatory Scrutiny.";
+    }
 }
@@ -0,0 +1,41 @@
+package simulation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event marking a Tech Giant acquiring a startup: a wild startup won in
+ * battle, one taken over in a Q4 battle, or one moved in a takeover of a whole portfolio.
+ */
+@Name("simulation.Acquisition")
+@Label("Acquisition")
+@Category("Simulation")
+@Description("A Tech Giant acquiring a startup in a battle or takeover")
+@StackTrace(false)
+public final class Acquisition extends Event {
+
+    @Label("Tech Giant")
+    private String techGiant;
+
+    @Label("Startup")
+    private String startup;
+
+    @Label("Startup Type")
+    private String startupType;
+
+    public void setTechGiant(String techGiant) {
+        this.techGiant = techGiant;
+    }
+
+    public void setStartup(String startup) {
+        this.startup = startup;
+    }
+
+    public void setStartupType(String startupType) {
+        this.startupType = startupType;
+    }
+}
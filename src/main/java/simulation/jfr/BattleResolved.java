@@ -0,0 +1,48 @@
+package simulation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one battle between two startups.
+ */
+@Name("simulation.BattleResolved")
+@Label("Battle Resolved")
+@Category("Simulation")
+@Description("A battle between two startups, from the first attack to the winner")
+@StackTrace(false)
+public final class BattleResolved extends Event {
+
+    @Label("Winner")
+    private String winner;
+
+    @Label("Loser")
+    private String loser;
+
+    @Label("Rounds")
+    @Description("Attacks made, sampled in fast mode; 0 when one side forfeited")
+    private long rounds;
+
+    @Label("Mode")
+    private String mode;
+
+    public void setWinner(String winner) {
+        this.winner = winner;
+    }
+
+    public void setLoser(String loser) {
+        this.loser = loser;
+    }
+
+    public void setRounds(long rounds) {
+        this.rounds = rounds;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+}
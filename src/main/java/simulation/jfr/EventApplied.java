@@ -0,0 +1,34 @@
+package simulation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one application of a market event to a group of
+ * startups.
+ */
+@Name("simulation.EventApplied")
+@Label("Event Applied")
+@Category("Simulation")
+@Description("A market event applied to a group of startups")
+@StackTrace(false)
+public final class EventApplied extends Event {
+
+    @Label("Event Name")
+    private String eventName;
+
+    @Label("Startups Touched")
+    private int startupsTouched;
+
+    public void setEventName(String eventName) {
+        this.eventName = eventName;
+    }
+
+    public void setStartupsTouched(int startupsTouched) {
+        this.startupsTouched = startupsTouched;
+    }
+}
@@ -0,0 +1,42 @@
+package simulation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event marking a Tech Giant taking over another Tech Giant's whole
+ * portfolio. A merger is recorded once, not as one acquisition per startup.
+ */
+@Name("simulation.Merger")
+@Label("Merger")
+@Category("Simulation")
+@Description("A Tech Giant taking over another Tech Giant's whole portfolio")
+@StackTrace(false)
+public final class Merger extends Event {
+
+    @Label("Acquirer")
+    private String acquirer;
+
+    @Label("Acquired")
+    private String acquired;
+
+    @Label("Startups")
+    @Description("Startups moved to the acquirer")
+    private int startups;
+
+    public void setAcquirer(String acquirer) {
+        this.acquirer = acquirer;
+    }
+
+    public void setAcquired(String acquired) {
+        this.acquired = acquired;
+    }
+
+    public void setStartups(int startups) {
+        this.startups = startups;
+    }
+}
@@ -0,0 +1,57 @@
+package simulation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one quarter of the simulation.
+ */
+@Name("simulation.QuarterProcessed")
+@Label("Quarter Processed")
+@Category("Simulation")
+@Description("One quarter of the simulation, from its events to its cleanup")
+@StackTrace(false)
+public final class QuarterProcessed extends Event {
+
+    @Label("Year")
+    private int year;
+
+    @Label("Quarter")
+    private int quarter;
+
+    @Label("Tech Giants")
+    @Description("Tech Giants left at the end of the quarter")
+    private int techGiants;
+
+    @Label("Wild Startups")
+    @Description("Wild startups left at the end of the quarter")
+    private int wildStartups;
+
+    @Label("Battles")
+    @Description("Battles fought during the quarter")
+    private int battles;
+
+    public void setYear(int year) {
+        this.year = year;
+    }
+
+    public void setQuarter(int quarter) {
+        this.quarter = quarter;
+    }
+
+    public void setTechGiants(int techGiants) {
+        this.techGiants = techGiants;
+    }
+
+    public void setWildStartups(int wildStartups) {
+        this.wildStartups = wildStartups;
+    }
+
+    public void setBattles(int battles) {
+        this.battles = battles;
+    }
+}
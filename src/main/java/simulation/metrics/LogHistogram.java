@@ -0,0 +1,110 @@
+package simulation.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values, such as durations in nanoseconds or
+ * rounds per battle. Bucket k counts the values whose highest set bit is bit k - 1
+ * (bucket 0 counts zeros), so recording is one bit scan and one atomic increment, and
+ * percentiles are exact to within a factor of two.
+ */
+public final class LogHistogram {
+
+    static final int BUCKETS = Long.SIZE + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     * @param value The value.
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(clamped));
+        count.increment();
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * Retrieves the number of values recorded.
+     * @return The count.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Retrieves the sum of the values recorded.
+     * @return The sum, or 0 if nothing was recorded.
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Retrieves the largest value recorded.
+     * @return The largest value, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Retrieves the mean of the recorded values.
+     * @return The mean, or 0 if nothing was recorded.
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Estimates a percentile as the upper bound of the bucket it falls in, capped by the
+     * largest value recorded.
+     * @param percentile The percentile, from 0 to 100.
+     * @return The estimate, or 0 if nothing was recorded.
+     * @throws IllegalArgumentException if the percentile is outside 0 to 100.
+     */
+    public long getPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int k = 0; k < BUCKETS; k++) {
+            counts[k] = buckets.get(k);
+            total += counts[k];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int k = 0; k < BUCKETS; k++) {
+            seen += counts[k];
+            if (seen >= rank) {
+                long upper = k == 0 ? 0 : k == Long.SIZE ? Long.MAX_VALUE : (1L << k) - 1;
+                return Math.min(upper, max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Forgets every recorded value. Values recorded concurrently may be partly kept.
+     */
+    public void reset() {
+        for (int k = 0; k < BUCKETS; k++) {
+            buckets.set(k, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
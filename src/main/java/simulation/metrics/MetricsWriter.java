@@ -0,0 +1,369 @@
+package simulation.metrics;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import simulation.Startup;
+import simulation.TechGiant;
+
+/**
+ * Streams one row per startup per quarter to a file: year, quarter, owner, startup,
+ * revenue, market share, net income, experience points and stage.
+ *
+ * <p>Rows are encoded into large direct buffers. A full buffer is handed to a background
+ * thread that writes it through a FileChannel, while the simulation fills the next one.
+ * A fixed set of buffers is recycled, so memory stays constant however many rows are
+ * written. The simulation only waits when the disk falls behind by every buffer at once.
+ *
+ * <p>The {@link Format#BINARY} format is big-endian: the magic number {@code TGMX} and a
+ * version, then records. A name record (tag 0, int id, UTF-8 string with int length)
+ * defines each name the first time it is used. A row record (tag 1) holds int year,
+ * byte quarter, int owner name id (-1 for wild startups), int startup name id,
+ * double revenue, double market share, double net income, int experience points and
+ * byte stage ordinal.
+ */
+public final class MetricsWriter implements AutoCloseable {
+
+    /**
+     * Output format of a metrics file.
+     */
+    public enum Format {
+        /** Comma-separated text with a header line. */
+        CSV,
+        /** Compact binary records; see the class documentation. */
+        BINARY
+    }
+
+    public static final int DEFAULT_BUFFER_SIZE = 4 << 20; // 4 MiB per buffer
+    static final int MIN_BUFFER_SIZE = 1024;
+    static final int MAGIC = 0x54474D58; // "TGMX"
+    static final short VERSION = 1;
+    static final byte NAME_RECORD = 0;
+    static final byte ROW_RECORD = 1;
+
+    private static final int BUFFER_COUNT = 3;
+    private static final String CSV_HEADER = "year,quarter,owner,startup,revenue,marketShare,"
+            + "netIncome,experiencePoints,stage\n";
+    private static final int ROW_OVERHEAD = 256; // Bytes of a row beyond its two names
+    private static final ByteBuffer END = ByteBuffer.allocate(0); // Tells the flusher to stop
+
+    private final FileChannel channel;
+    private final Format format;
+    private final int bufferSize;
+    private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(BUFFER_COUNT);
+    private final BlockingQueue<ByteBuffer> pending = new ArrayBlockingQueue<>(BUFFER_COUNT + 1);
+    private final Map<String, Integer> nameIds = new HashMap<>(); // Binary format only
+    private final Thread flusher;
+    private ByteBuffer current;
+    private volatile IOException failure;
+    private long rows;
+    private boolean closed;
+
+    /**
+     * Opens a metrics file with the default buffer size, replacing any existing file.
+     * @param file   The file to write.
+     * @param format The output format.
+     * @throws IOException if the file cannot be opened.
+     */
+    public MetricsWriter(Path file, Format format) throws IOException {
+        this(file, format, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Opens a metrics file, replacing any existing file.
+     * @param file       The file to write.
+     * @param format     The output format.
+     * @param bufferSize Size in bytes of each of the recycled buffers.
+     * @throws IOException if the file cannot be opened.
+     * @throws IllegalArgumentException if the format is null or the buffer size is below
+     *                                  1024 bytes.
+     */
+    public MetricsWriter(Path file, Format format, int bufferSize) throws IOException {
+        if (format == null) {
+            throw new IllegalArgumentException("Format cannot be null.");
+        }
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least "
+                    + MIN_BUFFER_SIZE + " bytes.");
+        }
+        this.format = format;
+        this.bufferSize = bufferSize;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        for (int i = 0; i < BUFFER_COUNT - 1; i++) {
+            free.add(ByteBuffer.allocateDirect(bufferSize));
+        }
+        current = ByteBuffer.allocateDirect(bufferSize);
+        if (format == Format.CSV) {
+            putAscii(CSV_HEADER);
+        } else {
+            current.putInt(MAGIC);
+            current.putShort(VERSION);
+        }
+        flusher = new Thread(this::drain, "metrics-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Writes one row for every startup owned by the given Tech Giants and one for every
+     * wild startup. Called by the simulation at the end of each quarter.
+     * @param year         The simulated year.
+     * @param quarter      The quarter that just ended, from 1 to 4.
+     * @param techGiants   The Tech Giants, in simulation order.
+     * @param wildStartups The wild startups.
+     * @throws UncheckedIOException if an earlier write to the file failed.
+     * @throws IllegalStateException if the writer is closed.
+     */
+    public void writeQuarter(int year, int quarter, List<TechGiant> techGiants,
+                             List<Startup> wildStartups) {
+        for (TechGiant techGiant : techGiants) {
+            for (Startup startup : techGiant.getStartups()) {
+                writeRow(year, quarter, techGiant.getName(), startup);
+            }
+        }
+        for (Startup startup : wildStartups) {
+            writeRow(year, quarter, null, startup);
+        }
+    }
+
+    /**
+     * Writes one row.
+     * @param year    The simulated year.
+     * @param quarter The quarter, from 1 to 4.
+     * @param owner   Name of the owning Tech Giant, or null for a wild startup.
+     * @param startup The startup.
+     * @throws UncheckedIOException if an earlier write to the file failed.
+     * @throws IllegalStateException if the writer is closed.
+     */
+    public void writeRow(int year, int quarter, String owner, Startup startup) {
+        if (closed) {
+            throw new IllegalStateException("Metrics writer is closed.");
+        }
+        checkFailure();
+        if (format == Format.CSV) {
+            writeCsvRow(year, quarter, owner, startup);
+        } else {
+            writeBinaryRow(year, quarter, owner, startup);
+        }
+        rows++;
+    }
+
+    /**
+     * Retrieves the number of rows written so far.
+     * @return The row count.
+     */
+    public long getRowCount() {
+        return rows;
+    }
+
+    private void writeCsvRow(int year, int quarter, String owner, Startup startup) {
+        String name = startup.getName();
+        reserve(ROW_OVERHEAD + maxBytes(owner) + maxBytes(name));
+        putAscii(Integer.toString(year));
+        current.put((byte) ',');
+        putAscii(Integer.toString(quarter));
+        current.put((byte) ',');
+        if (owner != null) {
+            putCsvText(owner);
+        }
+        current.put((byte) ',');
+        putCsvText(name);
+        current.put((byte) ',');
+        putAscii(Double.toString(startup.getRevenue()));
+        current.put((byte) ',');
+        putAscii(Double.toString(startup.getMarketShare()));
+        current.put((byte) ',');
+        putAscii(Double.toString(startup.getNetIncome()));
+        current.put((byte) ',');
+        putAscii(Integer.toString(startup.getExperiencePoints()));
+        current.put((byte) ',');
+        putCsvText(startup.getStage());
+        current.put((byte) '\n');
+    }
+
+    private void writeBinaryRow(int year, int quarter, String owner, Startup startup) {
+        int ownerId = owner == null ? -1 : nameId(owner);
+        int startupId = nameId(startup.getName());
+        reserve(ROW_OVERHEAD);
+        current.put(ROW_RECORD);
+        current.putInt(year);
+        current.put((byte) quarter);
+        current.putInt(ownerId);
+        current.putInt(startupId);
+        current.putDouble(startup.getRevenue());
+        current.putDouble(startup.getMarketShare());
+        current.putDouble(startup.getNetIncome());
+        current.putInt(startup.getExperiencePoints());
+        current.put((byte) startup.getStageValue().ordinal());
+    }
+
+    /**
+     * Looks up the id of a name, writing a name record the first time it is seen.
+     */
+    private int nameId(String name) {
+        Integer id = nameIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        reserve(ROW_OVERHEAD + bytes.length);
+        int newId = nameIds.size();
+        nameIds.put(name, newId);
+        current.put(NAME_RECORD);
+        current.putInt(newId);
+        current.putInt(bytes.length);
+        current.put(bytes);
+        return newId;
+    }
+
+    private static int maxBytes(String text) {
+        return text == null ? 0 : 6 * text.length() + 2; // Worst case: quoted, escaped UTF-8
+    }
+
+    /**
+     * Writes text as a CSV field, quoting it when it contains a separator or a quote.
+     */
+    private void putCsvText(String text) {
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            putText(text);
+            return;
+        }
+        current.put((byte) '"');
+        putText(text.replace("\"", "\"\""));
+        current.put((byte) '"');
+    }
+
+    private void putText(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                current.put(text.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        putAscii(text);
+    }
+
+    private void putAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            current.put((byte) text.charAt(i));
+        }
+    }
+
+    /**
+     * Makes room for the given number of bytes, handing the current buffer to the flusher
+     * when it is too full.
+     */
+    private void reserve(int bytes) {
+        if (bytes > bufferSize) {
+            throw new IllegalArgumentException("Row does not fit in a " + bufferSize
+                    + "-byte buffer.");
+        }
+        if (current.remaining() < bytes) {
+            handOff();
+            current = takeFree();
+        }
+    }
+
+    private void handOff() {
+        current.flip();
+        try {
+            pending.put(current);
+        } catch (InterruptedException e) {
+            throw interrupted(e);
+        }
+    }
+
+    private ByteBuffer takeFree() {
+        try {
+            return free.take();
+        } catch (InterruptedException e) {
+            throw interrupted(e);
+        }
+    }
+
+    private static UncheckedIOException interrupted(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        InterruptedIOException cause = new InterruptedIOException("Metrics write interrupted.");
+        cause.initCause(e);
+        return new UncheckedIOException(cause);
+    }
+
+    /**
+     * Body of the flusher thread: writes full buffers in order and recycles them.
+     */
+    private void drain() {
+        try {
+            while (true) {
+                ByteBuffer buffer = pending.take();
+                if (buffer == END) {
+                    return;
+                }
+                if (failure == null) {
+                    try {
+                        while (buffer.hasRemaining()) {
+                            channel.write(buffer);
+                        }
+                    } catch (IOException e) {
+                        failure = e;
+                    }
+                }
+                buffer.clear();
+                free.put(buffer);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkFailure() {
+        IOException error = failure;
+        if (error != null) {
+            throw new UncheckedIOException("Cannot write metrics.", error);
+        }
+    }
+
+    /**
+     * Writes any buffered rows, waits for the flusher and closes the file.
+     * Closing a closed writer does nothing.
+     * @throws IOException if any write to the file failed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (current.position() > 0) {
+                handOff();
+            }
+            pending.put(END);
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flusher.interrupt();
+            failure = new InterruptedIOException("Interrupted while closing metrics.");
+        } finally {
+            channel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
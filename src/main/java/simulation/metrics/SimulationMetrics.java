@@ -0,0 +1,301 @@
+package simulation.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters and histograms for the simulation's hot paths: quarters, battles and their
+ * rounds, misses, critical hits, acquisitions, recoveries, events applied and the time
+ * spent in each phase of a quarter.
+ *
+ * <p>Metrics are off until {@link #enable()} is called. The simulation then reads the
+ * active instance once per battle or quarter and updates it with {@link LongAdder}
+ * counters and lock-free histograms, so concurrent battles never contend on a lock.
+ * While enabled, the metrics are published as a platform MXBean, readable from JConsole
+ * or any JMX client while a run is in progress.
+ */
+public final class SimulationMetrics implements SimulationMetricsMXBean {
+
+    public static final String OBJECT_NAME = "simulation:type=SimulationMetrics";
+
+    /**
+     * The timed phases of a quarter, in the order they run.
+     */
+    public enum Phase {
+        /** Applying the events due in the quarter. */
+        EVENTS,
+        /** Playing one quarter of every Tech Giant's enhancements. */
+        ENHANCEMENTS,
+        /** Odd-quarter enhancement offers, building and investing. */
+        GIANT_ACTIONS,
+        /** Odd-quarter battles against wild startups. */
+        WILD_BATTLES,
+        /** The Q4 tournament between Tech Giants. */
+        GIANT_BATTLES,
+        /** Removing drained Tech Giants, recovering startups and compacting journals. */
+        CLEANUP,
+        /** Writing the quarter's metrics file rows. */
+        OUTPUT
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static volatile SimulationMetrics active; // null while metrics are off
+
+    private final LongAdder quarters = new LongAdder();
+    private final LongAdder battles = new LongAdder();
+    private final LongAdder rounds = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder criticalHits = new LongAdder();
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder recoveries = new LongAdder();
+    private final LongAdder eventsApplied = new LongAdder();
+    private final LogHistogram roundsPerBattle = new LogHistogram();
+    private final LogHistogram quarterNanos = new LogHistogram();
+    private final LogHistogram[] phaseNanos = new LogHistogram[PHASES.length];
+
+    private SimulationMetrics() {
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = new LogHistogram();
+        }
+    }
+
+    /**
+     * Retrieves the metrics being collected.
+     * @return The active metrics, or null while metrics are off.
+     */
+    public static SimulationMetrics active() {
+        return active;
+    }
+
+    /**
+     * Starts collecting metrics and publishes them on the platform MBean server.
+     * Enabling metrics that are already on returns the active instance.
+     * @return The active metrics.
+     * @throws IllegalStateException if the MBean cannot be registered.
+     */
+    public static synchronized SimulationMetrics enable() {
+        if (active != null) {
+            return active;
+        }
+        SimulationMetrics metrics = new SimulationMetrics();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            try {
+                server.registerMBean(metrics, name);
+            } catch (InstanceAlreadyExistsException e) {
+                // Left behind by another class loader; take its place
+                server.unregisterMBean(name);
+                server.registerMBean(metrics, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+        }
+        active = metrics;
+        return metrics;
+    }
+
+    /**
+     * Stops collecting metrics and removes the MBean. The last instance keeps its values.
+     */
+    public static synchronized void disable() {
+        if (active == null) {
+            return;
+        }
+        active = null;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(
+                    new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException e) {
+            // Already gone
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Records a processed quarter.
+     * @param nanos How long the quarter took.
+     */
+    public void quarterProcessed(long nanos) {
+        quarters.increment();
+        quarterNanos.record(nanos);
+    }
+
+    /**
+     * Records the end of a phase of a quarter.
+     * @param phase The phase.
+     * @param since {@link System#nanoTime()} when the phase started.
+     * @return The current {@link System#nanoTime()}, where the next phase starts.
+     */
+    public long phaseCompleted(Phase phase, long since) {
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()].record(now - since);
+        return now;
+    }
+
+    /**
+     * Records a battle.
+     * @param roundCount   Attacks made, sampled in fast mode; 0 when one side forfeited.
+     * @param missCount    Attacks that missed.
+     * @param criticalCount Attacks that landed a critical hit.
+     */
+    public void battleResolved(long roundCount, long missCount, long criticalCount) {
+        battles.increment();
+        rounds.add(roundCount);
+        misses.add(missCount);
+        criticalHits.add(criticalCount);
+        roundsPerBattle.record(roundCount);
+    }
+
+    /**
+     * Records a startup acquired by a Tech Giant: a wild startup won in battle or one taken
+     * over in a Q4 battle. Startups added while setting up a simulation or built by a Tech
+     * Giant are not acquisitions.
+     */
+    public void acquisition() {
+        acquisitions.increment();
+    }
+
+    /**
+     * Records the startups moved in one takeover of a whole portfolio.
+     * @param count The number of startups moved.
+     */
+    public void acquisitions(int count) {
+        acquisitions.add(count);
+    }
+
+    /**
+     * Records startups recovered at the end of a quarter.
+     * @param count The number of startups recovered.
+     */
+    public void recovered(int count) {
+        recoveries.add(count);
+    }
+
+    /**
+     * Records one application of an event to a group of startups: the wild startups, or
+     * the portfolio of one Tech Giant.
+     */
+    public void eventApplied() {
+        eventsApplied.increment();
+    }
+
+    @Override
+    public long getQuartersProcessed() {
+        return quarters.sum();
+    }
+
+    @Override
+    public long getBattles() {
+        return battles.sum();
+    }
+
+    @Override
+    public long getRounds() {
+        return rounds.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getCriticalHits() {
+        return criticalHits.sum();
+    }
+
+    @Override
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    @Override
+    public long getRecoveries() {
+        return recoveries.sum();
+    }
+
+    @Override
+    public long getEventsApplied() {
+        return eventsApplied.sum();
+    }
+
+    @Override
+    public double getMeanRoundsPerBattle() {
+        return roundsPerBattle.getMean();
+    }
+
+    @Override
+    public long getRoundsPerBattleP99() {
+        return roundsPerBattle.getPercentile(99);
+    }
+
+    @Override
+    public double getQuarterMeanMillis() {
+        return quarterNanos.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getQuarterP99Millis() {
+        return quarterNanos.getPercentile(99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public Map<String, Double> getPhaseMeanMillis() {
+        Map<String, Double> means = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            means.put(phase.name(), phaseNanos[phase.ordinal()].getMean() / NANOS_PER_MILLI);
+        }
+        return means;
+    }
+
+    @Override
+    public Map<String, Double> getPhaseP99Millis() {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            long nanos = phaseNanos[phase.ordinal()].getPercentile(99);
+            percentiles.put(phase.name(), nanos / NANOS_PER_MILLI);
+        }
+        return percentiles;
+    }
+
+    /**
+     * Retrieves the histogram of rounds per battle. A forfeited battle counts as 0 rounds.
+     * @return The histogram.
+     */
+    public LogHistogram getRoundsPerBattle() {
+        return roundsPerBattle;
+    }
+
+    /**
+     * Retrieves the histogram of time spent in a phase, in nanoseconds.
+     * @param phase The phase.
+     * @return The histogram.
+     */
+    public LogHistogram getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder counter : new LongAdder[] {quarters, battles, rounds, misses,
+                criticalHits, acquisitions, recoveries, eventsApplied}) {
+            counter.reset();
+        }
+        roundsPerBattle.reset();
+        quarterNanos.reset();
+        for (LogHistogram histogram : phaseNanos) {
+            histogram.reset();
+        }
+    }
+}
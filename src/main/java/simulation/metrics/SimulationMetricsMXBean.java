@@ -0,0 +1,100 @@
+package simulation.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link SimulationMetrics}, published on the platform MBean
+ * server as {@value SimulationMetrics#OBJECT_NAME}. Only open types are used, so JConsole
+ * and other JMX clients can read it without the simulator's classes.
+ */
+public interface SimulationMetricsMXBean {
+
+    /**
+     * Retrieves the number of quarters processed.
+     * @return Quarters.
+     */
+    long getQuartersProcessed();
+
+    /**
+     * Retrieves the number of battles resolved, including forfeits.
+     * @return Battles.
+     */
+    long getBattles();
+
+    /**
+     * Retrieves the number of attacks made in battles, sampled in fast mode.
+     * @return Attacks.
+     */
+    long getRounds();
+
+    /**
+     * Retrieves the number of attacks that missed.
+     * @return Misses.
+     */
+    long getMisses();
+
+    /**
+     * Retrieves the number of attacks that landed a critical hit.
+     * @return Critical hits.
+     */
+    long getCriticalHits();
+
+    /**
+     * Retrieves the number of startups acquired by Tech Giants, in battle or by merger.
+     * @return Acquisitions.
+     */
+    long getAcquisitions();
+
+    /**
+     * Retrieves the number of defeated startups that recovered.
+     * @return Recoveries.
+     */
+    long getRecoveries();
+
+    /**
+     * Retrieves the number of market events applied.
+     * @return Events.
+     */
+    long getEventsApplied();
+
+    /**
+     * Retrieves the mean number of attacks per battle.
+     * @return Attacks per battle, or 0 if no battle was resolved.
+     */
+    double getMeanRoundsPerBattle();
+
+    /**
+     * Retrieves the 99th percentile of attacks per battle.
+     * @return Attacks, exact to within a factor of two.
+     */
+    long getRoundsPerBattleP99();
+
+    /**
+     * Retrieves the mean duration of a quarter.
+     * @return Milliseconds.
+     */
+    double getQuarterMeanMillis();
+
+    /**
+     * Retrieves the 99th percentile duration of a quarter.
+     * @return Milliseconds.
+     */
+    double getQuarterP99Millis();
+
+    /**
+     * Retrieves the mean duration of each phase of a quarter.
+     * @return Milliseconds by phase name.
+     */
+    Map<String, Double> getPhaseMeanMillis();
+
+    /**
+     * Retrieves the 99th percentile duration of each phase of a quarter.
+     * @return Milliseconds by phase name.
+     */
+    Map<String, Double> getPhaseP99Millis();
+
+    /**
+     * Sets every counter and histogram back to zero.
+     */
+    void reset();
+}
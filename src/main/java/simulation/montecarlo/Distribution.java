@@ -0,0 +1,86 @@
+package simulation.montecarlo;
+
+/**
+ * Running summary of a sample: count, mean, variance, minimum and maximum.
+ * Partial distributions can be merged, which is how replica chunks are combined.
+ */
+public class Distribution {
+
+    private long count;
+    private double mean;
+    private double sumOfSquares; // Sum of squared differences from the mean
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds one observation.
+     * @param value the observed value
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumOfSquares += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Merges another distribution into this one.
+     * @param other the distribution to merge
+     */
+    public void merge(Distribution other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            sumOfSquares = other.sumOfSquares;
+            min = other.min;
+            max = other.max;
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        sumOfSquares += other.sumOfSquares + delta * delta * count * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * Retrieves the sample variance.
+     * @return the variance, or 0 with fewer than two observations
+     */
+    public double getVariance() {
+        return count < 2 ? 0 : sumOfSquares / (count - 1);
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.2f sd=%.2f min=%.2f max=%.2f",
+                count, getMean(), getStandardDeviation(), getMin(), getMax());
+    }
+}
@@ -0,0 +1,128 @@
+package simulation.montecarlo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import simulation.SeedMixer;
+import simulation.SimulationManager;
+import simulation.TechGiant;
+
+/**
+ * Runs many independent replicas of a scenario in parallel and aggregates their outcomes.
+ * Each replica gets a seed derived only from the base seed and its replica number.
+ * The seed also drives every battle of the replica, so a replica always plays out the same way.
+ * Replicas are grouped into fixed-size chunks and chunk summaries are merged in replica
+ * order. The aggregate is therefore the same for any number of threads.
+ */
+public class MonteCarloRunner {
+
+    static final int CHUNK_SIZE = 64; // Replicas per task; fixed so merge order never changes
+
+    private final ScenarioFactory scenario;
+    private final long baseSeed;
+    private final int years;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Constructs a runner.
+     * @param scenario builds one fresh scenario per replica
+     * @param baseSeed seed from which every replica seed is derived
+     * @param years    number of years each replica simulates
+     * @throws IllegalArgumentException if the scenario is null or years is not positive
+     */
+    public MonteCarloRunner(ScenarioFactory scenario, long baseSeed, int years) {
+        if (scenario == null) {
+            throw new IllegalArgumentException("Scenario cannot be null.");
+        }
+        if (years <= 0) {
+            throw new IllegalArgumentException("Years must be positive.");
+        }
+        this.scenario = scenario;
+        this.baseSeed = baseSeed;
+        this.years = years;
+    }
+
+    /**
+     * Sets the number of worker threads. This affects speed only, never the results.
+     * @param parallelism number of threads to use
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs the replicas and returns the aggregated summary.
+     * @param replicas number of replicas to run
+     * @return the aggregated summary
+     */
+    public MonteCarloSummary run(int replicas) {
+        return run(replicas, summary -> { });
+    }
+
+    /**
+     * Runs the replicas, streaming the running aggregate after each completed chunk.
+     * The progress consumer is always called in replica order, on the calling thread.
+     * @param replicas number of replicas to run
+     * @param progress receives the cumulative summary after each chunk
+     * @return the aggregated summary
+     * @throws IllegalArgumentException if replicas is negative
+     */
+    public MonteCarloSummary run(int replicas, Consumer<MonteCarloSummary> progress) {
+        if (replicas < 0) {
+            throw new IllegalArgumentException("Replicas cannot be negative.");
+        }
+        MonteCarloSummary total = new MonteCarloSummary();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Future<MonteCarloSummary>> chunks = new ArrayList<>();
+            for (int first = 0; first < replicas; first += CHUNK_SIZE) {
+                int start = first;
+                int end = Math.min(replicas, first + CHUNK_SIZE);
+                chunks.add(pool.submit(() -> runChunk(start, end)));
+            }
+            for (Future<MonteCarloSummary> chunk : chunks) {
+                total.merge(chunk.get());
+                progress.accept(total);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Monte Carlo run was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A Monte Carlo replica failed.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return total;
+    }
+
+    private MonteCarloSummary runChunk(int start, int end) {
+        MonteCarloSummary summary = new MonteCarloSummary();
+        for (int replica = start; replica < end; replica++) {
+            long seed = replicaSeed(baseSeed, replica);
+            SimulationManager manager = scenario.create(seed);
+            manager.setSeed(seed); // Battles draw from the replica seed whatever the scenario did
+            // Keep every participant, including Tech Giants eliminated during the run
+            List<TechGiant> participants = new ArrayList<>(manager.getTechGiants());
+            manager.startSimulation(years);
+            summary.record(participants);
+        }
+        return summary;
+    }
+
+    /**
+     * Derives the seed of a replica.
+     * @param baseSeed the run's base seed
+     * @param replica  the replica number
+     * @return the replica's seed
+     */
+    public static long replicaSeed(long baseSeed, long replica) {
+        return SeedMixer.mix(baseSeed, replica);
+    }
+}
@@ -0,0 +1,128 @@
+package simulation.montecarlo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import simulation.TechGiant;
+
+/**
+ * Aggregated results of a set of Monte Carlo replicas.
+ * Tech Giants are identified by name, so every replica of a scenario should use the same names.
+ */
+public class MonteCarloSummary {
+
+    private long replicas;
+    private long undecided; // Replicas without a single leading Tech Giant
+    private final Map<String, Long> wins = new TreeMap<>();
+    private final Map<String, Distribution> finalFunds = new TreeMap<>();
+    private final Map<String, Distribution> finalStartups = new TreeMap<>();
+    private final Distribution totalStartups = new Distribution();
+
+    /**
+     * Records the final state of one replica.
+     * The winner is the Tech Giant owning the most startups, with funds breaking ties.
+     * @param techGiants every Tech Giant that took part, including eliminated ones
+     */
+    void record(List<TechGiant> techGiants) {
+        replicas++;
+        TechGiant leader = null;
+        boolean tied = false;
+        int total = 0;
+        for (TechGiant techGiant : techGiants) {
+            int startups = techGiant.getStartups().size();
+            total += startups;
+            finalFunds.computeIfAbsent(techGiant.getName(), k -> new Distribution())
+                    .add(techGiant.getFunds());
+            finalStartups.computeIfAbsent(techGiant.getName(), k -> new Distribution())
+                    .add(startups);
+
+            int order = leader == null ? 1 : compare(techGiant, leader);
+            if (order > 0) {
+                leader = techGiant;
+                tied = false;
+            } else if (order == 0) {
+                tied = true;
+            }
+        }
+        totalStartups.add(total);
+        if (leader == null || tied) {
+            undecided++;
+        } else {
+            wins.merge(leader.getName(), 1L, Long::sum);
+        }
+    }
+
+    private static int compare(TechGiant a, TechGiant b) {
+        int byStartups = Integer.compare(a.getStartups().size(), b.getStartups().size());
+        return byStartups != 0 ? byStartups : Double.compare(a.getFunds(), b.getFunds());
+    }
+
+    /**
+     * Merges another summary into this one.
+     * @param other the summary to merge
+     */
+    void merge(MonteCarloSummary other) {
+        replicas += other.replicas;
+        undecided += other.undecided;
+        other.wins.forEach((name, count) -> wins.merge(name, count, Long::sum));
+        other.finalFunds.forEach((name, distribution) ->
+                finalFunds.computeIfAbsent(name, k -> new Distribution()).merge(distribution));
+        other.finalStartups.forEach((name, distribution) ->
+                finalStartups.computeIfAbsent(name, k -> new Distribution()).merge(distribution));
+        totalStartups.merge(other.totalStartups);
+    }
+
+    public long getReplicas() {
+        return replicas;
+    }
+
+    public long getUndecided() {
+        return undecided;
+    }
+
+    /**
+     * Retrieves how often each Tech Giant finished in the lead.
+     * @return wins keyed by Tech Giant name
+     */
+    public Map<String, Long> getWins() {
+        return Collections.unmodifiableMap(wins);
+    }
+
+    /**
+     * Retrieves the fraction of replicas won by a Tech Giant.
+     * @param techGiantName the Tech Giant's name
+     * @return the win rate between 0 and 1
+     */
+    public double getWinRate(String techGiantName) {
+        return replicas == 0 ? 0 : wins.getOrDefault(techGiantName, 0L) / (double) replicas;
+    }
+
+    public Map<String, Distribution> getFinalFunds() {
+        return Collections.unmodifiableMap(finalFunds);
+    }
+
+    public Map<String, Distribution> getFinalStartups() {
+        return Collections.unmodifiableMap(finalStartups);
+    }
+
+    public Distribution getTotalStartups() {
+        return totalStartups;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Replicas: ").append(replicas)
+                .append(" (undecided: ").append(undecided).append(")\n");
+        for (String name : finalFunds.keySet()) {
+            builder.append(name)
+                    .append(String.format(" | win rate %.4f", getWinRate(name)))
+                    .append(" | funds ").append(finalFunds.get(name))
+                    .append(" | startups ").append(finalStartups.get(name))
+                    .append('\n');
+        }
+        builder.append("Total startups: ").append(totalStartups);
+        return builder.toString();
+    }
+}
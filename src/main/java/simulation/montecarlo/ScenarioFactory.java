@@ -0,0 +1,18 @@
+package simulation.montecarlo;
+
+import simulation.SimulationManager;
+
+/**
+ * Builds a fresh, independent copy of a simulation scenario for one Monte Carlo replica.
+ * Implementations must not share mutable Tech Giants, startups or events between calls.
+ */
+@FunctionalInterface
+public interface ScenarioFactory {
+
+    /**
+     * Creates the scenario for one replica.
+     * @param seed the replica's seed; use it for every random choice made while building
+     * @return a simulation ready to be started
+     */
+    SimulationManager create(long seed);
+}
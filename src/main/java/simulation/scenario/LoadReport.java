@@ -0,0 +1,36 @@
+package simulation.scenario;
+
+/**
+ * Summary of a scenario load: how many records were read and how fast.
+ */
+public final class LoadReport {
+    private final long records;
+    private final long elapsedNanos;
+
+    LoadReport(long records, long elapsedNanos) {
+        this.records = records;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Retrieves the load throughput.
+     * @return Records loaded per second
+     */
+    public double getRecordsPerSecond() {
+        return elapsedNanos == 0 ? 0 : records * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Loaded %d records in %.1f ms (%.0f records/s)",
+                records, elapsedNanos / 1e6, getRecordsPerSecond());
+    }
+}
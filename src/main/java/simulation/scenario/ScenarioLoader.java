@@ -0,0 +1,342 @@
+package simulation.scenario;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import simulation.Enhancement;
+import simulation.SimulationManager;
+import simulation.Startup;
+import simulation.TechGiant;
+import simulation.events.Event;
+import simulation.events.Quarter;
+
+/**
+ * Loads a scenario from a CSV file into a simulation, one line at a time.
+ * The file is read through a FileChannel in fixed-size chunks and every object is added
+ * to the simulation as soon as its line is parsed, so memory use does not depend on the
+ * size of the file.
+ *
+ * <p>Each line is one record whose first field names its kind. Blank lines and lines
+ * starting with {@code #} are ignored. Fields are separated by commas; a field containing
+ * commas or quotes is enclosed in double quotes, with quotes doubled. Surrounding
+ * whitespace is ignored.
+ * <pre>
+ * giant,name,funds
+ * startup,owner,name,type,revenue,marketShare,netIncome
+ * wild,name,type,revenue,marketShare,netIncome
+ * event,name,description,quarter[,firstYear,lastYear]
+ * enhancement,giant,name,type,cost,duration,effectValue
+ * </pre>
+ * A Tech Giant must be declared before the records that name it. Enhancements are bought
+ * by their Tech Giant when the line is read, exactly as with
+ * {@link TechGiant#purchaseEnhancement(Enhancement)}.
+ */
+public final class ScenarioLoader {
+
+    static final int CHUNK_SIZE = 1 << 20; // Bytes read from the channel at a time
+
+    private static final double[] POWERS_OF_TEN = new double[23]; // Exact as doubles
+    private static final int MAX_FAST_DIGITS = 15; // Fewer than 2^53, so exact too
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final Map<String, TechGiant> giants = new HashMap<>();
+    // The current line's fields, as byte ranges of the read buffer; reused for every line
+    private byte[] bytes;
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private String[] quoted = new String[8]; // Unescaped value of a quoted field, else null
+    private int fieldCount;
+    private byte[] scratch = new byte[64];   // Unescapes quoted fields
+    private final SimulationManager manager;
+    private final String source;
+    private long line;
+
+    private ScenarioLoader(SimulationManager manager, String source) {
+        this.manager = manager;
+        this.source = source;
+        for (TechGiant techGiant : manager.getTechGiants()) {
+            giants.put(techGiant.getName(), techGiant);
+        }
+    }
+
+    /**
+     * Loads a scenario file into a simulation. Tech Giants already in the simulation may
+     * be named by the file.
+     *
+     * @param file    The scenario file, UTF-8 encoded.
+     * @param manager The simulation to add the scenario to.
+     * @return How many records were loaded and how fast.
+     * @throws IOException if the file cannot be read or a line is malformed; the message
+     *                     names the offending line.
+     */
+    public static LoadReport load(Path file, SimulationManager manager) throws IOException {
+        if (manager == null) {
+            throw new IllegalArgumentException("Simulation cannot be null.");
+        }
+        ScenarioLoader loader = new ScenarioLoader(manager, file.toString());
+        long start = System.nanoTime();
+        long records;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            records = loader.read(channel);
+        }
+        return new LoadReport(records, System.nanoTime() - start);
+    }
+
+    /**
+     * Splits the channel into lines without copying more than one line at a time.
+     */
+    private long read(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        long records = 0;
+        boolean eof = false;
+        while (!eof) {
+            eof = channel.read(buffer) < 0;
+            buffer.flip();
+            byte[] bytes = buffer.array();
+            int start = buffer.position();
+            for (int i = start; i < buffer.limit(); i++) {
+                if (bytes[i] == '\n') {
+                    records += parseLine(bytes, start, i);
+                    start = i + 1;
+                }
+            }
+            if (eof && start < buffer.limit()) {
+                records += parseLine(bytes, start, buffer.limit()); // Last line, no newline
+                start = buffer.limit();
+            }
+            buffer.position(start);
+            if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+                // A single line fills the buffer: grow it
+                ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+        }
+        return records;
+    }
+
+    private int parseLine(byte[] buffer, int start, int end) throws IOException {
+        line++;
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        int first = skipSpaces(buffer, start, end);
+        if (first == end || buffer[first] == '#') {
+            return 0;
+        }
+        bytes = buffer;
+        try {
+            split(start, end);
+            addRecord();
+        } catch (IllegalArgumentException e) {
+            throw new IOException(source + ":" + line + ": " + e.getMessage(), e);
+        }
+        return 1;
+    }
+
+    private void addRecord() {
+        String kind = text(0);
+        switch (kind) {
+            case "giant":
+                expect(3, kind);
+                String name = text(1);
+                if (giants.containsKey(name)) {
+                    throw new IllegalArgumentException("Duplicate Tech Giant '" + name + "'.");
+                }
+                TechGiant techGiant = new TechGiant(name, number(2));
+                giants.put(name, techGiant);
+                manager.addTechGiant(techGiant);
+                break;
+            case "startup":
+                expect(7, kind);
+                giant(1).addStartup(new Startup(text(2), text(3), number(4), number(5),
+                        number(6), false));
+                break;
+            case "wild":
+                expect(6, kind);
+                manager.addWildStartup(new Startup(text(1), text(2), number(3), number(4),
+                        number(5), true));
+                break;
+            case "event":
+                if (fieldCount == 4) {
+                    manager.addEvent(new Event(text(1), text(2), text(3)));
+                } else {
+                    expect(6, kind);
+                    manager.addEvent(new Event(text(1), text(2), Quarter.parse(text(3)),
+                            integer(4), integer(5)));
+                }
+                break;
+            case "enhancement":
+                expect(7, kind);
+                giant(1).purchaseEnhancement(new Enhancement(text(2), text(3), number(4),
+                        integer(5), number(6)));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown record type '" + kind + "'.");
+        }
+    }
+
+    private void expect(int count, String kind) {
+        if (fieldCount != count) {
+            throw new IllegalArgumentException("A " + kind + " record has " + count
+                    + " fields, found " + fieldCount + ".");
+        }
+    }
+
+    /**
+     * Retrieves a field as text, without surrounding whitespace.
+     */
+    private String text(int index) {
+        if (quoted[index] != null) {
+            return quoted[index].trim();
+        }
+        int start = starts[index];
+        int end = ends[index];
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses a numeric field. Plain decimals of up to 15 digits are converted directly;
+     * both operands of the final division are exact doubles, so the result is correctly
+     * rounded and equals what Double.parseDouble returns. Anything else falls back to it.
+     */
+    private double number(int index) {
+        if (quoted[index] == null) {
+            int i = starts[index];
+            int end = ends[index];
+            boolean negative = i < end && bytes[i] == '-';
+            if (negative) {
+                i++;
+            }
+            long digits = 0;
+            int digitCount = 0;
+            int decimals = -1; // Digits after the point, or -1 before a point is seen
+            for (; i < end; i++) {
+                byte b = bytes[i];
+                if (b >= '0' && b <= '9') {
+                    digits = digits * 10 + (b - '0');
+                    digitCount++;
+                    if (decimals >= 0) {
+                        decimals++;
+                    }
+                } else if (b == '.' && decimals < 0) {
+                    decimals = 0;
+                } else {
+                    break;
+                }
+            }
+            if (i == end && digitCount > 0 && digitCount <= MAX_FAST_DIGITS) {
+                double value = decimals > 0 ? digits / POWERS_OF_TEN[decimals] : digits;
+                return negative ? -value : value;
+            }
+        }
+        String text = text(index);
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: '" + text + "'.");
+        }
+    }
+
+    private int integer(int index) {
+        String text = text(index);
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not an integer: '" + text + "'.");
+        }
+    }
+
+    private TechGiant giant(int index) {
+        TechGiant techGiant = giants.get(text(index));
+        if (techGiant == null) {
+            throw new IllegalArgumentException("Unknown Tech Giant '" + text(index)
+                    + "'; declare it with a giant record first.");
+        }
+        return techGiant;
+    }
+
+    /**
+     * Splits a line into fields, honouring double-quoted fields. Unquoted fields are
+     * recorded as trimmed byte ranges and only turned into objects when read.
+     */
+    private void split(int start, int end) {
+        fieldCount = 0;
+        int i = start;
+        while (true) {
+            if (fieldCount == starts.length) {
+                starts = Arrays.copyOf(starts, fieldCount * 2);
+                ends = Arrays.copyOf(ends, fieldCount * 2);
+                quoted = Arrays.copyOf(quoted, fieldCount * 2);
+            }
+            int first = skipSpaces(bytes, i, end);
+            if (first < end && bytes[first] == '"') {
+                i = unquote(first + 1, end);
+            } else {
+                while (i < end && bytes[i] != ',') {
+                    i++;
+                }
+                int last = i;
+                while (last > first && (bytes[last - 1] == ' ' || bytes[last - 1] == '\t')) {
+                    last--;
+                }
+                starts[fieldCount] = first;
+                ends[fieldCount] = last;
+                quoted[fieldCount] = null;
+            }
+            fieldCount++;
+            if (i >= end) {
+                return;
+            }
+            i++; // Skip the comma
+        }
+    }
+
+    /**
+     * Reads a quoted field starting after its opening quote.
+     * @return the position of the comma that ends the field, or the end of the line
+     */
+    private int unquote(int i, int end) {
+        int length = 0;
+        while (i < end) {
+            byte b = bytes[i++];
+            if (b == '"') {
+                if (i < end && bytes[i] == '"') {
+                    i++; // A doubled quote stands for one quote
+                } else {
+                    break;
+                }
+            }
+            if (length == scratch.length) {
+                scratch = Arrays.copyOf(scratch, length * 2);
+            }
+            scratch[length++] = b;
+        }
+        quoted[fieldCount] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        while (i < end && bytes[i] != ',') {
+            i++; // Ignore anything between the closing quote and the comma
+        }
+        return i;
+    }
+
+    private static int skipSpaces(byte[] buffer, int i, int end) {
+        while (i < end && (buffer[i] == ' ' || buffer[i] == '\t')) {
+            i++;
+        }
+        return i;
+    }
+}
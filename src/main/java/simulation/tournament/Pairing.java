@@ -0,0 +1,41 @@
+package simulation.tournament;
+
+import simulation.TechGiant;
+
+/**
+ * Two Tech Giants scheduled to battle each other. The challenger attacks first.
+ */
+public final class Pairing {
+    private final TechGiant challenger;
+    private final TechGiant opponent;
+
+    /**
+     * Constructs a pairing.
+     * @param challenger Tech Giant that attacks first
+     * @param opponent   Tech Giant it battles
+     * @throws IllegalArgumentException if either is null or both are the same Tech Giant
+     */
+    public Pairing(TechGiant challenger, TechGiant opponent) {
+        if (challenger == null || opponent == null) {
+            throw new IllegalArgumentException("Tech Giants cannot be null.");
+        }
+        if (challenger == opponent) {
+            throw new IllegalArgumentException("A Tech Giant cannot battle itself.");
+        }
+        this.challenger = challenger;
+        this.opponent = opponent;
+    }
+
+    public TechGiant getChallenger() {
+        return challenger;
+    }
+
+    public TechGiant getOpponent() {
+        return opponent;
+    }
+
+    @Override
+    public String toString() {
+        return challenger.getName() + " vs " + opponent.getName();
+    }
+}
@@ -0,0 +1,122 @@
+package simulation.tournament;
+
+import java.util.ArrayList;
+import java.util.List;
+import simulation.TechGiant;
+
+/**
+ * Every Tech Giant battles every other Tech Giant once, as in the original Q4.
+ * In each pairing the giant added to the simulation first is the challenger.
+ * <p>
+ * By default the pairs are played one at a time in the original order (the first giant
+ * against each later one, then the second, and so on), so a seed gives the same Q4 as
+ * before schedulers existed. The grouped variant arranges the same pairs into rounds of
+ * disjoint pairings with the circle method: n giants play n - 1 rounds (n rounds when n
+ * is odd, one giant sitting out each round), which lets a round be fought concurrently.
+ * The battles then happen in a different order, so the same seed gives a different Q4.
+ */
+public class RoundRobinScheduler implements TournamentScheduler {
+
+    private final boolean grouped; // Circle-method rounds instead of the original order
+
+    /**
+     * Constructs a scheduler that plays the pairs one at a time in the original order.
+     */
+    public RoundRobinScheduler() {
+        this(false);
+    }
+
+    /**
+     * Constructs a scheduler.
+     * @param grouped true to group the pairs into rounds with the circle method,
+     *                false to play them one at a time in the original order
+     */
+    public RoundRobinScheduler(boolean grouped) {
+        this.grouped = grouped;
+    }
+
+    public boolean isGrouped() {
+        return grouped;
+    }
+
+    @Override
+    public Tournament start(List<TechGiant> giants) {
+        return grouped ? new CircleRoundRobin(giants) : new OrderedRoundRobin(giants);
+    }
+
+    /**
+     * One pairing per round, in the order of the original nested loop.
+     */
+    private static final class OrderedRoundRobin implements Tournament {
+        private final List<TechGiant> giants;
+        private int first;
+        private int second;
+
+        OrderedRoundRobin(List<TechGiant> giants) {
+            this.giants = new ArrayList<>(giants);
+            this.second = 1;
+        }
+
+        @Override
+        public List<Pairing> nextRound() {
+            if (second >= giants.size()) {
+                return List.of();
+            }
+            Pairing pairing = new Pairing(giants.get(first), giants.get(second));
+            if (++second == giants.size()) {
+                first++;
+                second = first + 1;
+            }
+            return List.of(pairing);
+        }
+
+        @Override
+        public void record(Pairing pairing, TechGiant winner) {
+            // Results do not affect a round-robin schedule
+        }
+    }
+
+    private static final class CircleRoundRobin implements Tournament {
+        private static final int BYE = -1;
+
+        private final List<TechGiant> giants;
+        private final int[] circle; // Giant indices; position 0 never moves
+        private int round;
+
+        CircleRoundRobin(List<TechGiant> giants) {
+            this.giants = new ArrayList<>(giants);
+            circle = new int[giants.size() + giants.size() % 2];
+            for (int i = 0; i < circle.length; i++) {
+                circle[i] = i < giants.size() ? i : BYE;
+            }
+        }
+
+        @Override
+        public List<Pairing> nextRound() {
+            int size = circle.length;
+            if (round >= size - 1) {
+                return List.of();
+            }
+            List<Pairing> pairings = new ArrayList<>(size / 2);
+            for (int i = 0; i < size / 2; i++) {
+                int first = circle[i];
+                int second = circle[size - 1 - i];
+                if (first != BYE && second != BYE) {
+                    pairings.add(new Pairing(giants.get(Math.min(first, second)),
+                            giants.get(Math.max(first, second))));
+                }
+            }
+            // Rotate every position but the first by one step
+            int last = circle[size - 1];
+            System.arraycopy(circle, 1, circle, 2, size - 2);
+            circle[1] = last;
+            round++;
+            return pairings;
+        }
+
+        @Override
+        public void record(Pairing pairing, TechGiant winner) {
+            // Results do not affect a round-robin schedule
+        }
+    }
+}
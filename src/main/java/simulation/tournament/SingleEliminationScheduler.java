@@ -0,0 +1,58 @@
+package simulation.tournament;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import simulation.TechGiant;
+
+/**
+ * Knockout tournament: the losing Tech Giant of each pairing is out, and the winners meet
+ * in the next round until one is left. n giants fight n - 1 battles over ceil(log2(n))
+ * rounds. Giants are bracketed in simulation order; with an odd number left, the last one
+ * advances without a battle. When a pairing has no winner the challenger advances.
+ */
+public class SingleEliminationScheduler implements TournamentScheduler {
+
+    @Override
+    public Tournament start(List<TechGiant> giants) {
+        return new Knockout(giants);
+    }
+
+    private static final class Knockout implements Tournament {
+        private final List<TechGiant> survivors;
+        private final Set<TechGiant> eliminated =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        private List<Pairing> pending = List.of();
+
+        Knockout(List<TechGiant> giants) {
+            this.survivors = new ArrayList<>(giants);
+        }
+
+        @Override
+        public List<Pairing> nextRound() {
+            for (Pairing pairing : pending) {
+                if (!eliminated.contains(pairing.getChallenger())) {
+                    eliminated.add(pairing.getOpponent()); // Unrecorded or drawn pairing
+                }
+            }
+            survivors.removeIf(eliminated::contains);
+            List<Pairing> pairings = new ArrayList<>(survivors.size() / 2);
+            for (int i = 0; i + 1 < survivors.size(); i += 2) {
+                pairings.add(new Pairing(survivors.get(i), survivors.get(i + 1)));
+            }
+            pending = pairings;
+            return pairings;
+        }
+
+        @Override
+        public void record(Pairing pairing, TechGiant winner) {
+            if (winner == pairing.getOpponent()) {
+                eliminated.add(pairing.getChallenger());
+            } else {
+                eliminated.add(pairing.getOpponent());
+            }
+        }
+    }
+}
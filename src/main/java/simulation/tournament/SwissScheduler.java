@@ -0,0 +1,133 @@
+package simulation.tournament;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import simulation.TechGiant;
+
+/**
+ * Swiss-system tournament: a fixed number of rounds in which Tech Giants with the same
+ * number of wins battle each other. Each round pairs giants in standing order (most wins
+ * first, then simulation order), skipping rematches where possible. With an odd number
+ * of giants the lowest-standing unpaired giant sits the round out.
+ * Only about log2(n) rounds are needed to separate the field, against n - 1 for a
+ * round robin.
+ */
+public class SwissScheduler implements TournamentScheduler {
+
+    private final int rounds; // 0 picks ceil(log2(n)) for n giants
+
+    /**
+     * Constructs a scheduler that plays ceil(log2(n)) rounds for n giants.
+     */
+    public SwissScheduler() {
+        this.rounds = 0;
+    }
+
+    /**
+     * Constructs a scheduler that plays a fixed number of rounds,
+     * capped at n - 1 for n giants.
+     * @param rounds number of rounds
+     * @throws IllegalArgumentException if rounds is not positive
+     */
+    public SwissScheduler(int rounds) {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Rounds must be positive.");
+        }
+        this.rounds = rounds;
+    }
+
+    @Override
+    public Tournament start(List<TechGiant> giants) {
+        int count = giants.size();
+        int planned = rounds > 0 ? rounds : 32 - Integer.numberOfLeadingZeros(count - 1);
+        return new Swiss(giants, Math.max(0, Math.min(planned, count - 1)));
+    }
+
+    private static final class Swiss implements Tournament {
+        private final List<TechGiant> giants;
+        private final Map<TechGiant, Integer> indexOf = new IdentityHashMap<>();
+        private final int[] wins;
+        private final Set<Long> played = new HashSet<>(); // Pair keys, see pairKey
+        private final int rounds;
+        private int round;
+
+        Swiss(List<TechGiant> giants, int rounds) {
+            this.giants = new ArrayList<>(giants);
+            this.wins = new int[giants.size()];
+            this.rounds = rounds;
+            for (int i = 0; i < giants.size(); i++) {
+                indexOf.put(giants.get(i), i);
+            }
+        }
+
+        @Override
+        public List<Pairing> nextRound() {
+            if (round >= rounds) {
+                return List.of();
+            }
+            round++;
+            List<Integer> standings = new ArrayList<>(giants.size());
+            for (int i = 0; i < giants.size(); i++) {
+                standings.add(i);
+            }
+            standings.sort((a, b) -> wins[a] != wins[b]
+                    ? Integer.compare(wins[b], wins[a]) : Integer.compare(a, b));
+
+            boolean[] paired = new boolean[giants.size()];
+            List<Pairing> pairings = new ArrayList<>(giants.size() / 2);
+            for (int i = 0; i < standings.size(); i++) {
+                int first = standings.get(i);
+                if (paired[first]) {
+                    continue;
+                }
+                int second = pickOpponent(standings, i, paired);
+                if (second < 0) {
+                    break; // Last giant left over gets a bye
+                }
+                paired[first] = true;
+                paired[second] = true;
+                played.add(pairKey(first, second));
+                pairings.add(new Pairing(giants.get(Math.min(first, second)),
+                        giants.get(Math.max(first, second))));
+            }
+            return pairings;
+        }
+
+        /**
+         * Picks the next unpaired giant in standing order, preferring one not yet met.
+         */
+        private int pickOpponent(List<Integer> standings, int position, boolean[] paired) {
+            int first = standings.get(position);
+            int fallback = -1;
+            for (int j = position + 1; j < standings.size(); j++) {
+                int candidate = standings.get(j);
+                if (paired[candidate]) {
+                    continue;
+                }
+                if (!played.contains(pairKey(first, candidate))) {
+                    return candidate;
+                }
+                if (fallback < 0) {
+                    fallback = candidate;
+                }
+            }
+            return fallback;
+        }
+
+        private long pairKey(int a, int b) {
+            return (long) Math.min(a, b) * giants.size() + Math.max(a, b);
+        }
+
+        @Override
+        public void record(Pairing pairing, TechGiant winner) {
+            Integer index = winner == null ? null : indexOf.get(winner);
+            if (index != null) {
+                wins[index]++;
+            }
+        }
+    }
+}
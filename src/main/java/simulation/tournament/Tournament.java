@@ -0,0 +1,26 @@
+package simulation.tournament;
+
+import java.util.List;
+import simulation.TechGiant;
+
+/**
+ * One Q4 tournament in progress. The simulation asks for a round, fights every pairing of
+ * it, records each result in pairing order, and asks for the next round until none is left.
+ */
+public interface Tournament {
+
+    /**
+     * Plans the next round. No Tech Giant appears in more than one pairing of a round,
+     * so the pairings of a round can be fought concurrently.
+     * @return the round's pairings, or an empty list once the tournament is over
+     */
+    List<Pairing> nextRound();
+
+    /**
+     * Records the result of a pairing of the current round.
+     * @param pairing the pairing that was fought
+     * @param winner  the Tech Giant whose startup won, or null if no battle took place
+     *                or it was a draw
+     */
+    void record(Pairing pairing, TechGiant winner);
+}
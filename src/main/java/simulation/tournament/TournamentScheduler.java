@@ -0,0 +1,18 @@
+package simulation.tournament;
+
+import java.util.List;
+import simulation.TechGiant;
+
+/**
+ * Decides which Tech Giants battle each other in Q4.
+ * Schedulers must be deterministic: the same giants and results give the same rounds.
+ */
+public interface TournamentScheduler {
+
+    /**
+     * Starts a tournament.
+     * @param giants the participating Tech Giants, in simulation order
+     * @return the tournament, ready to plan its first round
+     */
+    Tournament start(List<TechGiant> giants);
+}
@@ -0,0 +1,98 @@
+package simulationTest;
+
+import helper.MockRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.AttackOutcome;
+import simulation.AttackType;
+import simulation.BattleManager;
+import simulation.SimulationRandom;
+import simulation.Startup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AttackOutcome and the allocation-free attack path.
+ */
+public class AttackOutcomeTest {
+
+    @Test
+    @DisplayName("Test Outcome Records a Critical Hit")
+    void testCriticalHit() {
+        Startup attacker = new Startup("TechOne", "Tech", 100, 20, 30, false);
+        Startup defender = new Startup("SocialGiant", "Social Media", 100, 25, 20, false);
+        AttackOutcome outcome = new AttackOutcome();
+
+        // 0.1 is above the miss chance and below the critical hit chance
+        BattleManager.performAttack(attacker, defender, new MockRandom(0.1, 0), outcome);
+
+        assertSame(attacker, outcome.getAttacker());
+        assertSame(defender, outcome.getDefender());
+        assertFalse(outcome.isMissed());
+        assertTrue(outcome.isCriticalHit());
+        assertTrue(outcome.isAnnouncedCritical());
+        assertEquals(AttackType.PRICE_UNDERCUTTING, outcome.getAttackType());
+        assertEquals(AttackType.PRICE_UNDERCUTTING.ordinal(), outcome.getAttackTypeOrdinal());
+        assertEquals(20, outcome.getDamage());
+        assertEquals(80, outcome.getRemainingRevenue());
+        assertEquals(80, defender.getRevenue());
+        assertTrue(outcome.describe().startsWith("TechOne landed a critical hit! TechOne used "
+                + "Price Undercutting on SocialGiant. Damage: 20.00"));
+    }
+
+    @Test
+    @DisplayName("Test Outcome Records a Miss and Is Reset on Reuse")
+    void testMissAndReuse() {
+        Startup attacker = new Startup("TechOne", "Tech", 100, 20, 30, false);
+        Startup defender = new Startup("SocialGiant", "Social Media", 100, 25, 20, false);
+        AttackOutcome outcome = new AttackOutcome();
+
+        BattleManager.performAttack(attacker, defender, new MockRandom(0.1, 0), outcome);
+        BattleManager.performAttack(defender, attacker, new MockRandom(0.0, 0), outcome);
+
+        assertSame(defender, outcome.getAttacker());
+        assertTrue(outcome.isMissed());
+        assertFalse(outcome.isCriticalHit());
+        assertFalse(outcome.isAnnouncedCritical());
+        assertNull(outcome.getAttackType());
+        assertEquals(-1, outcome.getAttackTypeOrdinal());
+        assertEquals(0, outcome.getDamage());
+        assertEquals("SocialGiant missed the attack!", outcome.describe());
+    }
+
+    @Test
+    @DisplayName("Test Outcome Text Matches the String API")
+    void testDescribeMatchesStringApi() {
+        for (long seed = 0; seed < 50; seed++) {
+            Startup attacker1 = new Startup("TechOne", "Operating Systems", 100, 20, 30, false);
+            Startup defender1 = new Startup("SocialGiant", "Social Media", 100, 25, 20, false);
+            Startup attacker2 = new Startup("TechOne", "Operating Systems", 100, 20, 30, false);
+            Startup defender2 = new Startup("SocialGiant", "Social Media", 100, 25, 20, false);
+            AttackOutcome outcome = new AttackOutcome();
+
+            String report = BattleManager.performAttack(attacker1, defender1, null,
+                    SimulationRandom.seeded(seed));
+            BattleManager.performAttack(attacker2, defender2, SimulationRandom.seeded(seed), outcome);
+
+            assertEquals(report, outcome.describe(), "Reports must match for seed " + seed);
+            assertEquals(defender1.getMarketShare(), defender2.getMarketShare());
+            assertEquals(defender1.getNetIncome(), defender2.getNetIncome());
+        }
+    }
+
+    @Test
+    @DisplayName("Test Attack Type Labels")
+    void testAttackTypeLabels() {
+        assertEquals(AttackType.TALENT_DRAIN, AttackType.fromLabel("Talent Drain"));
+        assertEquals(AttackType.TRADE_SECRET_THEFT, AttackType.fromOrdinal(1));
+        assertNull(AttackType.fromLabel("Unknown Attack"));
+
+        Startup startup = new Startup("TechOne", "Tech", 100, 20, 30, false);
+        startup.takeDamage(5, AttackType.TRADE_SECRET_THEFT);
+        startup.takeDamage(5, "Unknown Attack");
+        assertEquals(25, startup.getNetIncome());
+        assertEquals(100, startup.getRevenue());
+        assertThrows(IllegalArgumentException.class,
+                () -> startup.takeDamage(-1, AttackType.TALENT_DRAIN));
+    }
+}
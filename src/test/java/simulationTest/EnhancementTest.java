@@ -4,9 +4,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import simulation.Enhancement;
 
+import simulation.Startup;
 import simulation.TechGiant;
 import simulation.SimulationManager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -94,5 +99,55 @@ public class EnhancementTest {
         assertEquals(1000, loan.getEffectValue());
     }
 
+    @Test
+    @DisplayName("Test Multi-Quarter Enhancements Apply Every Quarter Until They Expire")
+    public void testMultiQuarterEnhancements() {
+        TechGiant techGiant = new TechGiant("TechCorp", 0);
+        Startup startup = new Startup("AI", "AI", 1000, 10, 20, false);
+        techGiant.addStartup(startup);
+        techGiant.purchaseEnhancement(new Enhancement("Credit Line", "Loan", 0, 3, 100));
+        techGiant.purchaseEnhancement(new Enhancement("Booster", "Revenue", 0, 2, 0.5));
+        techGiant.purchaseEnhancement(new Enhancement("Patent", "Unknown", 0, 4, 0));
+
+        int[] activeAfter = {3, 2, 1, 0, 0};
+        double[] fundsAfter = {100, 200, 300, 300, 300};
+        for (int quarter = 0; quarter < activeAfter.length; quarter++) {
+            techGiant.applyEnhancements();
+            assertEquals(activeAfter[quarter], techGiant.getActiveEnhancements().size(),
+                    "Wrong number of active enhancements after quarter " + (quarter + 1));
+            assertEquals(fundsAfter[quarter], techGiant.getFunds(),
+                    "Wrong funds after quarter " + (quarter + 1));
+        }
+        assertEquals(2250, startup.getRevenue(), 1e-9,
+                "A two-quarter 50% booster should raise revenue twice.");
+    }
 
+    @Test
+    @DisplayName("Test Enhancements Expire on Time Across Every Wheel Level")
+    public void testExpiryAcrossWheelLevels() {
+        TechGiant techGiant = new TechGiant("TechCorp", 0);
+        List<Integer> durations = new ArrayList<>(List.of(1, 63, 64, 65, 4095, 4096, 4097,
+                262_143, 262_144, 262_145));
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            durations.add(1 + random.nextInt(20_000));
+        }
+        int[] expiring = new int[262_146 + 1];
+        for (int duration : durations) {
+            techGiant.purchaseEnhancement(new Enhancement("Hold " + duration, "Hold", 0,
+                    duration, 0));
+            expiring[duration]++;
+        }
+
+        int active = durations.size();
+        for (int quarter = 1; quarter < expiring.length; quarter++) {
+            techGiant.applyEnhancements();
+            active -= expiring[quarter];
+            if (expiring[quarter] > 0 || quarter % 1000 == 0) {
+                assertEquals(active, techGiant.getActiveEnhancements().size(),
+                        "Wrong number of active enhancements after quarter " + quarter);
+            }
+        }
+        assertTrue(techGiant.getActiveEnhancements().isEmpty(), "Every enhancement should expire.");
+    }
 }
@@ -0,0 +1,121 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.SimulationManager;
+import simulation.Startup;
+import simulation.TechGiant;
+import simulation.events.Event;
+import simulation.events.EventCalendar;
+import simulation.events.Quarter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Quarter, year-ranged events and the EventCalendar.
+ */
+public class EventCalendarTest {
+
+    @Test
+    @DisplayName("Test Quarter Parsing and Numbering")
+    void testQuarter() {
+        assertEquals(Quarter.Q2, Quarter.parse(" q2 "));
+        assertEquals(Quarter.Q4, Quarter.of(4));
+        assertEquals(3, Quarter.Q3.getNumber());
+        assertThrows(IllegalArgumentException.class, () -> Quarter.parse("Q5"));
+        assertThrows(IllegalArgumentException.class, () -> Quarter.of(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Event("Economic Downturn", "Market faces downturn", "Summer"));
+    }
+
+    @Test
+    @DisplayName("Test Year Ranges Are Validated")
+    void testYearRangeValidation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Event("Economic Downturn", "Downturn", Quarter.Q1, 0, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Event("Economic Downturn", "Downturn", Quarter.Q1, 4, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Event("Economic Downturn", "Downturn", null, 1, 3));
+
+        Event event = new Event("Economic Downturn", "Downturn", Quarter.Q1, 2, 3);
+        assertTrue(event.isDue(2, Quarter.Q1));
+        assertFalse(event.isDue(4, Quarter.Q1));
+        assertFalse(event.isDue(2, Quarter.Q2));
+    }
+
+    @Test
+    @DisplayName("Test Calendar Returns Due Events in Insertion Order")
+    void testEventsFor() {
+        EventCalendar calendar = new EventCalendar();
+        Event always = new Event("Corporate Tax Cuts", "Every year", "Q1");
+        Event early = new Event("Economic Downturn", "Years 1-2", Quarter.Q1, 1, 2);
+        Event later = new Event("Regulatory Scrutiny", "Year 3", Quarter.Q1, 3, 3);
+        Event otherQuarter = new Event("Economic Downturn", "Q3 only", Quarter.Q3, 1, 5);
+        calendar.add(always);
+        calendar.add(early);
+        calendar.add(later);
+        calendar.add(otherQuarter);
+
+        assertEquals(List.of(always, early), calendar.eventsFor(1, Quarter.Q1));
+        assertEquals(List.of(always, later), calendar.eventsFor(3, Quarter.Q1));
+        assertEquals(List.of(always), calendar.eventsFor(40, Quarter.Q1));
+        assertEquals(List.of(otherQuarter), calendar.eventsFor(5, Quarter.Q3));
+        assertTrue(calendar.eventsFor(6, Quarter.Q3).isEmpty());
+        assertTrue(calendar.eventsFor(1, Quarter.Q4).isEmpty());
+        assertEquals(4, calendar.size());
+        assertThrows(IllegalArgumentException.class, () -> calendar.add(null));
+    }
+
+    @Test
+    @DisplayName("Test Calendar Agrees With a Full Scan")
+    void testAgainstScan() {
+        Random random = new Random(7);
+        EventCalendar calendar = new EventCalendar();
+        List<Event> scheduled = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int first = 1 + random.nextInt(50);
+            int last = first + random.nextInt(10);
+            Event event = new Event("Event " + i, "Random range",
+                    Quarter.of(1 + random.nextInt(4)), first, last);
+            calendar.add(event);
+            scheduled.add(event);
+        }
+
+        for (int year = 1; year <= 62; year++) {
+            for (Quarter quarter : Quarter.values()) {
+                List<Event> expected = new ArrayList<>();
+                for (Event event : scheduled) {
+                    if (event.isDue(year, quarter)) {
+                        expected.add(event);
+                    }
+                }
+                assertEquals(expected, calendar.eventsFor(year, quarter),
+                        "Year " + year + " " + quarter + " must match a full scan.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Simulation Continues Through Scheduled Years")
+    void testSimulationYears() {
+        SimulationManager manager = new SimulationManager(1);
+        TechGiant giant = new TechGiant("TechCorp", 0);
+        Startup startup = new Startup("FinTechPro", "FinTech", 1000, 20, 50, false);
+        giant.addStartup(startup);
+        manager.addTechGiant(giant);
+        manager.addEvent(new Event("Economic Downturn", "Second year only", Quarter.Q2, 2, 2));
+
+        manager.startSimulation(1);
+        assertEquals(1, manager.getCurrentYear());
+        assertEquals(1000, startup.getRevenue(), "The event is not due in the first year.");
+
+        manager.startSimulation(1);
+        assertEquals(2, manager.getCurrentYear());
+        assertTrue(startup.getRevenue() < 1000, "The event is due in the second year.");
+    }
+}
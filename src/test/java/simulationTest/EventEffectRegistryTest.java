@@ -0,0 +1,79 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.Startup;
+import simulation.events.Event;
+import simulation.events.EventEffect;
+import simulation.events.EventEffectProvider;
+import simulation.events.EventEffectRegistry;
+import simulation.events.NeutralEffect;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EventEffectRegistry class.
+ */
+public class EventEffectRegistryTest {
+
+    /**
+     * Halves the market share of every startup.
+     */
+    public static final class TalentExodusEffect implements EventEffect {
+        @Override
+        public void applyEffect(Startup startup) {
+            startup.setMarketShare(startup.getMarketShare() / 2);
+        }
+    }
+
+    /**
+     * Test provider, listed in META-INF/services of the test resources.
+     */
+    public static final class TalentExodusProvider implements EventEffectProvider {
+        @Override
+        public Map<String, EventEffect> getEffects() {
+            return Map.of("Talent Exodus", new TalentExodusEffect());
+        }
+    }
+
+    @Test
+    @DisplayName("Test Events With the Same Name Share One Effect")
+    void testSharedEffects() {
+        Event first = new Event("Economic Downturn", "Market faces downturn", "Q2");
+        Event second = new Event("Economic Downturn", "Another downturn", "Q4");
+        assertSame(first.getEffect(), second.getEffect(), "Effects should be shared.");
+
+        Event unknown = new Event("Solar Flare", "Nothing happens", "Q1");
+        assertInstanceOf(NeutralEffect.class, unknown.getEffect());
+        assertSame(unknown.getEffect(), new Event("Comet", "Nothing either", "Q3").getEffect(),
+                "Unknown names should share the neutral effect.");
+    }
+
+    @Test
+    @DisplayName("Test Effects Are Discovered Through ServiceLoader")
+    void testDiscoveredEffect() {
+        assertTrue(EventEffectRegistry.isRegistered("Talent Exodus"),
+                "The test provider should be discovered.");
+        assertTrue(EventEffectRegistry.names().contains("Regulatory Scrutiny"),
+                "Built-in effects should stay registered.");
+
+        Startup startup = new Startup("FinTech Co.", "FinTech", 100, 30, 15, false);
+        new Event("Talent Exodus", "Engineers leave", "Q1").applyEffects(List.of(startup));
+        assertEquals(15, startup.getMarketShare(), 1e-9, "The discovered effect should apply.");
+    }
+
+    @Test
+    @DisplayName("Test Registering an Effect")
+    void testRegister() {
+        EventEffect effect = startup -> startup.setRevenue(0);
+        EventEffectRegistry.register("Market Crash", effect);
+        assertSame(effect, new Event("Market Crash", "Everything falls", "Q1").getEffect());
+        assertThrows(IllegalArgumentException.class,
+                () -> EventEffectRegistry.register("", effect));
+        assertThrows(IllegalArgumentException.class,
+                () -> EventEffectRegistry.register("Market Crash", null));
+    }
+}
@@ -0,0 +1,176 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.BattleManager;
+import simulation.BattleMode;
+import simulation.SimulationManager;
+import simulation.SimulationRandom;
+import simulation.Startup;
+import simulation.TechGiant;
+import simulation.metrics.SimulationMetrics;
+import simulation.montecarlo.Distribution;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statistical equivalence tests for the fast battle mode against the exact engine.
+ */
+public class FastBattleModeTest {
+
+    private static final int BATTLES = 4000;
+
+    /**
+     * Outcome statistics of many battles between copies of the same two startups.
+     */
+    private static final class Outcomes {
+        final Distribution firstWins = new Distribution();
+        final Distribution winnerRevenue = new Distribution();
+        final Distribution loserMarketShare = new Distribution();
+        final Distribution loserNetIncome = new Distribution();
+    }
+
+    private static Outcomes fight(String type1, double revenue1, String type2, double revenue2,
+                                  BattleMode mode, long seedOffset) {
+        Outcomes outcomes = new Outcomes();
+        for (int i = 0; i < BATTLES; i++) {
+            Startup first = new Startup("First", type1, revenue1, 50, 50, false);
+            Startup second = new Startup("Second", type2, revenue2, 50, 50, false);
+            Startup winner = BattleManager.startBattle(first, second, null,
+                    SimulationRandom.seeded(seedOffset + i), mode);
+            Startup loser = winner == first ? second : first;
+
+            assertEquals(0, loser.getRevenue(), "The loser must end with no revenue.");
+            assertTrue(winner.getRevenue() > 0, "The winner must keep some revenue.");
+            outcomes.firstWins.add(winner == first ? 1 : 0);
+            outcomes.winnerRevenue.add(winner.getRevenue());
+            outcomes.loserMarketShare.add(loser.getMarketShare());
+            outcomes.loserNetIncome.add(loser.getNetIncome());
+        }
+        return outcomes;
+    }
+
+    private static void assertSameMean(Distribution exact, Distribution fast, String what) {
+        double standardError = Math.sqrt(exact.getVariance() / exact.getCount()
+                + fast.getVariance() / fast.getCount());
+        assertEquals(exact.getMean(), fast.getMean(), 5 * standardError + 1e-9,
+                what + " differs between exact and fast battles.");
+    }
+
+    private static void assertEquivalent(String type1, double revenue1,
+                                         String type2, double revenue2) {
+        Outcomes exact = fight(type1, revenue1, type2, revenue2, BattleMode.EXACT, 0);
+        Outcomes fast = fight(type1, revenue1, type2, revenue2, BattleMode.FAST, 1_000_000);
+
+        assertSameMean(exact.firstWins, fast.firstWins, "Win rate");
+        assertSameMean(exact.winnerRevenue, fast.winnerRevenue, "Winner revenue");
+        assertSameMean(exact.loserMarketShare, fast.loserMarketShare, "Loser market share");
+        assertSameMean(exact.loserNetIncome, fast.loserNetIncome, "Loser net income");
+        assertEquals(exact.winnerRevenue.getStandardDeviation(),
+                fast.winnerRevenue.getStandardDeviation(),
+                0.15 * exact.winnerRevenue.getStandardDeviation() + 1,
+                "Winner revenue spread differs between exact and fast battles.");
+    }
+
+    /**
+     * Counts the rounds, misses and critical hits of many battles in one mode.
+     * @return rounds per battle, misses per round and critical hits per round
+     */
+    private static double[] tally(double revenue1, double revenue2, BattleMode mode,
+                                  long seedOffset) {
+        SimulationMetrics metrics = SimulationMetrics.enable();
+        try {
+            metrics.reset();
+            fightMany(revenue1, revenue2, mode, seedOffset);
+            double rounds = metrics.getRounds();
+            return new double[] {rounds / metrics.getBattles(), metrics.getMisses() / rounds,
+                    metrics.getCriticalHits() / rounds};
+        } finally {
+            SimulationMetrics.disable();
+        }
+    }
+
+    private static void fightMany(double revenue1, double revenue2, BattleMode mode,
+                                  long seedOffset) {
+        for (int i = 0; i < BATTLES; i++) {
+            BattleManager.startBattle(new Startup("First", "Tech", revenue1, 50, 50, false),
+                    new Startup("Second", "Tech", revenue2, 50, 50, false), null,
+                    SimulationRandom.seeded(seedOffset + i), mode);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Fast Mode Reports Rounds, Misses and Critical Hits")
+    void testCounts() {
+        for (double revenue : new double[] {100, 5000}) {
+            double[] exact = tally(revenue, revenue * 0.9, BattleMode.EXACT, 0);
+            double[] fast = tally(revenue, revenue * 0.9, BattleMode.FAST, 1_000_000);
+            assertTrue(fast[0] > 1, "Fast battles should report their rounds.");
+            assertEquals(exact[0], fast[0], 0.05 * exact[0], "Rounds per battle differ.");
+            assertEquals(exact[1], fast[1], 0.1 * exact[1], "Miss rate differs.");
+            assertEquals(exact[2], fast[2], 0.1 * exact[2], "Critical hit rate differs.");
+        }
+    }
+
+    @Test
+    @DisplayName("Test Fast Mode Matches Short Battles")
+    void testShortBattles() {
+        assertEquivalent("Tech", 100, "Tech", 100);
+    }
+
+    @Test
+    @DisplayName("Test Fast Mode Matches Battles With a Type Advantage")
+    void testTypeAdvantage() {
+        assertEquivalent("Operating Systems", 100, "Social Media", 140);
+    }
+
+    @Test
+    @DisplayName("Test Fast Mode Matches Long Battles")
+    void testLongBattles() {
+        assertEquivalent("FinTech", 1000, "Healthcare", 950);
+    }
+
+    @Test
+    @DisplayName("Test Fast Mode Matches Lopsided Long Battles")
+    void testLopsidedBattles() {
+        assertEquivalent("Tech", 3000, "Tech", 2000);
+    }
+
+    @Test
+    @DisplayName("Test Fast Mode Rewards the Winner and Acquires Wild Startups")
+    void testFastModeConclusion() {
+        TechGiant giant = new TechGiant("TechCorp", 5000);
+        Startup owned = new Startup("Owned", "Tech", 100000, 50, 50, false);
+        Startup wild = new Startup("Wild", "Tech", 10, 50, 50, true);
+
+        Startup winner = BattleManager.startBattle(owned, wild, giant,
+                SimulationRandom.seeded(3), BattleMode.FAST);
+
+        assertSame(owned, winner, "A huge revenue lead must win.");
+        assertEquals(5, owned.getExperiencePoints());
+        assertTrue(giant.getStartups().contains(wild), "The defeated wild startup is acquired.");
+    }
+
+    @Test
+    @DisplayName("Test Fast Mode Is Reproducible and Configurable")
+    void testFastModeSetting() {
+        SimulationManager manager = new SimulationManager(5);
+        assertEquals(BattleMode.EXACT, manager.getBattleMode());
+        assertThrows(IllegalArgumentException.class, () -> manager.setBattleMode(null));
+        manager.setBattleMode(BattleMode.FAST);
+        assertEquals(BattleMode.FAST, manager.getBattleMode());
+
+        Startup a1 = new Startup("A", "Tech", 5000, 50, 50, false);
+        Startup b1 = new Startup("B", "Tech", 5000, 50, 50, false);
+        Startup a2 = new Startup("A", "Tech", 5000, 50, 50, false);
+        Startup b2 = new Startup("B", "Tech", 5000, 50, 50, false);
+        Startup winner1 = BattleManager.startBattle(a1, b1, null,
+                SimulationRandom.seeded(11), BattleMode.FAST);
+        Startup winner2 = BattleManager.startBattle(a2, b2, null,
+                SimulationRandom.seeded(11), BattleMode.FAST);
+
+        assertEquals(winner1.getName(), winner2.getName());
+        assertEquals(a1.getRevenue(), a2.getRevenue());
+        assertEquals(b1.getMarketShare(), b2.getMarketShare());
+    }
+}
@@ -0,0 +1,174 @@
+package simulationTest;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import simulation.*;
+import simulation.events.Event;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Flight Recorder events emitted by the simulation.
+ */
+public class FlightRecorderEventsTest {
+
+    private static final String[] EVENTS = {"simulation.QuarterProcessed",
+        "simulation.BattleResolved", "simulation.EventApplied", "simulation.Acquisition",
+        "simulation.Merger"};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Test Simulation Emits Flight Recorder Events")
+    void testEventsRecorded() throws Exception {
+        int years = 2;
+        Path file = tempDir.resolve("simulation.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : EVENTS) {
+                recording.enable(name).withoutStackTrace().withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            runSimulation(years);
+            recording.stop();
+            recording.dump(file);
+        }
+        Map<String, List<RecordedEvent>> byName = RecordingFile.readAllEvents(file).stream()
+                .collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+        List<RecordedEvent> quarters = byName.get("simulation.QuarterProcessed");
+        assertNotNull(quarters, "Quarters should be recorded.");
+        assertEquals(4 * years, quarters.size(), "Every quarter should be recorded once.");
+        assertEquals(4, quarters.get(quarters.size() - 1).getInt("quarter"));
+
+        List<RecordedEvent> battles = byName.get("simulation.BattleResolved");
+        assertNotNull(battles, "Battles should be recorded.");
+        for (RecordedEvent battle : battles) {
+            assertNotNull(battle.getString("winner"), "Every battle should have a winner.");
+            assertTrue(battle.getLong("rounds") > 0, "Exact battles should report rounds.");
+            assertEquals("EXACT", battle.getString("mode"));
+        }
+
+        List<RecordedEvent> applied = byName.get("simulation.EventApplied");
+        assertNotNull(applied, "Event applications should be recorded.");
+        assertEquals("Regulatory Scrutiny", applied.get(0).getString("eventName"));
+        assertTrue(applied.stream().anyMatch(e -> e.getInt("startupsTouched") > 0),
+                "Touched startups should be counted.");
+
+        List<RecordedEvent> acquisitions = byName.get("simulation.Acquisition");
+        assertNotNull(acquisitions, "Acquisitions should be recorded.");
+        assertTrue(acquisitions.stream().anyMatch(e -> e.getString("startup").startsWith("Wild")),
+                "Wild startups won in battle should be recorded as acquisitions.");
+    }
+
+    @Test
+    @DisplayName("Test Fast Battles Report Sampled Rounds")
+    void testFastBattlesRecorded() throws Exception {
+        Path file = tempDir.resolve("fast.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENTS[1]).withoutStackTrace().withThreshold(Duration.ZERO);
+            recording.start();
+            BattleManager.startBattle(new Startup("Fast A", "AI", 1000, 20, 30, false),
+                    new Startup("Fast B", "AI", 1000, 20, 30, false), new TechGiant("Fast", 5000),
+                    SimulationRandom.seeded(1L), BattleMode.FAST);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> battles = RecordingFile.readAllEvents(file);
+        assertEquals(1, battles.size(), "The fast battle should be recorded.");
+        assertEquals("FAST", battles.get(0).getString("mode"));
+        assertTrue(battles.get(0).getLong("rounds") > 0, "Fast battles should report rounds.");
+    }
+
+    @Test
+    @DisplayName("Test Setting Up Portfolios Records No Acquisitions")
+    void testSetupNotRecorded() throws Exception {
+        TechGiant seller = new TechGiant("Seller", 5000);
+        TechGiant buyer = new TechGiant("Buyer", 5000);
+        List<RecordedEvent> setup = recordAcquisitions("setup.jfr", () -> {
+            seller.addStartup(new Startup("Seller AI", "AI", 1000, 20, 30, false));
+            seller.addStartup(new Startup("Seller Cloud", "Cloud", 800, 15, 25, false));
+            new SimulationManager(7L).buildNewStartup(seller);
+        });
+        assertTrue(setup.isEmpty(), "Setup and building should not be recorded as acquisitions.");
+
+        List<RecordedEvent> takeover = recordAcquisitions("takeover.jfr",
+                () -> TechGiant.transferAll(seller, buyer));
+        assertEquals(1, takeover.size(), "A merger should be recorded once.");
+        RecordedEvent merger = takeover.get(0);
+        assertEquals(EVENTS[4], merger.getEventType().getName());
+        assertEquals("Buyer", merger.getString("acquirer"));
+        assertEquals("Seller", merger.getString("acquired"));
+        assertEquals(3, merger.getInt("startups"), "The merger should count its startups.");
+    }
+
+    private List<RecordedEvent> recordAcquisitions(String name, Runnable action)
+            throws Exception {
+        Path file = tempDir.resolve(name);
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENTS[3]).withoutStackTrace();
+            recording.enable(EVENTS[4]).withoutStackTrace();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    @Test
+    @DisplayName("Test Bundled Configuration Enables the Simulation Events")
+    void testConfiguration() throws Exception {
+        Configuration configuration;
+        try (InputStream in = getClass().getResourceAsStream("/jfr/simulation.jfc")) {
+            assertNotNull(in, "The configuration should be on the classpath.");
+            Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+            configuration = Configuration.create(reader);
+        }
+        assertEquals("Simulator", configuration.getLabel());
+        Map<String, String> settings = configuration.getSettings();
+        for (String name : EVENTS) {
+            assertEquals("true", settings.get(name + "#enabled"), name + " should be enabled.");
+        }
+
+        Path file = tempDir.resolve("configured.jfr");
+        try (Recording recording = new Recording(configuration)) {
+            recording.start();
+            runSimulation(1);
+            recording.stop();
+            recording.dump(file);
+        }
+        assertTrue(RecordingFile.readAllEvents(file).stream()
+                        .anyMatch(e -> e.getEventType().getName().equals(EVENTS[0])),
+                "A recording with the configuration should capture quarters.");
+    }
+
+    private static void runSimulation(int years) {
+        SimulationManager manager = new SimulationManager(7L);
+        for (int g = 0; g < 2; g++) {
+            TechGiant techGiant = new TechGiant("Giant " + g, 5000);
+            techGiant.addStartup(new Startup("Giant " + g + " AI", "AI", 1000, 20, 30, false));
+            manager.addTechGiant(techGiant);
+        }
+        for (int w = 0; w < 4; w++) {
+            manager.addWildStartup(new Startup("Wild " + w, "Social Media", 500, 10, 20, true));
+        }
+        manager.addEvent(new Event("Regulatory Scrutiny", "Antitrust review", "Q2"));
+        manager.startSimulation(years);
+    }
+}
@@ -0,0 +1,149 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the FundsLedger class.
+ */
+public class FundsLedgerTest {
+
+    @Test
+    @DisplayName("Test Debits, Credits and the Journal")
+    void testJournal() {
+        FundsLedger ledger = new FundsLedger(1000);
+        assertTrue(ledger.tryDebit(300, FundsLedger.Transaction.INVESTMENT),
+                "A covered debit should succeed.");
+        assertFalse(ledger.tryDebit(800, FundsLedger.Transaction.ENHANCEMENT),
+                "A debit larger than the balance should fail.");
+        ledger.credit(500, FundsLedger.Transaction.LOAN);
+        ledger.setBalance(2000);
+
+        assertEquals(2000, ledger.getBalance(), "Balance should be the one set last.");
+        assertEquals(3, ledger.getJournalSize(), "A failed debit should not be journalled.");
+        assertEquals(FundsLedger.Transaction.INVESTMENT, ledger.getKind(0));
+        assertEquals(-300, ledger.getAmount(0), "Debits should be journalled as negative.");
+        assertEquals(1200, ledger.getBalanceAfter(1), "Balance after the loan should be 1200.");
+        assertEquals(800, ledger.getAmount(2), "An adjustment should journal the difference.");
+        assertEquals(500, ledger.total(FundsLedger.Transaction.LOAN), "Loans should total 500.");
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.getAmount(3));
+    }
+
+    @Test
+    @DisplayName("Test Journal Spanning Several Chunks Replays in Order")
+    void testJournalAcrossChunks() {
+        FundsLedger ledger = new FundsLedger(0);
+        int entries = 1000;
+        for (int i = 1; i <= entries; i++) {
+            ledger.credit(i, FundsLedger.Transaction.LOAN);
+        }
+        assertEquals(entries, ledger.getJournalSize());
+        AtomicInteger seen = new AtomicInteger();
+        double[] balance = {ledger.getOpeningBalance()};
+        ledger.replay((index, kind, amount, after) -> {
+            assertEquals(seen.getAndIncrement(), index, "Entries should arrive in order.");
+            assertEquals(index + 1, amount, "Entry " + index + " has the wrong amount.");
+            balance[0] += amount;
+            assertEquals(balance[0], after, "Entry " + index + " has the wrong balance.");
+        });
+        assertEquals(entries, seen.get(), "Every entry should be replayed.");
+        assertEquals(ledger.getBalance(), balance[0],
+                "Replaying the journal should rebuild the balance.");
+    }
+
+    @Test
+    @DisplayName("Test Compaction Keeps Recent Entries and Carries the Rest Forward")
+    void testCompaction() {
+        FundsLedger ledger = new FundsLedger(0);
+        for (int i = 1; i <= 100; i++) {
+            ledger.credit(i, i % 2 == 0 ? FundsLedger.Transaction.LOAN
+                    : FundsLedger.Transaction.INVESTMENT);
+        }
+        double loans = ledger.total(FundsLedger.Transaction.LOAN);
+        ledger.compact(10);
+
+        assertEquals(100, ledger.getJournalSize(), "Compacted entries still count as journalled.");
+        assertEquals(90, ledger.getFirstIndex(), "Only the 10 most recent entries should remain.");
+        assertEquals(ledger.getBalanceAfter(90) - 91, ledger.getOpeningBalance(),
+                "The opening balance should be carried forward to the first entry kept.");
+        assertEquals(91, ledger.getAmount(90), "Kept entries should keep their positions.");
+        assertThrows(IndexOutOfBoundsException.class, () -> ledger.getAmount(89),
+                "Compacted entries should be gone.");
+        assertEquals(loans, ledger.total(FundsLedger.Transaction.LOAN),
+                "Totals should include the compacted entries.");
+
+        ledger.credit(101, FundsLedger.Transaction.LOAN);
+        AtomicInteger seen = new AtomicInteger(90);
+        double[] balance = {ledger.getOpeningBalance()};
+        ledger.replay((index, kind, amount, after) -> {
+            assertEquals(seen.getAndIncrement(), index, "Entries should arrive in order.");
+            balance[0] += amount;
+            assertEquals(balance[0], after, "Entry " + index + " has the wrong balance.");
+        });
+        assertEquals(101, seen.get(), "Appending should continue after the kept entries.");
+        assertEquals(ledger.getBalance(), balance[0],
+                "Replaying a compacted journal should rebuild the balance.");
+
+        ledger.compact(50);
+        assertEquals(90, ledger.getFirstIndex(), "Compacting to more entries should do nothing.");
+        ledger.compact(0);
+        assertEquals(101, ledger.getFirstIndex(), "Compacting to 0 should empty the journal.");
+        assertEquals(ledger.getBalance(), ledger.getOpeningBalance());
+        assertThrows(IllegalArgumentException.class, () -> ledger.compact(-1));
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Debits Never Overdraw")
+    void testConcurrentDebits() throws Exception {
+        FundsLedger ledger = new FundsLedger(10_000);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        AtomicInteger succeeded = new AtomicInteger();
+        try {
+            Future<?>[] tasks = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                tasks[t] = pool.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (ledger.tryDebit(7, FundsLedger.Transaction.INVESTMENT)) {
+                            succeeded.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(10_000 / 7, succeeded.get(), "Exactly the affordable debits should succeed.");
+        assertEquals(10_000 % 7, ledger.getBalance(), "The remainder should be left over.");
+        assertEquals(succeeded.get(), ledger.getJournalSize(), "Every debit should be journalled.");
+        assertEquals(-7.0 * succeeded.get(), ledger.total(FundsLedger.Transaction.INVESTMENT));
+    }
+
+    @Test
+    @DisplayName("Test Tech Giant Spending Goes Through Its Ledger")
+    void testTechGiantLedger() {
+        TechGiant techGiant = new TechGiant("TechCorp", 5000);
+        techGiant.investInStartup(new Startup("AI", "AI", 1000, 10, 20, false), 2000);
+        techGiant.purchaseEnhancement(new Enhancement("Loan", "Loan", 500, 0, 1000));
+        techGiant.applyEnhancements();
+
+        FundsLedger ledger = techGiant.getLedger();
+        assertEquals(3500, techGiant.getFunds(), "Funds should reflect every transaction.");
+        assertEquals(3, ledger.getJournalSize(), "Each transaction should be journalled.");
+        assertEquals(FundsLedger.Transaction.ENHANCEMENT, ledger.getKind(1));
+        assertEquals(FundsLedger.Transaction.LOAN, ledger.getKind(2));
+        assertEquals(5000, ledger.getOpeningBalance(), "Opening balance should be kept.");
+    }
+}
@@ -0,0 +1,127 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import simulation.SimulationManager;
+import simulation.Startup;
+import simulation.StartupStage;
+import simulation.TechGiant;
+import simulation.metrics.MetricsWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the per-quarter MetricsWriter.
+ */
+public class MetricsWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private static SimulationManager market() {
+        SimulationManager manager = new SimulationManager(4L);
+        manager.setEnhancementLimit(0); // No loans, so no startups are built
+        TechGiant techy = new TechGiant("Techy, Co.", 500);
+        techy.addStartup(new Startup("HealthTech Inc.", "Healthcare", 100, 10, 20, false));
+        techy.addStartup(new Startup("Caf\u00e9 \"Bytes\"", "Food", 80, 5, 10, false));
+        manager.addTechGiant(techy);
+        manager.addWildStartup(new Startup("SocialWild Inc.", "Social Media", 10000, 15, 10, true));
+        return manager;
+    }
+
+    @Test
+    @DisplayName("Test CSV Rows for Every Startup Every Quarter")
+    void testCsv() throws IOException {
+        Path file = dir.resolve("metrics.csv");
+        SimulationManager manager = market();
+        try (MetricsWriter writer = new MetricsWriter(file, MetricsWriter.Format.CSV)) {
+            manager.setMetricsWriter(writer);
+            manager.startSimulation(1);
+            assertEquals(12, writer.getRowCount(), "Three startups over four quarters.");
+        }
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(13, lines.size());
+        assertEquals("year,quarter,owner,startup,revenue,marketShare,netIncome,"
+                + "experiencePoints,stage", lines.get(0));
+        assertTrue(lines.get(1).startsWith("1,1,\"Techy, Co.\",HealthTech Inc.,"), lines.get(1));
+        assertTrue(lines.stream().anyMatch(line -> line.contains(",\"Caf\u00e9 \"\"Bytes\"\"\",")),
+                "Quotes are escaped.");
+        assertTrue(lines.get(12).startsWith("1,4,,SocialWild Inc.,"), "Wild rows have no owner.");
+    }
+
+    @Test
+    @DisplayName("Test Binary Rows Survive Many Buffer Hand-offs")
+    void testBinaryStreaming() throws IOException {
+        Path file = dir.resolve("metrics.bin");
+        TechGiant giant = new TechGiant("Giant");
+        List<Startup> startups = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Startup startup = new Startup("Startup " + i, "Tech", i, 1, 2, false);
+            startups.add(startup);
+            giant.addStartup(startup);
+        }
+        int quarters = 400;
+        try (MetricsWriter writer = new MetricsWriter(file, MetricsWriter.Format.BINARY, 1024)) {
+            for (int q = 0; q < quarters; q++) {
+                writer.writeQuarter(1 + q / 4, 1 + q % 4, List.of(giant), List.of());
+            }
+        }
+
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertEquals(0x54474D58, in.getInt(), "Magic number.");
+        assertEquals(1, in.getShort(), "Version.");
+        List<String> names = new ArrayList<>();
+        int rows = 0;
+        while (in.hasRemaining()) {
+            byte tag = in.get();
+            if (tag == 0) {
+                assertEquals(names.size(), in.getInt(), "Names are numbered in order.");
+                byte[] bytes = new byte[in.getInt()];
+                in.get(bytes);
+                names.add(new String(bytes, StandardCharsets.UTF_8));
+                continue;
+            }
+            assertEquals(1, tag);
+            int year = in.getInt();
+            int quarter = in.get();
+            assertEquals(1 + rows / 50 / 4, year);
+            assertEquals(1 + (rows / 50) % 4, quarter);
+            assertEquals("Giant", names.get(in.getInt()));
+            Startup expected = startups.get(rows % 50);
+            assertEquals(expected.getName(), names.get(in.getInt()));
+            assertEquals(expected.getRevenue(), in.getDouble());
+            assertEquals(1.0, in.getDouble());
+            assertEquals(2.0, in.getDouble());
+            assertEquals(0, in.getInt());
+            assertEquals(StartupStage.GARAGE_STARTUP.ordinal(), in.get());
+            rows++;
+        }
+        assertEquals(50 * quarters, rows);
+        assertEquals(51, names.size(), "Each name is defined once.");
+    }
+
+    @Test
+    @DisplayName("Test Writer Validation and Closing")
+    void testValidation() throws IOException {
+        Path file = dir.resolve("closed.csv");
+        assertThrows(IllegalArgumentException.class,
+                () -> new MetricsWriter(file, MetricsWriter.Format.CSV, 16));
+        assertThrows(IllegalArgumentException.class, () -> new MetricsWriter(file, null));
+
+        MetricsWriter writer = new MetricsWriter(file, MetricsWriter.Format.CSV);
+        writer.close();
+        writer.close();
+        Startup startup = new Startup("Solo", "Tech", 1, 1, 1, true);
+        assertThrows(IllegalStateException.class, () -> writer.writeRow(1, 1, null, startup));
+    }
+}
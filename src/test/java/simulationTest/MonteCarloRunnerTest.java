@@ -0,0 +1,133 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.SimulationManager;
+import simulation.Startup;
+import simulation.TechGiant;
+import simulation.montecarlo.Distribution;
+import simulation.montecarlo.MonteCarloRunner;
+import simulation.montecarlo.MonteCarloSummary;
+import simulation.montecarlo.ScenarioFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MonteCarloRunner and its aggregates.
+ */
+public class MonteCarloRunnerTest {
+
+    /**
+     * Scenario without battles whose outcome depends only on the seed.
+     */
+    private static final ScenarioFactory SEEDED_FUNDS = seed -> {
+        SimulationManager manager = new SimulationManager();
+        TechGiant giant = new TechGiant("Techy Co.", 500 + Math.floorMod(seed, 2000));
+        giant.addStartup(new Startup("HealthTech Inc.", "Healthcare", 100, 10, 20, false));
+        manager.addTechGiant(giant);
+        return manager;
+    };
+
+    @Test
+    @DisplayName("Test Results Do Not Depend on Thread Count")
+    void testReproducibleAcrossThreadCounts() {
+        MonteCarloRunner single = new MonteCarloRunner(SEEDED_FUNDS, 7L, 2);
+        single.setParallelism(1);
+        MonteCarloRunner parallel = new MonteCarloRunner(SEEDED_FUNDS, 7L, 2);
+        parallel.setParallelism(4);
+
+        MonteCarloSummary first = single.run(300);
+        MonteCarloSummary second = parallel.run(300);
+
+        assertEquals(300, first.getReplicas());
+        Distribution funds1 = first.getFinalFunds().get("Techy Co.");
+        Distribution funds2 = second.getFinalFunds().get("Techy Co.");
+        assertEquals(funds1.getMean(), funds2.getMean());
+        assertEquals(funds1.getVariance(), funds2.getVariance());
+        assertEquals(first.getTotalStartups().getMean(), second.getTotalStartups().getMean());
+        assertEquals(first.getWins(), second.getWins());
+    }
+
+    @Test
+    @DisplayName("Test Battling Replicas Are Reproducible Across Thread Counts")
+    void testBattlingReplicasReproducible() {
+        ScenarioFactory market = seed -> {
+            SimulationManager manager = new SimulationManager(seed);
+            TechGiant techy = new TechGiant("Techy Co.", 500);
+            TechGiant innovators = new TechGiant("Innovators Inc.", 300);
+            techy.addStartup(new Startup("HealthTech Inc.", "Healthcare", 100, 10, 20, false));
+            innovators.addStartup(new Startup("FinTech Co.", "FinTech", 90, 30, 15, false));
+            manager.addTechGiant(techy);
+            manager.addTechGiant(innovators);
+            manager.addWildStartup(new Startup("SocialWild Inc.", "Social Media", 150, 15, 10, true));
+            manager.addWildStartup(new Startup("FinWild Co.", "FinTech", 90, 30, 15, true));
+            return manager;
+        };
+        MonteCarloRunner single = new MonteCarloRunner(market, 99L, 2);
+        single.setParallelism(1);
+        MonteCarloRunner parallel = new MonteCarloRunner(market, 99L, 2);
+        parallel.setParallelism(3);
+
+        MonteCarloSummary first = single.run(200);
+        MonteCarloSummary second = parallel.run(200);
+
+        assertEquals(first.getWins(), second.getWins());
+        assertEquals(first.getUndecided(), second.getUndecided());
+        assertEquals(first.getFinalFunds().get("Techy Co.").getMean(),
+                second.getFinalFunds().get("Techy Co.").getMean());
+        assertEquals(first.getTotalStartups().getVariance(),
+                second.getTotalStartups().getVariance());
+    }
+
+    @Test
+    @DisplayName("Test Win Rates and Progress Streaming")
+    void testWinRatesAndProgress() {
+        MonteCarloRunner runner = new MonteCarloRunner(SEEDED_FUNDS, 1L, 1);
+        List<Long> progress = new ArrayList<>();
+
+        MonteCarloSummary summary = runner.run(130, s -> progress.add(s.getReplicas()));
+
+        assertEquals(List.of(64L, 128L, 130L), progress, "Progress should arrive in replica order.");
+        assertEquals(1.0, summary.getWinRate("Techy Co."), "The only Tech Giant should win every replica.");
+        assertEquals(0, summary.getUndecided());
+    }
+
+    @Test
+    @DisplayName("Test Replica Seeds Are Deterministic and Distinct")
+    void testReplicaSeeds() {
+        assertEquals(MonteCarloRunner.replicaSeed(42, 5), MonteCarloRunner.replicaSeed(42, 5));
+        assertNotEquals(MonteCarloRunner.replicaSeed(42, 5), MonteCarloRunner.replicaSeed(42, 6));
+        assertNotEquals(MonteCarloRunner.replicaSeed(42, 5), MonteCarloRunner.replicaSeed(43, 5));
+    }
+
+    @Test
+    @DisplayName("Test Distribution Merge Matches Sequential Adds")
+    void testDistributionMerge() {
+        Distribution all = new Distribution();
+        Distribution left = new Distribution();
+        Distribution right = new Distribution();
+        for (int i = 1; i <= 10; i++) {
+            all.add(i);
+            (i <= 4 ? left : right).add(i);
+        }
+        left.merge(right);
+
+        assertEquals(all.getCount(), left.getCount());
+        assertEquals(all.getMean(), left.getMean(), 1e-9);
+        assertEquals(all.getVariance(), left.getVariance(), 1e-9);
+        assertEquals(1, left.getMin());
+        assertEquals(10, left.getMax());
+    }
+
+    @Test
+    @DisplayName("Test Invalid Runner Arguments")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloRunner(null, 1L, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloRunner(SEEDED_FUNDS, 1L, 0));
+        MonteCarloRunner runner = new MonteCarloRunner(SEEDED_FUNDS, 1L, 1);
+        assertThrows(IllegalArgumentException.class, () -> runner.setParallelism(0));
+    }
+}
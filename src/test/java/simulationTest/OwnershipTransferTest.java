@@ -0,0 +1,117 @@
+package simulationTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.SimulationEventBus;
+import simulation.SimulationListener;
+import simulation.SimulationRandom;
+import simulation.Startup;
+import simulation.TechGiant;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for O(1) ownership changes and whole-portfolio transfers between Tech Giants.
+ */
+public class OwnershipTransferTest {
+
+    @AfterEach
+    void tearDown() {
+        SimulationEventBus.setListener(null);
+    }
+
+    private static TechGiant giantWith(String name, int count, double revenue) {
+        TechGiant giant = new TechGiant(name, 5000);
+        for (int i = 0; i < count; i++) {
+            giant.addStartup(new Startup(name + " " + i, "Tech", revenue + i, 10, 10, false));
+        }
+        return giant;
+    }
+
+    @Test
+    @DisplayName("Test Removal Moves the Last Startup Into the Gap")
+    void testSwapRemove() {
+        TechGiant giant = giantWith("TechCorp", 4, 100);
+        List<Startup> startups = giant.getStartups();
+        Startup second = startups.get(1);
+        Startup last = startups.get(3);
+
+        giant.removeStartup(second);
+
+        assertEquals(3, giant.getStartups().size());
+        assertSame(last, giant.getStartups().get(1), "The last startup fills the gap.");
+        assertFalse(giant.getStartups().contains(second));
+        assertNull(second.getOwner());
+
+        giant.removeStartup(second);
+        assertEquals(3, giant.getStartups().size(), "Removing an unowned startup does nothing.");
+    }
+
+    @Test
+    @DisplayName("Test Battles Between Giants Transfer the Losing Startup")
+    void testBattleTransfersLoser() {
+        for (long seed = 0; seed < 40; seed++) {
+            TechGiant first = giantWith("TechCorp", 3, 100);
+            TechGiant second = giantWith("InnovateInc", 3, 100);
+
+            Startup winner = first.battle(second, SimulationRandom.seeded(seed));
+
+            assertNotNull(winner);
+            assertEquals(6, first.getStartups().size() + second.getStartups().size(),
+                    "Startups are conserved for seed " + seed);
+            TechGiant owner = winner.getOwner();
+            TechGiant other = owner == first ? second : first;
+            assertEquals(4, owner.getStartups().size());
+            assertEquals(2, other.getStartups().size());
+            for (Startup startup : owner.getStartups()) {
+                assertSame(owner, startup.getOwner());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Whole Portfolios Transfer in One Step")
+    void testTransferAll() {
+        TechGiant acquirer = giantWith("TechCorp", 2, 100);
+        TechGiant target = giantWith("InnovateInc", 3, 1000);
+        List<Startup> moved = List.copyOf(target.getStartups());
+        int[] mergers = new int[1];
+        int[] acquisitions = new int[1];
+        SimulationEventBus.setListener(new SimulationListener() {
+            @Override
+            public void merger(TechGiant to, TechGiant from, int startupCount) {
+                mergers[0] += startupCount;
+            }
+
+            @Override
+            public void acquisition(TechGiant to, Startup startup) {
+                acquisitions[0]++;
+            }
+        });
+
+        TechGiant.transferAll(target, acquirer);
+
+        assertTrue(target.getStartups().isEmpty());
+        assertNull(target.selectStartupForBattle());
+        assertEquals(5, acquirer.getStartups().size());
+        assertEquals(moved, acquirer.getStartups().subList(2, 5), "Order is preserved.");
+        assertSame(moved.get(2), acquirer.selectStartupForBattle());
+        assertEquals(3, mergers[0]);
+        assertEquals(0, acquisitions[0], "A merger is reported once, not per startup.");
+
+        // Moved startups behave like any other owned startup afterwards
+        Startup movedStartup = moved.get(0);
+        assertSame(acquirer, movedStartup.getOwner());
+        acquirer.removeStartup(movedStartup);
+        assertEquals(4, acquirer.getStartups().size());
+        movedStartup.setRevenue(5000);
+        assertNotSame(movedStartup, acquirer.selectStartupForBattle());
+
+        TechGiant.transferAll(acquirer, acquirer);
+        assertEquals(4, acquirer.getStartups().size());
+        assertThrows(IllegalArgumentException.class, () -> TechGiant.transferAll(null, acquirer));
+    }
+}
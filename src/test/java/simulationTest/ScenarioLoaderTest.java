@@ -0,0 +1,140 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import simulation.SimulationManager;
+import simulation.Startup;
+import simulation.TechGiant;
+import simulation.events.Event;
+import simulation.events.Quarter;
+import simulation.scenario.LoadReport;
+import simulation.scenario.ScenarioLoader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streaming ScenarioLoader.
+ */
+public class ScenarioLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String name, String content) throws IOException {
+        Path file = dir.resolve(name);
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    @DisplayName("Test Every Record Type Is Loaded")
+    void testLoadsAllRecords() throws IOException {
+        Path file = write("scenario.csv", "# Silicon Valley\r\n"
+                + "giant,Techy Co.,2500\r\n"
+                + "giant,\"Innovators, Inc.\",300\n"
+                + "\n"
+                + "startup,Techy Co.,HealthTech Inc.,Healthcare,100,10,20\n"
+                + "startup, \"Innovators, Inc.\" ,FinTech Co.,FinTech,90,30,15\n"
+                + "wild,SocialWild Inc.,Social Media,50,15,10\n"
+                + "event,Economic Downturn,\"Market faces a \"\"recession\"\"\",Q2\n"
+                + "event,Regulatory Scrutiny,Audits,q3,2,5\n"
+                + "enhancement,Techy Co.,Loan,Loan,1000,0,1000");
+        SimulationManager manager = new SimulationManager(1L);
+
+        LoadReport report = ScenarioLoader.load(file, manager);
+
+        assertEquals(8, report.getRecords(), "Comments and blank lines are not records.");
+        assertTrue(report.getRecordsPerSecond() > 0);
+        assertEquals(2, manager.getTechGiants().size());
+        TechGiant techy = manager.getTechGiants().get(0);
+        TechGiant innovators = manager.getTechGiants().get(1);
+        assertEquals("Innovators, Inc.", innovators.getName());
+        assertEquals("HealthTech Inc.", techy.getStartups().get(0).getName());
+        assertEquals("FinTech", innovators.getStartups().get(0).getType());
+        assertEquals(1500, techy.getFunds(), "Enhancements are bought when read.");
+        assertEquals(1, techy.getActiveEnhancements().size());
+
+        Startup wild = manager.getWildStartups().get(0);
+        assertTrue(wild.isWild());
+        assertEquals(50, wild.getRevenue());
+
+        Event downturn = manager.getEvents().get(0);
+        assertEquals("Market faces a \"recession\"", downturn.getDescription());
+        Event scrutiny = manager.getEvents().get(1);
+        assertEquals(Quarter.Q3, scrutiny.getQuarterValue());
+        assertEquals(2, scrutiny.getFirstYear());
+        assertEquals(5, scrutiny.getLastYear());
+    }
+
+    @Test
+    @DisplayName("Test Large Scenarios Stream Across Chunks")
+    void testLargeScenario() throws IOException {
+        Path file = dir.resolve("large.csv");
+        int startups = 60_000;
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("giant,Giant,5000\n");
+            out.write("event,Long,\"" + "x".repeat(3 << 20) + "\",Q1\n"); // Longer than a chunk
+            for (int i = 0; i < startups; i++) {
+                out.write("startup,Giant,Startup number " + i + ",Tech," + revenue(i) + ",10,20\n");
+            }
+        }
+        SimulationManager manager = new SimulationManager(1L);
+
+        LoadReport report = ScenarioLoader.load(file, manager);
+
+        assertEquals(startups + 2, report.getRecords());
+        TechGiant giant = manager.getTechGiants().get(0);
+        assertEquals(startups, giant.getStartups().size());
+        assertEquals("Startup number " + (startups - 1),
+                giant.getStartups().get(startups - 1).getName());
+        assertEquals(3 << 20, manager.getEvents().get(0).getDescription().length());
+        for (int i = 0; i < startups; i += 7) {
+            assertEquals(Double.parseDouble(revenue(i)), giant.getStartups().get(i).getRevenue(),
+                    "Numbers parse exactly like Double.parseDouble.");
+        }
+    }
+
+    private static String revenue(int i) {
+        switch (i % 4) {
+            case 0:
+                return Integer.toString(i % 500);
+            case 1:
+                return (i % 500) + "." + (i % 1000);
+            case 2:
+                return "0.1" + i;
+            default:
+                return (i % 90) + "1e2";
+        }
+    }
+
+    @Test
+    @DisplayName("Test Malformed Lines Are Reported With Their Line Number")
+    void testErrors() throws IOException {
+        SimulationManager manager = new SimulationManager(1L);
+        Path unknownGiant = write("unknown.csv", "giant,A,1\nstartup,B,S,Tech,1,1,1\n");
+        IOException error = assertThrows(IOException.class,
+                () -> ScenarioLoader.load(unknownGiant, manager));
+        assertTrue(error.getMessage().endsWith(":2: Unknown Tech Giant 'B'; declare it "
+                + "with a giant record first."), error.getMessage());
+
+        Path badNumber = write("number.csv", "# header\ngiant,C,lots\n");
+        error = assertThrows(IOException.class,
+                () -> ScenarioLoader.load(badNumber, new SimulationManager(1L)));
+        assertTrue(error.getMessage().contains(":2: Not a number"), error.getMessage());
+
+        Path badKind = write("kind.csv", "planet,Earth\n");
+        assertThrows(IOException.class,
+                () -> ScenarioLoader.load(badKind, new SimulationManager(1L)));
+
+        Path fieldCount = write("fields.csv", "wild,W,Tech,1\n");
+        assertThrows(IOException.class,
+                () -> ScenarioLoader.load(fieldCount, new SimulationManager(1L)));
+    }
+}
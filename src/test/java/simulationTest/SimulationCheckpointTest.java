@@ -0,0 +1,267 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import simulation.BattleMode;
+import simulation.Enhancement;
+import simulation.FundsLedger;
+import simulation.SimulationCheckpoint;
+import simulation.SimulationManager;
+import simulation.Startup;
+import simulation.TechGiant;
+import simulation.events.Event;
+import simulation.events.Quarter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for saving and resuming a simulation with SimulationCheckpoint.
+ */
+public class SimulationCheckpointTest {
+
+    @TempDir
+    Path dir;
+
+    private static SimulationManager market(long seed) {
+        SimulationManager manager = new SimulationManager(seed);
+        manager.addEvent(new Event("Economic Downturn", "Recession.", Quarter.Q2, 2, 4));
+        manager.addEvent(new Event("Regulatory Scrutiny", "Audits.", "Q3"));
+        for (int g = 0; g < 4; g++) {
+            TechGiant giant = new TechGiant("Giant " + g, 1500 + 700 * g);
+            giant.purchaseEnhancement(new Enhancement("Booster", "Revenue", 100, 0, 0.1));
+            for (int s = 0; s < 3; s++) {
+                giant.addStartup(new Startup("Startup " + g + "-" + s, s == 0 ? "FinTech" : "Tech",
+                        90 + 13 * s + 5 * g, 10 + s, 20, false));
+            }
+            manager.addTechGiant(giant);
+        }
+        for (int w = 0; w < 10; w++) {
+            manager.addWildStartup(new Startup("Wild " + w, "Media", 70 + 9 * w, 12, 15, true));
+        }
+        return manager;
+    }
+
+    private static List<String> describe(SimulationManager manager) {
+        List<String> state = new ArrayList<>();
+        state.add(manager.getCurrentYear() + "Q" + manager.getCurrentQuarter());
+        for (TechGiant giant : manager.getTechGiants()) {
+            state.add(giant.getName() + " $" + giant.getFunds() + " "
+                    + giant.getActiveEnhancements().size());
+            for (Startup startup : giant.getStartups()) {
+                state.add(describe(startup));
+            }
+            state.add("best " + giant.selectStartupForBattle().getName());
+        }
+        for (Startup wild : manager.getWildStartups()) {
+            state.add("wild " + describe(wild));
+        }
+        return state;
+    }
+
+    private static String describe(Startup startup) {
+        return startup.getName() + " " + startup.getType() + " " + startup.getRevenue()
+                + " " + startup.getMarketShare() + " " + startup.getNetIncome()
+                + " " + startup.getExperiencePoints() + " " + startup.getStage();
+    }
+
+    @Test
+    @DisplayName("Test Resumed Run Matches an Uninterrupted Run")
+    void testResumeIsBitIdentical() throws IOException {
+        for (BattleMode mode : BattleMode.values()) {
+            SimulationManager uninterrupted = market(21L);
+            uninterrupted.setBattleMode(mode);
+            uninterrupted.runQuarters(22);
+
+            SimulationManager interrupted = market(21L);
+            interrupted.setBattleMode(mode);
+            interrupted.runQuarters(9); // Stops after Q1 of year 3
+            Path file = dir.resolve("run-" + mode + ".ckpt");
+            SimulationCheckpoint.save(interrupted, file);
+
+            SimulationManager resumed = SimulationCheckpoint.load(file);
+            assertEquals(3, resumed.getCurrentYear());
+            assertEquals(1, resumed.getCurrentQuarter());
+            assertEquals(mode, resumed.getBattleMode());
+            assertEquals(describe(interrupted), describe(resumed), "State survives the round trip.");
+
+            resumed.runQuarters(13);
+            assertEquals(describe(uninterrupted), describe(resumed),
+                    "A resumed run must play out exactly like an uninterrupted one.");
+        }
+    }
+
+    private static List<String> journals(SimulationManager manager) {
+        List<String> entries = new ArrayList<>();
+        for (TechGiant giant : manager.getTechGiants()) {
+            FundsLedger ledger = giant.getLedger();
+            entries.add(giant.getName() + " opened with $" + ledger.getOpeningBalance()
+                    + " at " + ledger.getFirstIndex());
+            for (FundsLedger.Transaction kind : FundsLedger.Transaction.values()) {
+                entries.add(kind + " total " + ledger.total(kind));
+            }
+            ledger.replay((index, kind, amount, balance) ->
+                    entries.add(index + " " + kind + " " + amount + " " + balance));
+        }
+        return entries;
+    }
+
+    @Test
+    @DisplayName("Test Funds Journal Survives a Resume")
+    void testJournalSurvivesResume() throws IOException {
+        SimulationManager uninterrupted = market(13L);
+        uninterrupted.runQuarters(14);
+
+        SimulationManager interrupted = market(13L);
+        interrupted.runQuarters(7);
+        Path file = dir.resolve("journal.ckpt");
+        SimulationCheckpoint.save(interrupted, file);
+        SimulationManager resumed = SimulationCheckpoint.load(file);
+
+        List<String> before = journals(interrupted);
+        assertTrue(before.stream().anyMatch(e -> e.contains("ENHANCEMENT")),
+                "The journal should hold the enhancement purchases.");
+        assertEquals(before, journals(resumed), "The journal survives the round trip.");
+        for (int g = 0; g < interrupted.getTechGiants().size(); g++) {
+            FundsLedger ledger = resumed.getTechGiants().get(g).getLedger();
+            assertEquals(interrupted.getTechGiants().get(g).getLedger().getJournalSize(),
+                    ledger.getJournalSize());
+        }
+
+        resumed.runQuarters(7);
+        assertEquals(journals(uninterrupted), journals(resumed),
+                "A resumed journal continues like an uninterrupted one.");
+    }
+
+    @Test
+    @DisplayName("Test Compacted Funds Journal Survives a Resume")
+    void testCompactedJournalSurvivesResume() throws IOException {
+        int retention = 4;
+        SimulationManager uninterrupted = market(13L);
+        uninterrupted.setJournalRetention(retention);
+        uninterrupted.runQuarters(14);
+
+        SimulationManager interrupted = market(13L);
+        interrupted.setJournalRetention(retention);
+        interrupted.runQuarters(7);
+        assertTrue(interrupted.getTechGiants().stream()
+                        .anyMatch(g -> g.getLedger().getFirstIndex() > 0),
+                "The journal should have been compacted before the checkpoint.");
+        Path file = dir.resolve("compacted.ckpt");
+        SimulationCheckpoint.save(interrupted, file);
+        SimulationManager resumed = SimulationCheckpoint.load(file);
+        resumed.setJournalRetention(retention);
+
+        assertEquals(journals(interrupted), journals(resumed),
+                "The compacted journal survives the round trip.");
+        resumed.runQuarters(7);
+        assertEquals(journals(uninterrupted), journals(resumed),
+                "A resumed journal is compacted like an uninterrupted one.");
+    }
+
+    @Test
+    @DisplayName("Test Revenue Boosts Expiring Together Resume Bit-Identically")
+    void testSimultaneousExpiryResume() throws IOException {
+        int[] durations = {5, 2, 5, 8, 5, 3, 9, 8, 12, 5};
+        List<SimulationManager> runs = new ArrayList<>();
+        for (int run = 0; run < 2; run++) {
+            SimulationManager manager = new SimulationManager(31L);
+            for (int g = 0; g < 2; g++) {
+                TechGiant giant = new TechGiant("Giant " + g, 100_000);
+                for (int e = 0; e < durations.length; e++) {
+                    giant.purchaseEnhancement(new Enhancement("Boost " + e, "Revenue", 10,
+                            durations[e], 0.013 + 0.0071 * e));
+                }
+                for (int s = 0; s < 3; s++) {
+                    giant.addStartup(new Startup("Startup " + g + "-" + s, "Tech",
+                            97.3 + 11.1 * s + g, 10, 20, false));
+                }
+                manager.addTechGiant(giant);
+            }
+            runs.add(manager);
+        }
+        SimulationManager uninterrupted = runs.get(0);
+        uninterrupted.runQuarters(13);
+
+        SimulationManager interrupted = runs.get(1);
+        interrupted.runQuarters(3); // Boosts 1 and 5 have expired; 0, 2, 4 and 9 end together
+        Path file = dir.resolve("boosts.ckpt");
+        SimulationCheckpoint.save(interrupted, file);
+        SimulationManager resumed = SimulationCheckpoint.load(file);
+        resumed.runQuarters(2);
+        interrupted.runQuarters(2);
+        assertEquals(enhancementNames(interrupted), enhancementNames(resumed),
+                "Enhancements expiring together leave the same order behind.");
+
+        resumed.runQuarters(8);
+        assertEquals(describe(uninterrupted), describe(resumed),
+                "Revenue boosts must apply in the same order after a resume.");
+    }
+
+    private static List<String> enhancementNames(SimulationManager manager) {
+        List<String> names = new ArrayList<>();
+        for (TechGiant giant : manager.getTechGiants()) {
+            for (Enhancement enhancement : giant.getActiveEnhancements()) {
+                names.add(giant.getName() + ":" + enhancement.getName());
+            }
+        }
+        return names;
+    }
+
+    @Test
+    @DisplayName("Test Saving a Restored Checkpoint Gives the Same Bytes")
+    void testRoundTripBytes() throws IOException {
+        SimulationManager manager = market(8L);
+        manager.runQuarters(6);
+        Path first = dir.resolve("first.ckpt");
+        Path second = dir.resolve("second.ckpt");
+
+        SimulationCheckpoint.save(manager, first);
+        SimulationCheckpoint.save(SimulationCheckpoint.load(first), second);
+
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+    }
+
+    @Test
+    @DisplayName("Test Quarters Continue Across Years")
+    void testQuarterCursor() {
+        SimulationManager manager = new SimulationManager(1L);
+        assertEquals(0, manager.getCurrentYear());
+        manager.runQuarters(6);
+        assertEquals(2, manager.getCurrentYear());
+        assertEquals(2, manager.getCurrentQuarter());
+        manager.startSimulation(1);
+        assertEquals(3, manager.getCurrentYear());
+        assertEquals(2, manager.getCurrentQuarter(), "A year is four quarters from the cursor.");
+        assertThrows(IllegalArgumentException.class, () -> manager.runQuarters(-1));
+    }
+
+    @Test
+    @DisplayName("Test Corrupt and Foreign Files Are Rejected")
+    void testRejectsBadFiles() throws IOException {
+        Path foreign = dir.resolve("foreign.ckpt");
+        Files.write(foreign, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> SimulationCheckpoint.load(foreign));
+
+        SimulationManager manager = market(3L);
+        Path file = dir.resolve("good.ckpt");
+        SimulationCheckpoint.save(manager, file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        Path truncated = dir.resolve("truncated.ckpt");
+        Files.write(truncated, java.util.Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> SimulationCheckpoint.load(truncated));
+
+        bytes[5] = 99; // Future version
+        Path future = dir.resolve("future.ckpt");
+        Files.write(future, bytes);
+        IOException error = assertThrows(IOException.class, () -> SimulationCheckpoint.load(future));
+        assertTrue(error.getMessage().contains("version"));
+    }
+}
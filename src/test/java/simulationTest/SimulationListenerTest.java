@@ -0,0 +1,192 @@
+package simulationTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.AttackOutcome;
+import simulation.BattleManager;
+import simulation.ConsoleSimulationListener;
+import simulation.Enhancement;
+import simulation.SimulationEventBus;
+import simulation.SimulationListener;
+import simulation.Startup;
+import simulation.TechGiant;
+import simulation.events.Event;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SimulationListener notifications published through SimulationEventBus.
+ */
+public class SimulationListenerTest {
+
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new RecordingListener();
+        SimulationEventBus.setListener(listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SimulationEventBus.setListener(null);
+    }
+
+    @Test
+    @DisplayName("Test Default Listener Is No-Op")
+    void testDefaultListener() {
+        SimulationEventBus.setListener(null);
+        assertSame(SimulationListener.NONE, SimulationEventBus.listener());
+        assertFalse(SimulationEventBus.hasListener(), "No listener should be registered by default.");
+    }
+
+    @Test
+    @DisplayName("Test Battle Notifications")
+    void testBattleNotifications() {
+        Startup startup1 = new Startup("TechOne", "Operating Systems", 100, 20, 30, false);
+        Startup startup2 = new Startup("SocialGiant", "Social Media", 100, 25, 20, true);
+        TechGiant techGiant = new TechGiant("MegaCorp");
+
+        Startup winner = BattleManager.startBattle(startup1, startup2, techGiant);
+
+        assertEquals("battleStarted TechOne SocialGiant", listener.records.get(0));
+        assertTrue(listener.records.contains("battleResolved " + winner.getName()),
+                "The winner should be reported.");
+        assertTrue(listener.records.stream().anyMatch(r -> r.startsWith("roundResolved")),
+                "Rounds should be reported.");
+        assertTrue(listener.records.contains("experienceGained " + winner.getName() + " 5"),
+                "Winner XP should be reported.");
+    }
+
+    @Test
+    @DisplayName("Test Acquisition and Evolution Notifications")
+    void testAcquisitionAndEvolution() {
+        TechGiant techGiant = new TechGiant("MegaCorp", 5000);
+        Startup startup = new Startup("HealthFirst", "Healthcare", 1200, 15, 40, false);
+
+        techGiant.addStartup(startup);
+        techGiant.investInStartup(startup, 1000);
+
+        assertEquals(List.of("acquisition MegaCorp HealthFirst",
+                "experienceGained HealthFirst 10",
+                "evolved HealthFirst Unicorn",
+                "investment MegaCorp HealthFirst true"), listener.records);
+    }
+
+    @Test
+    @DisplayName("Test Event Notifications Carry Before Values")
+    void testEventNotifications() {
+        List<Startup> startups = new ArrayList<>();
+        startups.add(new Startup("HealthTech Inc.", "Healthcare", 100, 20, 10, false));
+        Event event = new Event("Economic Downturn", "Market faces downturn", "Q2");
+
+        event.applyEffects(startups);
+
+        assertEquals(List.of("eventTriggered Economic Downturn 1",
+                "eventApplied HealthTech Inc. 100.0 -> 120.0"), listener.records);
+    }
+
+    @Test
+    @DisplayName("Test Console Listener Narrates Like the Original Console Output")
+    void testConsoleNarration() {
+        SimulationEventBus.setListener(new ConsoleSimulationListener());
+        PrintStream console = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer, true));
+        try {
+            TechGiant techGiant = new TechGiant("MegaCorp", 1000);
+            Startup strong = new Startup("Titan", "Operating Systems", 100_000, 20, 30, false);
+            techGiant.addStartup(strong);
+            BattleManager.startBattle(new Startup("Broke", "FinTech", 0, 10, 10, false),
+                    strong, techGiant);
+            BattleManager.startBattle(strong, new Startup("Tiny", "Social Media", 1, 1, 1, true),
+                    techGiant);
+            techGiant.battle(new TechGiant("EmptyCorp"));
+
+            List<Startup> startups = new ArrayList<>(List.of(strong));
+            new Event("Solar Flare", "Nothing happens", "Q1").applyEffects(startups);
+            new Event("Regulatory Scrutiny", "Antitrust review", "Q2").applyEffects(startups);
+
+            techGiant.purchaseEnhancement(new Enhancement("Credit", "Loan", 0, 1, 100));
+            techGiant.purchaseEnhancement(new Enhancement("Patent", "Hold", 0, 1, 0));
+            techGiant.applyEnhancements();
+        } finally {
+            System.setOut(console);
+        }
+        String output = buffer.toString();
+        for (String line : List.of("Broke has zero revenue and cannot fight.",
+                "Titan is attacking Tiny!",
+                "Tiny is a wild startup and will be acquired.",
+                "MegaCorp acquired Tiny!",
+                "MegaCorp or EmptyCorp has no startups left to battle!",
+                "Titan remains unaffected by the event.",
+                "Titan gained 10% market share due to Regulatory Scrutiny.",
+                "MegaCorp received a loan of $100.0.",
+                "Unknown enhancement type: Hold")) {
+            assertTrue(output.contains(line), "Missing console line: " + line);
+        }
+        assertEquals(1, output.split("wins the battle!", -1).length - 1,
+                "A forfeited battle should not announce a winner.");
+    }
+
+    /**
+     * Listener that records notifications as short strings.
+     */
+    private static class RecordingListener implements SimulationListener {
+        private final List<String> records = new ArrayList<>();
+
+        @Override
+        public void battleStarted(Startup first, Startup second) {
+            records.add("battleStarted " + first.getName() + " " + second.getName());
+        }
+
+        @Override
+        public void roundResolved(AttackOutcome outcome) {
+            records.add("roundResolved " + outcome.getAttacker().getName());
+        }
+
+        @Override
+        public void battleResolved(Startup winner, Startup loser) {
+            records.add("battleResolved " + winner.getName());
+        }
+
+        @Override
+        public void acquisition(TechGiant acquirer, Startup startup) {
+            records.add("acquisition " + acquirer.getName() + " " + startup.getName());
+        }
+
+        @Override
+        public void investment(TechGiant investor, Startup startup, double amount, boolean funded) {
+            records.add("investment " + investor.getName() + " " + startup.getName() + " " + funded);
+        }
+
+        @Override
+        public void eventTriggered(Event event, int startupCount) {
+            records.add("eventTriggered " + event.getName() + " " + startupCount);
+        }
+
+        @Override
+        public void eventApplied(Event event, Startup startup,
+                                 double revenueBefore, double marketShareBefore) {
+            records.add("eventApplied " + startup.getName() + " "
+                    + revenueBefore + " -> " + startup.getRevenue());
+        }
+
+        @Override
+        public void experienceGained(Startup startup, int points) {
+            records.add("experienceGained " + startup.getName() + " " + points);
+        }
+
+        @Override
+        public void evolved(Startup startup, String stage) {
+            records.add("evolved " + startup.getName() + " " + stage);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package simulationTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.*;
+import simulation.events.Event;
+import simulation.metrics.LogHistogram;
+import simulation.metrics.SimulationMetrics;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SimulationMetrics MXBean and its LogHistogram.
+ */
+public class SimulationMetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        SimulationMetrics.disable();
+    }
+
+    @Test
+    @DisplayName("Test Histogram Mean and Percentiles")
+    void testHistogram() {
+        LogHistogram histogram = new LogHistogram();
+        assertEquals(0, histogram.getPercentile(99), "An empty histogram should report 0.");
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean(), 1e-9, "Mean should be exact.");
+        assertEquals(63, histogram.getPercentile(50), "p50 should be the top of its bucket.");
+        assertEquals(100, histogram.getPercentile(99), "p99 should be capped by the maximum.");
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(101));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount(), "Reset should clear the histogram.");
+    }
+
+    @Test
+    @DisplayName("Test Metrics Are Off by Default")
+    void testDisabled() throws Exception {
+        assertNull(SimulationMetrics.active(), "Metrics should be off until enabled.");
+        runSimulation(1);
+        assertFalse(ManagementFactory.getPlatformMBeanServer()
+                        .isRegistered(new ObjectName(SimulationMetrics.OBJECT_NAME)),
+                "No MBean should be registered while metrics are off.");
+    }
+
+    @Test
+    @DisplayName("Test Simulation Is Counted and Published Over JMX")
+    void testSimulationCounted() throws Exception {
+        SimulationMetrics metrics = SimulationMetrics.enable();
+        assertSame(metrics, SimulationMetrics.enable(), "Enabling twice should be harmless.");
+        int years = 3;
+        runSimulation(years);
+
+        assertEquals(4L * years, metrics.getQuartersProcessed(), "Every quarter should count.");
+        assertTrue(metrics.getBattles() > 0, "Battles should be counted.");
+        assertTrue(metrics.getRounds() >= metrics.getMisses() + metrics.getCriticalHits(),
+                "Misses and critical hits are a subset of the rounds.");
+        assertTrue(metrics.getRoundsPerBattleP99() >= 1, "Exact battles fight rounds.");
+        assertTrue(metrics.getEventsApplied() >= years,
+                "The yearly event should count once per group of startups it hits.");
+        assertTrue(metrics.getQuarterP99Millis() > 0, "Quarter durations should be recorded.");
+        assertTrue(metrics.getPhaseMeanMillis().containsKey("EVENTS"));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(SimulationMetrics.OBJECT_NAME);
+        assertEquals(metrics.getQuartersProcessed(),
+                server.getAttribute(name, "QuartersProcessed"),
+                "The MBean should publish the same counters.");
+        server.invoke(name, "reset", null, null);
+        assertEquals(0, metrics.getBattles(), "Reset over JMX should clear the counters.");
+
+        SimulationMetrics.disable();
+        assertNull(SimulationMetrics.active());
+        assertFalse(server.isRegistered(name), "Disabling should unregister the MBean.");
+    }
+
+    @Test
+    @DisplayName("Test Forfeited and Fast Battles Are Counted Alike")
+    void testBattlesCounted() {
+        SimulationMetrics metrics = SimulationMetrics.enable();
+        Startup broke = new Startup("Broke", "AI", 0, 20, 30, false);
+        BattleManager.startBattle(new Startup("Rich", "AI", 1000, 20, 30, false), broke,
+                new TechGiant("Giant", 5000), SimulationRandom.seeded(1L), BattleMode.EXACT);
+        assertEquals(1, metrics.getBattles(), "A forfeit should count as a battle.");
+        assertEquals(1, metrics.getRoundsPerBattle().getCount(),
+                "A forfeit should be recorded as a battle of 0 rounds.");
+        assertEquals(0, metrics.getRounds(), "A forfeit should add no rounds.");
+
+        BattleManager.startBattle(new Startup("Fast A", "AI", 1000, 20, 30, false),
+                new Startup("Fast B", "AI", 1000, 20, 30, false), new TechGiant("Fast", 5000),
+                SimulationRandom.seeded(1L), BattleMode.FAST);
+        assertEquals(2, metrics.getRoundsPerBattle().getCount(),
+                "A fast battle should be recorded with its sampled rounds.");
+        assertTrue(metrics.getRounds() > 0, "A fast battle should report its rounds.");
+        assertEquals(metrics.getRounds(), metrics.getRoundsPerBattle().getSum(),
+                "The histogram should hold every round counted.");
+    }
+
+    @Test
+    @DisplayName("Test Only Real Acquisitions Are Counted")
+    void testAcquisitionsCounted() {
+        SimulationMetrics metrics = SimulationMetrics.enable();
+        TechGiant seller = new TechGiant("Seller", 5000);
+        seller.addStartup(new Startup("Seller AI", "AI", 1000, 20, 30, false));
+        new SimulationManager(7L).buildNewStartup(seller);
+        assertEquals(0, metrics.getAcquisitions(), "Setup and building are not acquisitions.");
+
+        TechGiant.transferAll(seller, new TechGiant("Buyer", 5000));
+        assertEquals(2, metrics.getAcquisitions(), "Each startup taken over should count.");
+
+        TechGiant giant = new TechGiant("Giant", 5000);
+        giant.addStartup(new Startup("Giant AI", "AI", 5000, 50, 30, false));
+        Startup wild = new Startup("Wild", "Social Media", 1, 1, 1, true);
+        BattleManager.startBattle(giant.getStartups().get(0), wild, giant,
+                SimulationRandom.seeded(1L), BattleMode.EXACT);
+        assertSame(giant, wild.getOwner(), "The giant should win the wild startup.");
+        assertEquals(3, metrics.getAcquisitions(), "A wild startup won in battle should count.");
+    }
+
+    private static void runSimulation(int years) {
+        SimulationManager manager = new SimulationManager(7L);
+        for (int g = 0; g < 2; g++) {
+            TechGiant techGiant = new TechGiant("Giant " + g, 5000);
+            techGiant.addStartup(new Startup("Giant " + g + " AI", "AI", 1000, 20, 30, false));
+            manager.addTechGiant(techGiant);
+        }
+        for (int w = 0; w < 4; w++) {
+            manager.addWildStartup(new Startup("Wild " + w, "Social Media", 500, 10, 20, true));
+        }
+        manager.addEvent(new Event("Regulatory Scrutiny", "Antitrust review", "Q2"));
+        manager.startSimulation(years);
+    }
+}
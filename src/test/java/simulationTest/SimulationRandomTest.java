@@ -0,0 +1,116 @@
+package simulationTest;
+
+import helper.MockRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.BattleManager;
+import simulation.SimulationManager;
+import simulation.SimulationRandom;
+import simulation.Startup;
+import simulation.TechGiant;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SimulationRandom and seeded, reproducible battles.
+ */
+public class SimulationRandomTest {
+
+    @Test
+    @DisplayName("Test Seeded Generators Repeat")
+    void testSeededGenerators() {
+        SimulationRandom first = SimulationRandom.seeded(42);
+        SimulationRandom second = SimulationRandom.seeded(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    @DisplayName("Test Battle Generators Depend Only on Their Key")
+    void testBattleKeys() {
+        assertEquals(SimulationRandom.forBattle(7, 1, 4, 0).nextLong(),
+                SimulationRandom.forBattle(7, 1, 4, 0).nextLong());
+        assertNotEquals(SimulationRandom.forBattle(7, 1, 4, 0).nextLong(),
+                SimulationRandom.forBattle(7, 1, 4, 1).nextLong());
+        assertNotEquals(SimulationRandom.forBattle(7, 1, 4, 0).nextLong(),
+                SimulationRandom.forBattle(7, 2, 4, 0).nextLong());
+    }
+
+    @Test
+    @DisplayName("Test Wrapping Random and MockRandom")
+    void testWrap() {
+        MockRandom mock = new MockRandom(0.5, 1);
+        assertSame(mock, SimulationRandom.wrap(mock), "MockRandom already is a SimulationRandom.");
+
+        SimulationRandom wrapped = SimulationRandom.wrap(new Random(3));
+        assertEquals(new Random(3).nextDouble(), wrapped.nextDouble());
+    }
+
+    @Test
+    @DisplayName("Test Seeded Battles Are Reproducible")
+    void testSeededBattle() {
+        Startup a1 = new Startup("TechOne", "Operating Systems", 100, 20, 30, false);
+        Startup b1 = new Startup("SocialGiant", "Social Media", 100, 25, 20, false);
+        Startup a2 = new Startup("TechOne", "Operating Systems", 100, 20, 30, false);
+        Startup b2 = new Startup("SocialGiant", "Social Media", 100, 25, 20, false);
+
+        Startup winner1 = BattleManager.startBattle(a1, b1, null, SimulationRandom.seeded(9));
+        Startup winner2 = BattleManager.startBattle(a2, b2, null, SimulationRandom.seeded(9));
+
+        assertEquals(winner1.getName(), winner2.getName());
+        assertEquals(a1.getRevenue(), a2.getRevenue());
+        assertEquals(b1.getMarketShare(), b2.getMarketShare());
+        assertEquals(b1.getNetIncome(), b2.getNetIncome());
+    }
+
+    @Test
+    @DisplayName("Test MockRandom Forces Every Attack to Miss")
+    void testMockRandomMiss() {
+        Startup attacker = new Startup("TechOne", "Operating Systems", 100, 20, 30, false);
+        Startup defender = new Startup("SocialGiant", "Social Media", 100, 25, 20, false);
+
+        String report = BattleManager.performAttack(attacker, defender, null, new MockRandom(0.0, 0));
+
+        assertTrue(report.contains("missed"), "A roll of 0.0 is below the miss chance.");
+        assertEquals(100, defender.getRevenue());
+    }
+
+    @Test
+    @DisplayName("Test Same Seed Gives the Same Simulation")
+    void testSeededSimulation() {
+        SimulationManager first = buildScenario(123);
+        SimulationManager second = buildScenario(123);
+
+        first.startSimulation(2);
+        second.startSimulation(2);
+
+        assertEquals(first.getTechGiants().size(), second.getTechGiants().size());
+        for (int i = 0; i < first.getTechGiants().size(); i++) {
+            TechGiant giant1 = first.getTechGiants().get(i);
+            TechGiant giant2 = second.getTechGiants().get(i);
+            assertEquals(giant1.getFunds(), giant2.getFunds());
+            assertEquals(giant1.getStartups().size(), giant2.getStartups().size());
+            for (int j = 0; j < giant1.getStartups().size(); j++) {
+                assertEquals(giant1.getStartups().get(j).getName(),
+                        giant2.getStartups().get(j).getName());
+                assertEquals(giant1.getStartups().get(j).getRevenue(),
+                        giant2.getStartups().get(j).getRevenue());
+            }
+        }
+        assertEquals(first.getWildStartups().size(), second.getWildStartups().size());
+    }
+
+    private static SimulationManager buildScenario(long seed) {
+        SimulationManager manager = new SimulationManager(seed);
+        TechGiant techGiant = new TechGiant("TechCorp", 5000.0);
+        techGiant.addStartup(new Startup("FinTechPro", "FinTech", 100, 20, 50, false));
+        manager.addTechGiant(techGiant);
+        manager.addWildStartup(new Startup("WildOne", "Tech", 100, 10, 20, true));
+        manager.addWildStartup(new Startup("WildTwo", "Media", 200, 15, 30, true));
+        manager.addWildStartup(new Startup("WildThree", "FinTech", 150, 25, 30, true));
+        return manager;
+    }
+}
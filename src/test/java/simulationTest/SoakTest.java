@@ -0,0 +1,124 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import simulation.*;
+import simulation.events.Event;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Long-run soak test: plays thousands of simulated years and checks that nothing the
+ * simulation keeps between quarters grows without bound. Tagged "soak" and left out of
+ * the regular test run; run it with {@code gradle soakTest}, optionally with
+ * {@code -PsoakYears=N}.
+ *
+ * <p>The run is the default loan scenario. A loan every odd quarter pays for a new
+ * startup, so every Tech Giant keeps growing by about 2 startups a year for as long as
+ * the run lasts; portfolios are checked against that rate rather than against a fixed
+ * size. Fund journals are compacted at the end of each quarter, so they stay within
+ * twice the journal retention. The heap is normalised by the live startups and journal
+ * entries, and the bytes per item must not rise above what they were after warm-up.
+ */
+@Tag("soak")
+public class SoakTest {
+
+    private static final int YEARS = Integer.getInteger("soak.years", 10_000);
+    private static final int SAMPLES = 10;
+    private static final int STARTUPS_PER_GIANT_YEAR = 2;   // One build per odd quarter
+    private static final double HEAP_RATIO_SLACK = 0.25;    // Collector noise
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    private static SimulationManager market() {
+        SimulationManager manager = new SimulationManager(2024L);
+        manager.setBattleMode(BattleMode.FAST);
+        for (int g = 0; g < 3; g++) {
+            TechGiant techGiant = new TechGiant("Giant " + g, 5000);
+            for (int s = 0; s < 3; s++) {
+                techGiant.addStartup(new Startup("Giant " + g + " Startup " + s, "FinTech",
+                        1000, 20, 30, false));
+            }
+            manager.addTechGiant(techGiant);
+        }
+        for (int w = 0; w < 5; w++) {
+            manager.addWildStartup(new Startup("Wild " + w, "Social Media", 500, 10, 20, true));
+        }
+        manager.addEvent(new Event("Regulatory Scrutiny", "Antitrust review", "Q2"));
+        return manager;
+    }
+
+    @Test
+    @DisplayName("Test Ten Thousand Years of Loans Keep Collections and Heap in Check")
+    void testLongRun() {
+        SimulationManager manager = market();
+        int giants = manager.getTechGiants().size();
+        int wild = manager.getWildStartups().size();
+        int events = manager.getEvents().size();
+        long journalBound = 2L * manager.getJournalRetention();
+
+        int step = Math.max(1, YEARS / SAMPLES);
+        manager.startSimulation(step); // Warm up before the baseline
+        Sample baseline = sample(manager);
+        Sample previous = baseline;
+        for (int year = step; year < YEARS; year += step) {
+            manager.startSimulation(step);
+            Sample current = sample(manager);
+            String when = "after year " + manager.getCurrentYear();
+
+            assertTrue(manager.getTechGiants().size() <= giants, "Tech Giants grew " + when);
+            assertTrue(manager.getWildStartups().size() <= wild, "Wild startups grew " + when);
+            assertEquals(events, manager.getEvents().size(), "Events changed " + when);
+            for (TechGiant techGiant : manager.getTechGiants()) {
+                assertTrue(techGiant.getActiveEnhancements().size()
+                                <= manager.getEnhancementLimit(),
+                        techGiant.getName() + " holds too many enhancements " + when);
+                FundsLedger ledger = techGiant.getLedger();
+                assertTrue(ledger.getJournalSize() - ledger.getFirstIndex() <= journalBound,
+                        techGiant.getName() + "'s fund journal was not compacted " + when);
+            }
+            assertTrue(current.enhancements <= giants * manager.getEnhancementLimit(),
+                    "Enhancements piled up " + when);
+            assertTrue(current.startups - previous.startups
+                            <= (long) giants * STARTUPS_PER_GIANT_YEAR * step,
+                    "Portfolios grew faster than building allows " + when);
+            assertTrue(current.heapPerItem() <= baseline.heapPerItem() * (1 + HEAP_RATIO_SLACK),
+                    "Heap per startup and journal entry rose from " + baseline.heapPerItem()
+                            + " to " + current.heapPerItem() + " bytes " + when);
+            previous = current;
+        }
+    }
+
+    private Sample sample(SimulationManager manager) {
+        Sample sample = new Sample();
+        for (TechGiant techGiant : manager.getTechGiants()) {
+            sample.startups += techGiant.getStartups().size();
+            FundsLedger ledger = techGiant.getLedger();
+            sample.journal += ledger.getJournalSize() - ledger.getFirstIndex();
+            sample.enhancements += techGiant.getActiveEnhancements().size();
+        }
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        sample.heap = memory.getHeapMemoryUsage().getUsed();
+        return sample;
+    }
+
+    /**
+     * Sizes measured at one point of the run.
+     */
+    private static final class Sample {
+        private long startups;
+        private long journal;
+        private long enhancements;
+        private long heap;
+
+        private double heapPerItem() {
+            return (double) heap / (startups + journal);
+        }
+    }
+}
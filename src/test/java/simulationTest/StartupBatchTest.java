@@ -0,0 +1,144 @@
+package simulationTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.SimulationEventBus;
+import simulation.SimulationListener;
+import simulation.SimulationRandom;
+import simulation.Startup;
+import simulation.StartupBatch;
+import simulation.StartupStore;
+import simulation.StartupType;
+import simulation.events.EconomicDownturnEffect;
+import simulation.events.Event;
+import simulation.events.EventEffect;
+import simulation.events.RegulatoryScrutinyEffect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StartupBatch and the batch event effect path.
+ */
+public class StartupBatchTest {
+
+    private static final String[] TYPES =
+        {"Healthcare", "FINTECH", "Real Estate", "social media", "Operating Systems", "Tech"};
+
+    @AfterEach
+    void tearDown() {
+        SimulationEventBus.setListener(null);
+    }
+
+    private static List<Startup> population(long seed) {
+        Random random = new Random(seed);
+        List<Startup> startups = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            startups.add(new Startup("Startup " + i, TYPES[random.nextInt(TYPES.length)],
+                    random.nextDouble() * 5000, random.nextDouble() * 50,
+                    random.nextDouble() * 100, random.nextBoolean()));
+        }
+        return startups;
+    }
+
+    private static StartupStore store(List<Startup> startups) {
+        StartupStore store = new StartupStore(startups.size(), SimulationRandom.seeded(1));
+        for (Startup startup : startups) {
+            store.add(startup.getName(), startup.getType(), startup.getRevenue(),
+                    startup.getMarketShare(), startup.getNetIncome(), startup.isWild());
+        }
+        return store;
+    }
+
+    private static void assertBatchMatchesSingle(EventEffect effect) {
+        List<Startup> single = population(3);
+        List<Startup> batched = population(3);
+        StartupStore columns = store(population(3));
+
+        for (Startup startup : single) {
+            effect.applyEffect(startup);
+        }
+        effect.applyEffect(StartupBatch.of(batched));
+        effect.applyEffect(columns);
+
+        for (int i = 0; i < single.size(); i++) {
+            assertEquals(single.get(i).getRevenue(), batched.get(i).getRevenue(),
+                    "List batch revenue must match row " + i);
+            assertEquals(single.get(i).getMarketShare(), batched.get(i).getMarketShare(),
+                    "List batch market share must match row " + i);
+            assertEquals(single.get(i).getRevenue(), columns.revenue(i),
+                    "Store batch revenue must match row " + i);
+            assertEquals(single.get(i).getMarketShare(), columns.marketShare(i),
+                    "Store batch market share must match row " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Economic Downturn Batch Matches Per-Startup Effect")
+    void testEconomicDownturnBatch() {
+        assertBatchMatchesSingle(new EconomicDownturnEffect());
+    }
+
+    @Test
+    @DisplayName("Test Regulatory Scrutiny Batch Matches Per-Startup Effect")
+    void testRegulatoryScrutinyBatch() {
+        assertBatchMatchesSingle(new RegulatoryScrutinyEffect());
+    }
+
+    @Test
+    @DisplayName("Test List Batch Uses Registry Type Ordinals")
+    void testListBatchTypes() {
+        List<Startup> startups = List.of(
+                new Startup("A", "FinTech", 100, 10, 10, false),
+                new Startup("B", "Healthcare", 100, 10, 10, false),
+                new Startup("C", "FinTech", 100, 10, 10, false));
+        StartupBatch batch = StartupBatch.of(startups);
+
+        assertEquals(3, batch.size());
+        assertEquals(StartupType.count(), batch.typeCount());
+        assertEquals(batch.typeOrdinal(0), batch.typeOrdinal(2));
+        assertNotEquals(batch.typeOrdinal(0), batch.typeOrdinal(1));
+        assertEquals("Healthcare", batch.typeName(batch.typeOrdinal(1)));
+        assertSame(startups.get(1), batch.view(1));
+    }
+
+    @Test
+    @DisplayName("Test Effects Without a Batch Implementation Fall Back to Each Startup")
+    void testDefaultBatch() {
+        List<Startup> startups = population(5);
+        EventEffect doubleRevenue = startup -> startup.setRevenue(startup.getRevenue() * 2);
+        double before = startups.get(7).getRevenue();
+
+        doubleRevenue.applyEffect(StartupBatch.of(startups));
+
+        assertEquals(before * 2, startups.get(7).getRevenue());
+    }
+
+    @Test
+    @DisplayName("Test Events Report Each Startup Only When Observed")
+    void testEventUsesBatchWithoutListener() {
+        List<Startup> quiet = population(9);
+        List<Startup> observed = population(9);
+        Event event = new Event("Economic Downturn", "Market faces downturn", "Q2");
+        int[] applied = new int[1];
+
+        event.applyEffects(quiet);
+        SimulationEventBus.setListener(new SimulationListener() {
+            @Override
+            public void eventApplied(Event event, Startup startup,
+                                     double revenueBefore, double marketShareBefore) {
+                applied[0]++;
+            }
+        });
+        event.applyEffects(observed);
+
+        assertEquals(observed.size(), applied[0], "Every startup is reported to a listener.");
+        for (int i = 0; i < quiet.size(); i++) {
+            assertEquals(observed.get(i).getRevenue(), quiet.get(i).getRevenue());
+        }
+    }
+}
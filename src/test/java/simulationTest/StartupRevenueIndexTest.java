@@ -0,0 +1,141 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.AttackType;
+import simulation.SimulationRandom;
+import simulation.Startup;
+import simulation.StartupStore;
+import simulation.TechGiant;
+import simulation.events.Event;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the revenue index behind TechGiant battle selection.
+ */
+public class StartupRevenueIndexTest {
+
+    private static Startup strongest(List<Startup> startups) {
+        return startups.stream()
+                .max((s1, s2) -> Double.compare(s1.getRevenue(), s2.getRevenue()))
+                .orElse(null);
+    }
+
+    @Test
+    @DisplayName("Test Selection Follows Revenue Changes")
+    void testSelectionTracksRevenue() {
+        TechGiant giant = new TechGiant("TechCorp", 5000);
+        Startup small = new Startup("Small", "Tech", 100, 10, 10, false);
+        Startup large = new Startup("Large", "Tech", 500, 10, 10, false);
+        giant.addStartup(small);
+        giant.addStartup(large);
+        assertSame(large, giant.selectStartupForBattle());
+
+        small.setRevenue(900);
+        assertSame(small, giant.selectStartupForBattle(), "setRevenue must update the index.");
+
+        small.takeDamage(850, AttackType.PRICE_UNDERCUTTING);
+        assertSame(large, giant.selectStartupForBattle(), "takeDamage must update the index.");
+
+        large.setRevenue(50);
+        assertSame(large, giant.getTopStartups(2).get(1));
+        assertSame(small, giant.getTopStartups(2).get(0));
+    }
+
+    @Test
+    @DisplayName("Test Ties Go to the Startup Acquired First")
+    void testTies() {
+        TechGiant giant = new TechGiant("TechCorp", 5000);
+        Startup first = new Startup("First", "Tech", 100, 10, 10, false);
+        Startup second = new Startup("Second", "Tech", 100, 10, 10, false);
+        giant.addStartup(first);
+        giant.addStartup(second);
+
+        assertSame(first, giant.selectStartupForBattle());
+        assertSame(strongest(giant.getStartups()), giant.selectStartupForBattle(),
+                "Ties must resolve like a scan of the startup list.");
+    }
+
+    @Test
+    @DisplayName("Test Index Agrees With a Full Scan Under Random Changes")
+    void testAgainstScan() {
+        Random random = new Random(11);
+        TechGiant giant = new TechGiant("TechCorp", 5000);
+        List<Startup> pool = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            pool.add(new Startup("Startup " + i, "Tech", random.nextInt(1000), 10, 10, false));
+        }
+
+        for (int step = 0; step < 5000; step++) {
+            Startup startup = pool.get(random.nextInt(pool.size()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    giant.addStartup(startup);
+                    break;
+                case 1:
+                    giant.removeStartup(startup);
+                    break;
+                default:
+                    startup.setRevenue(random.nextInt(1000));
+                    break;
+            }
+            assertSame(strongest(giant.getStartups()), giant.selectStartupForBattle(),
+                    "Selection must match a scan at step " + step);
+        }
+
+        List<Startup> expected = new ArrayList<>(giant.getStartups());
+        expected.sort(Comparator.comparingDouble(Startup::getRevenue).reversed());
+        List<Startup> top = giant.getTopStartups(25);
+        assertEquals(Math.min(25, expected.size()), top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(expected.get(i).getRevenue(), top.get(i).getRevenue(),
+                    "Top-K must be ordered by revenue at position " + i);
+        }
+        assertThrows(IllegalArgumentException.class, () -> giant.getTopStartups(-1));
+    }
+
+    @Test
+    @DisplayName("Test Startups Have a Single Owner")
+    void testSingleOwner() {
+        TechGiant first = new TechGiant("TechCorp", 5000);
+        TechGiant second = new TechGiant("InnovateInc", 5000);
+        Startup startup = new Startup("Shared", "Tech", 100, 10, 10, false);
+
+        first.addStartup(startup);
+        first.addStartup(startup);
+        assertEquals(1, first.getStartups().size(), "Adding an owned startup does nothing.");
+        assertSame(first, startup.getOwner());
+
+        second.addStartup(startup);
+        assertSame(second, startup.getOwner());
+        assertTrue(first.getStartups().isEmpty(), "The previous owner loses the startup.");
+        assertNull(first.selectStartupForBattle());
+
+        second.removeStartup(startup);
+        assertNull(startup.getOwner());
+        assertTrue(second.getTopStartups(3).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Store Events Update Owners' Indexes")
+    void testStoreRows() {
+        StartupStore store = new StartupStore(2, SimulationRandom.seeded(1));
+        store.add("HealthRow", "Healthcare", 100, 10, 10, false);
+        store.add("FinRow", "FinTech", 110, 10, 10, false);
+        TechGiant giant = new TechGiant("TechCorp", 5000);
+        giant.addStartup(store.view(0));
+        giant.addStartup(store.view(1));
+        assertSame(store.view(1), giant.selectStartupForBattle());
+
+        // Healthcare gains 20% and FinTech loses 20%
+        new Event("Economic Downturn", "Market faces downturn", "Q2").applyEffects(store);
+
+        assertSame(store.view(0), giant.selectStartupForBattle());
+    }
+}
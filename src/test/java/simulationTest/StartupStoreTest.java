@@ -0,0 +1,141 @@
+package simulationTest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.BattleManager;
+import simulation.SimulationRandom;
+import simulation.Startup;
+import simulation.StartupStage;
+import simulation.StartupStore;
+import simulation.TechGiant;
+import simulation.events.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the columnar StartupStore and its Startup views.
+ */
+public class StartupStoreTest {
+
+    private StartupStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new StartupStore(2, SimulationRandom.seeded(42));
+        store.add("HealthTech Inc.", "Healthcare", 100, 20, 10, false);
+        store.add("FinTech Co.", "FinTech", 100, 30, 15, false);
+        store.add("SocialWild Inc.", "Social Media", 50, 15, 10, true);
+    }
+
+    @Test
+    @DisplayName("Test Rows Are Stored in Columns")
+    void testColumns() {
+        assertEquals(3, store.size(), "Store should grow past its initial capacity.");
+        assertEquals("FinTech Co.", store.name(1));
+        assertEquals("FinTech", store.type(1));
+        assertEquals(100, store.revenue(1));
+        assertEquals(30, store.marketShare(1));
+        assertEquals(15, store.netIncome(1));
+        assertEquals(StartupStage.GARAGE_STARTUP, store.stage(1));
+        assertTrue(store.isWild(2));
+        assertEquals(3, store.typeCount(), "Each distinct type should get an ordinal.");
+        assertEquals("Social Media", store.typeName(store.typeOrdinal(2)));
+    }
+
+    @Test
+    @DisplayName("Test Batch Revenue Change Rejects Fractions Below -1")
+    void testRevenueFractionValidated() {
+        assertThrows(IllegalArgumentException.class,
+                () -> store.addRevenueFraction(new double[] {0.2, -1.5, 0.1}),
+                "A fraction below -1 would make revenue negative.");
+        assertThrows(IllegalArgumentException.class,
+                () -> store.addRevenueFraction(new double[] {Double.NaN, 0, 0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> store.addRevenueFraction(new double[] {0.5, 0.5}),
+                "Every type needs a fraction.");
+        assertEquals(100, store.revenue(0), "A rejected change should not touch any row.");
+
+        store.addRevenueFraction(new double[] {0.5, -1, 0});
+        assertEquals(150, store.revenue(0));
+        assertEquals(0, store.revenue(1), "A fraction of -1 should wipe revenue out.");
+        assertEquals(50, store.revenue(2));
+    }
+
+    @Test
+    @DisplayName("Test Visiting Rows Passes Owned Rows as Their Views")
+    void testForEachPassesViews() {
+        TechGiant owner = new TechGiant("TechCorp");
+        Startup owned = store.view(1);
+        owner.addStartup(owned);
+        List<Startup> visited = new ArrayList<>();
+        List<TechGiant> owners = new ArrayList<>();
+        store.forEach(startup -> {
+            visited.add(startup);
+            owners.add(startup.getOwner());
+        });
+        assertSame(owned, visited.get(1), "An owned row should be passed as its view.");
+        assertSame(owner, owners.get(1), "The row's owner should be visible.");
+        assertNull(owners.get(0));
+        assertSame(visited.get(0), visited.get(2), "Rows without a view share the cursor.");
+    }
+
+    @Test
+    @DisplayName("Test Views Read and Write Through to Columns")
+    void testViews() {
+        Startup view = store.view(0);
+        assertSame(view, store.view(0), "The same row should always map to the same view.");
+        assertEquals("HealthTech Inc.", view.getName());
+
+        view.setRevenue(250);
+        view.takeDamage(5, "Talent Drain");
+        view.gainExperience(5);
+
+        assertEquals(250, store.revenue(0));
+        assertEquals(15, store.marketShare(0));
+        assertEquals(5, store.experiencePoints(0));
+        assertEquals(StartupStage.TECH_STAR, store.stage(0));
+        assertEquals("Tech Star", view.getStage());
+    }
+
+    @Test
+    @DisplayName("Test Validation Matches Startup")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> store.add("", "FinTech", 1, 1, 1, false));
+        assertThrows(IllegalArgumentException.class, () -> store.setRevenue(0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.view(3));
+        store.add("Negative", "FinTech", -10, -5, -1, false);
+        assertEquals(0, store.revenue(3), "Negative revenue should be clamped to zero.");
+    }
+
+    @Test
+    @DisplayName("Test Event Application on Columns")
+    void testEventOnStore() {
+        Event event = new Event("Economic Downturn", "Market faces downturn", "Q2");
+
+        event.applyEffects(store);
+
+        assertEquals(120, store.revenue(0), "Healthcare startup should gain 20% revenue.");
+        assertEquals(80, store.revenue(1), "FinTech startup should lose 20% revenue.");
+        assertEquals(55, store.revenue(2), 0.0001, "Social Media startup should gain 10% revenue.");
+    }
+
+    @Test
+    @DisplayName("Test Battle Between Views")
+    void testBattleBetweenViews() {
+        TechGiant techGiant = new TechGiant("MegaCorp");
+        Startup owned = store.view(1);
+        Startup wild = store.view(2);
+        techGiant.addStartup(owned);
+
+        Startup winner = BattleManager.startBattle(owned, wild, techGiant);
+
+        assertNotNull(winner, "The battle should produce a winner.");
+        assertEquals(5, winner.getExperiencePoints(), "Winner should gain 5 experience points.");
+        Startup loser = winner == owned ? wild : owned;
+        assertEquals(0, loser.getRevenue(), "Loser's revenue column should be zero.");
+    }
+}
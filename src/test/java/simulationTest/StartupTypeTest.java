@@ -0,0 +1,107 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.SimulationRandom;
+import simulation.Startup;
+import simulation.StartupStore;
+import simulation.StartupType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the StartupType registry and its type-advantage matrix.
+ */
+public class StartupTypeTest {
+
+    @Test
+    @DisplayName("Test Types Are Interned Without Regard to Case")
+    void testInterning() {
+        StartupType fintech = StartupType.of("FinTech");
+
+        assertSame(fintech, StartupType.of("FINTECH"));
+        assertSame(fintech, StartupType.of("fintech"));
+        assertEquals("FinTech", StartupType.of("fintech").getName());
+        assertEquals("fintech", fintech.getKey());
+        assertSame(fintech, StartupType.fromOrdinal(fintech.getOrdinal()));
+        assertSame(fintech, new Startup("Pay", "FINTECH", 10, 10, 10, false).getStartupType());
+        assertEquals("FINTECH", new Startup("Pay", "FINTECH", 10, 10, 10, false).getType(),
+                "Startups report their type as it was given.");
+    }
+
+    @Test
+    @DisplayName("Test Store Rows Keep Their Type Spelling")
+    void testStoreSpelling() {
+        StartupStore store = new StartupStore(2, SimulationRandom.seeded(1));
+        store.add("Pay", "FinTech", 100, 10, 10, false);
+        store.add("Lend", "fintech", 100, 10, 10, false);
+
+        assertEquals("fintech", store.view(1).getType(), "Rows report the type as given.");
+        assertEquals("fintech", store.typeName(store.typeOrdinal(1)));
+        assertSame(store.typeForOrdinal(0), store.typeForOrdinal(1),
+                "Spellings of one type should share the interned type.");
+        assertSame(StartupType.of("FinTech"), store.view(1).getStartupType());
+    }
+
+    @Test
+    @DisplayName("Test New Types Get Dense Ordinals")
+    void testOrdinals() {
+        StartupType quantum = StartupType.of("Quantum Computing " + System.nanoTime());
+
+        assertEquals(StartupType.count() - 1, quantum.getOrdinal());
+        assertSame(quantum, StartupType.values().get(quantum.getOrdinal()));
+        assertThrows(IllegalArgumentException.class, () -> StartupType.of(""));
+        assertThrows(IllegalArgumentException.class, () -> StartupType.of(null));
+    }
+
+    @Test
+    @DisplayName("Test Default Advantages Are Loaded From Configuration")
+    void testDefaultAdvantages() {
+        StartupType os = StartupType.of("Operating Systems");
+        StartupType social = StartupType.of("Social Media");
+
+        assertEquals(1.5, os.damageMultiplierAgainst(social));
+        assertEquals(1.0, social.damageMultiplierAgainst(os), "Advantages are one-directional.");
+        assertEquals(1.5, StartupType.of("fintech").damageMultiplierAgainst(
+                StartupType.of("real estate")));
+        assertEquals(1.0, StartupType.of("Healthcare").damageMultiplierAgainst(
+                StartupType.of("Brand New Sector " + System.nanoTime())));
+    }
+
+    @Test
+    @DisplayName("Test Advantages Can Be Added Without Code Changes")
+    void testConfigure() throws IOException {
+        String suffix = Long.toString(System.nanoTime());
+        String configuration = "types = Robotics " + suffix + ", Logistics " + suffix + "\n"
+                + "advantage.1 = Robotics " + suffix + ", Logistics " + suffix + ", 2.0\n";
+        StartupType.load(new ByteArrayInputStream(
+                configuration.getBytes(StandardCharsets.ISO_8859_1)));
+
+        Startup robot = new Startup("Robo", "robotics " + suffix, 100, 10, 10, false);
+        Startup truck = new Startup("Truck", "Logistics " + suffix, 100, 10, 10, false);
+
+        assertEquals(2.0, robot.getStartupType().damageMultiplierAgainst(truck.getStartupType()));
+        assertEquals(1.0, truck.getStartupType().damageMultiplierAgainst(robot.getStartupType()));
+    }
+
+    @Test
+    @DisplayName("Test Invalid Advantages Are Rejected")
+    void testInvalidAdvantages() {
+        Properties malformed = new Properties();
+        malformed.setProperty("advantage.1", "FinTech, Real Estate");
+        Properties notANumber = new Properties();
+        notANumber.setProperty("advantage.1", "FinTech, Real Estate, lots");
+
+        assertThrows(IllegalArgumentException.class, () -> StartupType.configure(malformed));
+        assertThrows(IllegalArgumentException.class, () -> StartupType.configure(notANumber));
+        assertThrows(IllegalArgumentException.class, () -> StartupType.setDamageMultiplier(
+                StartupType.of("FinTech"), StartupType.of("Real Estate"), 0));
+        assertEquals(1.5, StartupType.of("FinTech").damageMultiplierAgainst(
+                StartupType.of("Real Estate")), "Rejected entries leave the matrix unchanged.");
+    }
+}
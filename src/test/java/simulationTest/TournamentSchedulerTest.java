@@ -0,0 +1,207 @@
+package simulationTest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import simulation.SimulationManager;
+import simulation.Startup;
+import simulation.TechGiant;
+import simulation.tournament.Pairing;
+import simulation.tournament.RoundRobinScheduler;
+import simulation.tournament.SingleEliminationScheduler;
+import simulation.tournament.SwissScheduler;
+import simulation.tournament.Tournament;
+import simulation.tournament.TournamentScheduler;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Q4 tournament schedulers and their parallel execution.
+ */
+public class TournamentSchedulerTest {
+
+    private static List<TechGiant> giants(int count) {
+        List<TechGiant> giants = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            giants.add(new TechGiant("Giant " + i));
+        }
+        return giants;
+    }
+
+    private static String key(Pairing pairing) {
+        return pairing.getChallenger().getName() + "|" + pairing.getOpponent().getName();
+    }
+
+    /**
+     * Plays a tournament to the end, letting the challenger win every pairing.
+     */
+    private static List<List<Pairing>> play(TournamentScheduler scheduler, List<TechGiant> giants) {
+        Tournament tournament = scheduler.start(giants);
+        List<List<Pairing>> rounds = new ArrayList<>();
+        List<Pairing> round = tournament.nextRound();
+        while (!round.isEmpty()) {
+            rounds.add(round);
+            Set<TechGiant> seen = new HashSet<>();
+            for (Pairing pairing : round) {
+                assertTrue(seen.add(pairing.getChallenger()), "Giants play once per round.");
+                assertTrue(seen.add(pairing.getOpponent()), "Giants play once per round.");
+                tournament.record(pairing, pairing.getChallenger());
+            }
+            round = tournament.nextRound();
+        }
+        return rounds;
+    }
+
+    @Test
+    @DisplayName("Test Round Robin Plays Every Pair Exactly Once")
+    void testRoundRobinCoversAllPairs() {
+        for (boolean grouped : new boolean[]{false, true}) {
+            for (int count = 0; count <= 9; count++) {
+                List<TechGiant> giants = giants(count);
+                List<List<Pairing>> rounds = play(new RoundRobinScheduler(grouped), giants);
+
+                Set<String> pairs = new HashSet<>();
+                for (List<Pairing> round : rounds) {
+                    for (Pairing pairing : round) {
+                        assertTrue(giants.indexOf(pairing.getChallenger())
+                                        < giants.indexOf(pairing.getOpponent()),
+                                "Earlier giant challenges.");
+                        assertTrue(pairs.add(key(pairing)), "No pair is played twice.");
+                    }
+                }
+                assertEquals(count * (count - 1) / 2, pairs.size(), "Every pair is played.");
+                int expectedRounds = grouped
+                        ? (count < 2 ? 0 : count - 1 + count % 2)
+                        : count * (count - 1) / 2;
+                assertEquals(expectedRounds, rounds.size(), "Round count.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Default Round Robin Keeps the Original Pairing Order")
+    void testRoundRobinOriginalOrder() {
+        List<TechGiant> giants = giants(4);
+        List<String> order = new ArrayList<>();
+        for (List<Pairing> round : play(new RoundRobinScheduler(), giants)) {
+            assertEquals(1, round.size(), "Pairs are played one at a time.");
+            order.add(key(round.get(0)));
+        }
+        assertEquals(List.of("Giant 0|Giant 1", "Giant 0|Giant 2", "Giant 0|Giant 3",
+                "Giant 1|Giant 2", "Giant 1|Giant 3", "Giant 2|Giant 3"), order,
+                "Pairs should follow the original nested loop.");
+        assertFalse(new RoundRobinScheduler().isGrouped());
+        assertTrue(new RoundRobinScheduler(true).isGrouped());
+    }
+
+    @Test
+    @DisplayName("Test Swiss Plays Log Rounds Without Rematches")
+    void testSwiss() {
+        List<TechGiant> giants = giants(8);
+        List<List<Pairing>> rounds = play(new SwissScheduler(), giants);
+
+        assertEquals(3, rounds.size(), "Eight giants play three rounds.");
+        Set<String> pairs = new HashSet<>();
+        for (List<Pairing> round : rounds) {
+            assertEquals(4, round.size());
+            for (Pairing pairing : round) {
+                assertTrue(pairs.add(key(pairing)), "No rematches when avoidable.");
+            }
+        }
+        // Round two pairs the round-one winners with each other
+        for (Pairing pairing : rounds.get(1).subList(0, 2)) {
+            assertEquals(0, giants.indexOf(pairing.getChallenger()) % 2);
+            assertEquals(0, giants.indexOf(pairing.getOpponent()) % 2);
+        }
+
+        assertEquals(2, play(new SwissScheduler(2), giants).size());
+        assertEquals(4, play(new SwissScheduler(10), giants(5)).size(), "Capped at n - 1.");
+        assertThrows(IllegalArgumentException.class, () -> new SwissScheduler(0));
+    }
+
+    @Test
+    @DisplayName("Test Single Elimination Leaves One Winner")
+    void testSingleElimination() {
+        for (int count = 1; count <= 9; count++) {
+            List<List<Pairing>> rounds = play(new SingleEliminationScheduler(), giants(count));
+            int battles = rounds.stream().mapToInt(List::size).sum();
+            assertEquals(count - 1, battles, "Every battle eliminates one giant.");
+            assertEquals(32 - Integer.numberOfLeadingZeros(count - 1), rounds.size());
+        }
+
+        List<TechGiant> giants = giants(4);
+        Tournament tournament = new SingleEliminationScheduler().start(giants);
+        List<Pairing> first = tournament.nextRound();
+        tournament.record(first.get(0), giants.get(1));
+        tournament.record(first.get(1), null); // Draws let the challenger through
+        List<Pairing> finalRound = tournament.nextRound();
+        assertEquals(1, finalRound.size());
+        assertSame(giants.get(1), finalRound.get(0).getChallenger());
+        assertSame(giants.get(2), finalRound.get(0).getOpponent());
+    }
+
+    @Test
+    @DisplayName("Test Pairings Reject Self Battles")
+    void testPairingValidation() {
+        TechGiant giant = new TechGiant("TechCorp");
+        assertThrows(IllegalArgumentException.class, () -> new Pairing(giant, giant));
+        assertThrows(IllegalArgumentException.class, () -> new Pairing(giant, null));
+    }
+
+    private static SimulationManager market(long seed, TournamentScheduler scheduler,
+                                            int parallelism) {
+        SimulationManager manager = new SimulationManager(seed);
+        manager.setTournamentScheduler(scheduler);
+        manager.setParallelism(parallelism);
+        for (int g = 0; g < 12; g++) {
+            TechGiant giant = new TechGiant("Giant " + g, 800);
+            for (int s = 0; s < 4; s++) {
+                giant.addStartup(new Startup("Startup " + g + "-" + s, "Tech",
+                        80 + 7 * s + g, 10 + s, 20, false));
+            }
+            manager.addTechGiant(giant);
+        }
+        return manager;
+    }
+
+    private static List<String> snapshot(SimulationManager manager) {
+        List<String> state = new ArrayList<>();
+        for (TechGiant giant : manager.getTechGiants()) {
+            for (Startup startup : giant.getStartups()) {
+                state.add(giant.getName() + ":" + startup.getName() + ":" + startup.getRevenue()
+                        + ":" + startup.getExperiencePoints());
+            }
+        }
+        return state;
+    }
+
+    @Test
+    @DisplayName("Test Parallel Rounds Match Sequential Rounds")
+    void testParallelMatchesSequential() {
+        List<TournamentScheduler> schedulers = List.of(new RoundRobinScheduler(),
+                new RoundRobinScheduler(true), new SwissScheduler(),
+                new SingleEliminationScheduler());
+        for (TournamentScheduler scheduler : schedulers) {
+            SimulationManager sequential = market(42L, scheduler, 1);
+            SimulationManager parallel = market(42L, scheduler, 4);
+            sequential.startSimulation(3);
+            parallel.startSimulation(3);
+
+            assertEquals(snapshot(sequential), snapshot(parallel),
+                    "Thread count must not change the outcome.");
+        }
+    }
+
+    @Test
+    @DisplayName("Test Scheduler and Parallelism Validation")
+    void testManagerValidation() {
+        SimulationManager manager = new SimulationManager(1L);
+        assertTrue(manager.getTournamentScheduler() instanceof RoundRobinScheduler);
+        assertThrows(IllegalArgumentException.class, () -> manager.setTournamentScheduler(null));
+        assertThrows(IllegalArgumentException.class, () -> manager.setParallelism(0));
+    }
+}
@@ -159,6 +159,142 @@ class SimulationManagerTest {
         assertTrue(isWildStartupAcquired, "At least one wild startup should be acquired by a Tech Giant after battles.");
     }
 
+    @Test
+    @DisplayName("Test Wild Startups Are Dealt Across Tech Giants")
+    void testWildStartupsPartitioned() {
+        SimulationManager manager = new SimulationManager(11L);
+        manager.addTechGiant(techGiant1);
+        manager.addTechGiant(techGiant2);
+        List<Startup> wilds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Startup wild = new Startup("Wild " + i, "Tech", 1, 10, 20, true);
+            wilds.add(wild);
+            manager.addWildStartup(wild);
+        }
+        Map<Startup, TechGiant> acquiredBy = new HashMap<>();
+        SimulationEventBus.setListener(new SimulationListener() {
+            @Override
+            public void acquisition(TechGiant techGiant, Startup startup) {
+                acquiredBy.putIfAbsent(startup, techGiant);
+            }
+        });
+        try {
+            manager.startSimulation(1);
+        } finally {
+            SimulationEventBus.setListener(null);
+        }
+
+        assertTrue(manager.getWildStartups().isEmpty(), "Every weak wild startup is acquired.");
+        assertSame(techGiant1, acquiredBy.get(wilds.get(0)));
+        assertSame(techGiant2, acquiredBy.get(wilds.get(1)));
+        assertSame(techGiant1, acquiredBy.get(wilds.get(2)));
+        assertSame(techGiant2, acquiredBy.get(wilds.get(3)));
+    }
+
+    @Test
+    @DisplayName("Test Drained Tech Giants Are Removed")
+    void testDrainedGiantsRemoved() {
+        SimulationManager manager = new SimulationManager(3L);
+        TechGiant empty = new TechGiant("EmptyCorp", 100);
+        Startup only = new Startup("Solo", "Tech", 100, 10, 20, false);
+        techGiant1.setStartups(List.of(only));
+        manager.addTechGiant(techGiant1);
+        manager.addTechGiant(empty);
+
+        manager.removeTechGiantsWithoutStartups();
+        assertEquals(List.of(techGiant1), manager.getTechGiants(), "Empty from the start.");
+
+        techGiant2.addStartup(only); // Taken over, draining TechCorp
+        manager.removeTechGiantsWithoutStartups();
+        assertTrue(manager.getTechGiants().isEmpty(), "Drained by a takeover.");
+    }
+
+    @Test
+    @DisplayName("Test Defeated Startups Recover at the End of the Quarter")
+    void testDefeatedStartupsRecover() {
+        SimulationManager manager = new SimulationManager(3L);
+        TechGiant giant = new TechGiant("TechCorp", 0);
+        Startup beaten = new Startup("Beaten", "Tech", 100, 10, 20, false);
+        Startup alreadyDown = new Startup("Down", "Tech", 0, 8, 20, false);
+        giant.addStartup(beaten);
+        giant.addStartup(alreadyDown);
+        manager.addTechGiant(giant);
+        beaten.setRevenue(0);
+
+        manager.startSimulation(1);
+
+        assertEquals(25.0, beaten.getRevenue(), 1e-9, "Recovered to 2.5x market share.");
+        assertEquals(20.0, alreadyDown.getRevenue(), 1e-9, "Defeated before it was added.");
+    }
+
+    private static SimulationManager giantMarket(boolean concurrent) {
+        SimulationManager manager = new SimulationManager(17L);
+        manager.setConcurrentGiantActions(concurrent);
+        for (int g = 0; g < 300; g++) {
+            TechGiant giant = new TechGiant("Giant " + g, 400 + 37 * g);
+            giant.addStartup(new Startup("Core " + g, "Tech", 100 + g % 50, 10, 20, false));
+            manager.addTechGiant(giant);
+        }
+        for (int w = 0; w < 30; w++) {
+            manager.addWildStartup(new Startup("Wild " + w, "Media", 60 + 5 * w, 15, 30, true));
+        }
+        return manager;
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Odd-Quarter Actions Match Sequential Ones")
+    void testConcurrentGiantActions() {
+        SimulationManager sequential = giantMarket(false);
+        SimulationManager concurrent = giantMarket(true);
+        assertTrue(concurrent.isConcurrentGiantActions());
+
+        sequential.startSimulation(3);
+        concurrent.startSimulation(3);
+
+        assertEquals(describe(sequential), describe(concurrent),
+                "Thread scheduling must not change the outcome.");
+    }
+
+    private static SimulationManager wildMarket(int parallelism) {
+        SimulationManager manager = new SimulationManager(5L);
+        manager.setParallelism(parallelism);
+        for (int g = 0; g < 6; g++) {
+            TechGiant giant = new TechGiant("Giant " + g, 3000);
+            giant.addStartup(new Startup("Core " + g, "Tech", 150 + 10 * g, 10, 20, false));
+            manager.addTechGiant(giant);
+        }
+        for (int w = 0; w < 40; w++) {
+            manager.addWildStartup(new Startup("Wild " + w, "Media", 60 + 5 * w, 15, 30, true));
+        }
+        return manager;
+    }
+
+    private static List<String> describe(SimulationManager manager) {
+        List<String> state = new ArrayList<>();
+        for (TechGiant giant : manager.getTechGiants()) {
+            state.add(giant.getName() + " $" + giant.getFunds());
+            for (Startup startup : giant.getStartups()) {
+                state.add(startup.getName() + " " + startup.getRevenue());
+            }
+        }
+        for (Startup wild : manager.getWildStartups()) {
+            state.add("wild " + wild.getName() + " " + wild.getRevenue());
+        }
+        return state;
+    }
+
+    @Test
+    @DisplayName("Test Parallel Wild Startup Battles Match Sequential Ones")
+    void testParallelWildBattles() {
+        SimulationManager sequential = wildMarket(1);
+        SimulationManager parallel = wildMarket(4);
+        sequential.startSimulation(2);
+        parallel.startSimulation(2);
+
+        assertEquals(describe(sequential), describe(parallel),
+                "Thread count must not change the outcome.");
+    }
+
 
 
 
@@ -205,9 +341,48 @@ class SimulationManagerTest {
         assertEquals(expectedRevenue, fintechStartup.getRevenue(), 0.01, "Revenue should increase by 20% after applying the revenue booster.");
     }
 
+    @Test
+    @DisplayName("Test Quarter Loop Applies and Retires Enhancements")
+    void testEnhancementsAppliedEachQuarter() {
+        SimulationManager manager = new SimulationManager(5L);
+        TechGiant techGiant = new TechGiant("TechCorp", 0);
+        techGiant.addStartup(new Startup("FinTechPro", "FinTech", 1000, 20, 50, false));
+        manager.addTechGiant(techGiant);
+
+        manager.runQuarters(1); // Q1: a loan is offered and bought
+        assertEquals(1, techGiant.getActiveEnhancements().size(), "The loan should be held.");
+        assertEquals(0, techGiant.getFunds(), "The loan should not pay out yet.");
+
+        manager.runQuarters(1); // Q2: the loan pays out and is retired
+        assertTrue(techGiant.getActiveEnhancements().isEmpty(), "The loan should be retired.");
+        assertEquals(1000, techGiant.getFunds(), "The loan should pay out in the next quarter.");
+
+        manager.runQuarters(400);
+        assertTrue(techGiant.getActiveEnhancements().size() <= 1,
+                "Enhancements should not pile up over a century.");
+    }
 
-
-
+    @Test
+    @DisplayName("Test Enhancement Limit Turns Down Purchases")
+    void testEnhancementLimit() {
+        SimulationManager manager = new SimulationManager(5L);
+        TechGiant techGiant = new TechGiant("TechCorp", 1000);
+        manager.addTechGiant(techGiant);
+        manager.setEnhancementLimit(2);
+        assertThrows(IllegalArgumentException.class, () -> manager.setEnhancementLimit(-1));
+
+        for (int i = 0; i < 5; i++) {
+            techGiant.purchaseEnhancement(new Enhancement("Patent " + i, "Patent", 100, 0, 0));
+        }
+        assertEquals(2, techGiant.getActiveEnhancements().size(), "Only two should be held.");
+        assertEquals(800, techGiant.getFunds(), "Turned-down purchases should not be paid for.");
+
+        TechGiant later = new TechGiant("LateCorp", 1000);
+        manager.addTechGiant(later);
+        for (int i = 0; i < 3; i++) {
+            later.purchaseEnhancement(new Enhancement("Patent " + i, "Patent", 100, 0, 0));
+        }
+        assertEquals(2, later.getActiveEnhancements().size(),
+                "Tech Giants added later should get the same limit.");
+    }
 }
-
-